@@ -6,8 +6,11 @@ import org.springframework.batch.core.configuration.annotation.EnableBatchProces
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -15,6 +18,9 @@ import app.domain.batch.dto.BulkDto;
 import app.domain.batch.job.BulkReader;
 import app.domain.batch.job.BulkProcessor;
 import app.domain.batch.job.BulkWriter;
+import app.domain.batch.job.IncrementalBulkReader;
+import app.domain.batch.job.StoreKeyRangePartitioner;
+import app.domain.batch.job.StoreSnapshotTasklet;
 import app.domain.mongo.model.entity.StoreCollection;
 import lombok.RequiredArgsConstructor;
 
@@ -28,20 +34,45 @@ public class BulkJobConfig {
 	private final BulkReader bulkReader;
 	private final BulkProcessor bulkProcessor;
 	private final BulkWriter bulkWriter;
+	private final StoreKeyRangePartitioner storeKeyRangePartitioner;
+	private final IncrementalBulkReader incrementalBulkReader;
 	private final DiscordListener discordListener;
+	private final IncrementalSyncListener incrementalSyncListener;
+	private final ReadModelRefreshListener readModelRefreshListener;
+	private final StoreSnapshotTasklet storeSnapshotTasklet;
+
+	@Value("${batch.store-sync.chunk-size:100}")
+	private int chunkSize;
+
+	// 파티션 수이자 동시에 실행되는 워커 수. DB 커넥션 풀 크기 안에서 잡는다
+	@Value("${batch.store-sync.grid-size:4}")
+	private int gridSize;
 
 	@Bean
 	public Job storeBatchJob() {
 		return new JobBuilder("storeBatchJob", jobRepository)
-			.start(storeBatchStep())
+			.start(storeBatchPartitionStep())
 			.listener(discordListener)
+			.listener(readModelRefreshListener)
+			.build();
+	}
+
+	@Bean
+	public Step storeBatchPartitionStep() {
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("store-sync-");
+		taskExecutor.setConcurrencyLimit(gridSize);
+		return new StepBuilder("storeBatchPartitionStep", jobRepository)
+			.partitioner("storeBatchStep", storeKeyRangePartitioner)
+			.step(storeBatchStep())
+			.gridSize(gridSize)
+			.taskExecutor(taskExecutor)
 			.build();
 	}
 
 	@Bean
 	public Step storeBatchStep() {
 		return new StepBuilder("storeBatchStep", jobRepository)
-			.<BulkDto, StoreCollection>chunk(100, transactionManager)
+			.<BulkDto, StoreCollection>chunk(chunkSize, transactionManager)
 			.reader(bulkReader)
 			.processor(bulkProcessor)
 			.writer(bulkWriter)
@@ -51,4 +82,43 @@ public class BulkJobConfig {
 			.build();
 	}
 
+	// 몇 분 간격으로 도는 작업이라 디스코드 알림은 붙이지 않는다
+	@Bean
+	public Job storeIncrementalSyncJob() {
+		return new JobBuilder("storeIncrementalSyncJob", jobRepository)
+			.start(storeIncrementalSyncStep())
+			.listener(incrementalSyncListener)
+			.listener(readModelRefreshListener)
+			.build();
+	}
+
+	@Bean
+	public Step storeIncrementalSyncStep() {
+		return new StepBuilder("storeIncrementalSyncStep", jobRepository)
+			.<BulkDto, StoreCollection>chunk(chunkSize, transactionManager)
+			.reader(incrementalBulkReader)
+			.processor(bulkProcessor)
+			.writer(bulkWriter)
+			.faultTolerant()
+			.retryLimit(3)
+			.retry(DuplicateKeyException.class)
+			.build();
+	}
+
+	// 검색/분석 저장소 재구축용 stores 컬렉션 스냅샷
+	@Bean
+	public Job storeSnapshotJob() {
+		return new JobBuilder("storeSnapshotJob", jobRepository)
+			.start(storeSnapshotStep())
+			.build();
+	}
+
+	@Bean
+	public Step storeSnapshotStep() {
+		return new StepBuilder("storeSnapshotStep", jobRepository)
+			// Mongo 만 읽으므로 내보내는 동안 DB 커넥션을 잡고 있지 않도록 한다
+			.tasklet(storeSnapshotTasklet, new ResourcelessTransactionManager())
+			.build();
+	}
+
 }
@@ -1,5 +1,6 @@
 package app.domain.batch.config;
 
+import app.domain.batch.job.BulkWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
@@ -9,8 +10,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -48,7 +53,19 @@ public class DiscordListener implements JobExecutionListener {
         long processSkipCount = 0;
         long writeSkipCount = 0;
 
+        long syncWritten = 0;
+        long syncSkipped = 0;
+
+        List<StepExecution> partitions = new ArrayList<>();
         for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            // 실제 쓰기/내용 동일로 건너뛴 건수는 쓰기를 수행한 스텝(워커)에만 기록된다
+            syncWritten += stepExecution.getExecutionContext().getLong(BulkWriter.WRITTEN_KEY, 0L);
+            syncSkipped += stepExecution.getExecutionContext().getLong(BulkWriter.SKIPPED_KEY, 0L);
+            // 파티션 워커(step:partitionN)의 건수는 매니저 스텝에 이미 합산되어 있다
+            if (stepExecution.getStepName().contains(":")) {
+                partitions.add(stepExecution);
+                continue;
+            }
             readCount += stepExecution.getReadCount();
             writeCount += stepExecution.getWriteCount();
             filterCount += stepExecution.getFilterCount();
@@ -60,14 +77,9 @@ public class DiscordListener implements JobExecutionListener {
         long totalSkipCount = readSkipCount + processSkipCount + writeSkipCount;
         int failureCount = jobExecution.getAllFailureExceptions().size();
 
-        String durationString = "N/A";
-        if (jobExecution.getStartTime() != null && jobExecution.getEndTime() != null) {
-            Duration duration = Duration.between(
-                jobExecution.getStartTime().atZone(ZoneId.systemDefault()).toInstant(),
-                jobExecution.getEndTime().atZone(ZoneId.systemDefault()).toInstant()
-            );
-            durationString = String.format("%d분 %d초", duration.toMinutes(), duration.toSeconds() % 60);
-        }
+        Duration jobDuration = duration(jobExecution.getStartTime(), jobExecution.getEndTime());
+        String durationString = jobDuration == null ? "N/A"
+            : String.format("%d분 %d초", jobDuration.toMinutes(), jobDuration.toSeconds() % 60);
 
         String message = String.format(
             "**배치 잡 완료 알림**\n" +
@@ -79,22 +91,53 @@ public class DiscordListener implements JobExecutionListener {
             "**처리 결과:**\n" +
             "- **읽은 아이템**: `%d`\n" +
             "- **처리된 아이템**: `%d`\n" +
+            "- **실제 반영 / 변경 없음**: `%d` / `%d`\n" +
             "- **필터링된 아이템**: `%d`\n" +
             "- **스킵된 아이템 (읽기/처리/쓰기)**: `%d` (`%d`/`%d`/`%d`)\n" +
             "- **총 실패 수 (예외)**: `%d`\n\n" +
+            "%s" +
             "**종료 메시지**: `%s`",
             jobName, status,
             jobExecution.getStartTime(), jobExecution.getEndTime(),
             durationString,
-            readCount, writeCount, filterCount,
+            readCount, writeCount, syncWritten, syncSkipped, filterCount,
             totalSkipCount, readSkipCount, processSkipCount, writeSkipCount,
             failureCount,
+            partitionSummary(partitions),
             exitMessage
         );
 
         sendMessageToDiscord(message);
     }
 
+    private String partitionSummary(List<StepExecution> partitions) {
+        if (partitions.isEmpty()) {
+            return "";
+        }
+        partitions.sort(Comparator.comparing(StepExecution::getStepName));
+        StringBuilder summary = new StringBuilder("**파티션별 처리량:**\n");
+        for (StepExecution partition : partitions) {
+            Duration duration = duration(partition.getStartTime(), partition.getEndTime());
+            double seconds = duration == null ? 0 : duration.toMillis() / 1000.0;
+            summary.append(String.format("- `%s` [%s]: 읽기 `%d` / 쓰기 `%d` / `%.1f`초 / `%.1f`건/초\n",
+                partition.getStepName().substring(partition.getStepName().indexOf(':') + 1),
+                partition.getStatus().name(),
+                partition.getReadCount(), partition.getWriteCount(),
+                seconds, seconds > 0 ? partition.getWriteCount() / seconds : 0.0));
+        }
+        return summary.append("\n").toString();
+    }
+
+    private Duration duration(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            return null;
+        }
+        return Duration.between(
+            start.atZone(ZoneId.systemDefault()).toInstant(),
+            end.atZone(ZoneId.systemDefault()).toInstant()
+        );
+    }
+
     private void sendMessageToDiscord(String message) {
         final int MAX_LENGTH = 2000;
         String truncatedMessage = message;
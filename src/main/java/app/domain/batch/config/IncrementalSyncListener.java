@@ -0,0 +1,36 @@
+package app.domain.batch.config;
+
+import app.domain.batch.repository.SyncWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 증분 동기화가 성공했을 때만 워터마크를 until 로 올린다. 실패하면 다음 실행이 같은 구간부터 다시 읽는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IncrementalSyncListener implements JobExecutionListener {
+
+    public static final String WATERMARK = "storeIncrementalSync";
+    public static final String UNTIL = "until";
+
+    private final SyncWatermarkRepository syncWatermarkRepository;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        long writeCount = jobExecution.getStepExecutions().stream().mapToLong(StepExecution::getWriteCount).sum();
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            log.warn("증분 동기화 실패, 워터마크 유지: status={}, 반영 {} 건", jobExecution.getStatus(), writeCount);
+            return;
+        }
+        LocalDateTime until = LocalDateTime.parse(jobExecution.getJobParameters().getString(UNTIL));
+        syncWatermarkRepository.save(WATERMARK, until);
+        log.info("증분 동기화 완료: 반영 {} 건, 워터마크 {}", writeCount, until);
+    }
+}
@@ -0,0 +1,45 @@
+package app.domain.batch.config;
+
+import app.domain.batch.job.BulkWriter;
+import app.domain.mongo.StoreAutocompleteIndex;
+import app.domain.mongo.StoreHotListCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+// 동기화가 끝나면 읽기 모델에서 만드는 메모리 인덱스(자동완성, 인기 가게 목록)를 다시 만든다. 실제로 바뀐 가게가 없으면 건너뛴다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadModelRefreshListener implements JobExecutionListener {
+
+    private final StoreAutocompleteIndex storeAutocompleteIndex;
+    private final StoreHotListCache storeHotListCache;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+        long written = jobExecution.getStepExecutions().stream()
+            .mapToLong(stepExecution -> stepExecution.getExecutionContext().getLong(BulkWriter.WRITTEN_KEY, 0L))
+            .sum();
+        if (written == 0) {
+            return;
+        }
+        // 실패하면 이전 인덱스로 계속 응답한다
+        try {
+            storeAutocompleteIndex.rebuild();
+        } catch (Exception e) {
+            log.warn("자동완성 인덱스 갱신 실패: {}", e.getMessage());
+        }
+        try {
+            storeHotListCache.rebuild();
+        } catch (Exception e) {
+            log.warn("인기 가게 목록 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,16 +1,12 @@
 package app.domain.batch.controller;
 
+import app.domain.batch.scheduler.StoreSyncLauncher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
-import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,26 +14,20 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/store/jobs")
 @RequiredArgsConstructor
 public class BulkController {
 
-	private final JobLauncher jobLauncher;
-	@Qualifier("storeBatchJob")
-	private final Job storeBatchJob;
+	private final StoreSyncLauncher storeSyncLauncher;
 
 	@PostMapping("/store-sync")
 	public ResponseEntity<Map<String, Object>> startBatchJob() {
 		Map<String, Object> response = new HashMap<>();
 		try {
-			JobParameters jobParameters = new JobParametersBuilder()
-				.addString("jobId", UUID.randomUUID().toString())
-				.toJobParameters();
-
-			JobExecution jobExecution = jobLauncher.run(storeBatchJob, jobParameters);
+			// 실패한 이전 실행이 있으면 새로 시작하지 않고 이어서 실행한다
+			JobExecution jobExecution = storeSyncLauncher.launch();
 
 			response.put("jobId", jobExecution.getJobId());
 			response.put("status", jobExecution.getStatus());
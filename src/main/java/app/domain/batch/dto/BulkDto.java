@@ -24,7 +24,7 @@ public class BulkDto {
 	private List<String> categoryKeys;
 	private String regionName;
 	private String regionFullName;
-	private String menuJson;
+	private List<MenuRow> menus = List.of();
 	private Long reviewCount;
 	private Double avgRating;
 }
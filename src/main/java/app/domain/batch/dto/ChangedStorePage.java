@@ -0,0 +1,17 @@
+package app.domain.batch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+// 증분 동기화 한 페이지. 조회 사이에 사라진 가게는 stores 에서 빠지므로
+// 다음 커서와 마지막 페이지 여부는 네이티브 쿼리가 읽은 행(lastStoreId, scanned) 기준으로 정한다
+@Getter
+@AllArgsConstructor
+public class ChangedStorePage {
+	private List<BulkDto> stores;
+	private UUID lastStoreId;
+	private int scanned;
+}
@@ -0,0 +1,18 @@
+package app.domain.batch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 동기화용 메뉴 프로젝션. 엔티티를 올리지 않고 필요한 컬럼만 읽는다
+@Getter
+@AllArgsConstructor
+public class MenuRow {
+	private UUID storeId;
+	private UUID menuId;
+	private String name;
+	private Long price;
+	private String description;
+	private boolean hidden;
+}
@@ -1,29 +1,32 @@
 package app.domain.batch.job;
 
 import app.domain.batch.dto.BulkDto;
+import app.domain.batch.dto.MenuRow;
+import app.domain.mongo.StoreSearchTokens;
 import app.domain.mongo.model.entity.MenuCollection;
 import app.domain.mongo.model.entity.StoreCollection;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 
 @Component
-@RequiredArgsConstructor
 public class BulkProcessor implements ItemProcessor<BulkDto, StoreCollection> {
 
-	private final ObjectMapper objectMapper;
-
 	@Override
 	public StoreCollection process(BulkDto dto) throws Exception {
 		StoreCollection storeCollection = new StoreCollection();
 
+		// 삭제된 가게는 키만 넘겨 BulkWriter 가 읽기 모델에서 지우도록 한다
+		if (dto.getDeletedAt() != null) {
+			storeCollection.setStoreKey(dto.getStoreKey().toString());
+			storeCollection.setIsActive(false);
+			storeCollection.setDeletedAt(Date.from(dto.getDeletedAt().toInstant()));
+			return storeCollection;
+		}
+
 		storeCollection.setStoreKey(dto.getStoreKey().toString());
 		storeCollection.setUserId(dto.getUserId());
 		storeCollection.setStoreName(dto.getStoreName());
@@ -41,31 +44,19 @@ public class BulkProcessor implements ItemProcessor<BulkDto, StoreCollection> {
 		storeCollection.setCreatedAt(Date.from(dto.getCreatedAt().toInstant()));
 		storeCollection.setUpdatedAt(Date.from(dto.getUpdatedAt().toInstant()));
 
-		List<MenuCollection> menuCollections = new ArrayList<>();
-		if (dto.getMenuJson() != null && !dto.getMenuJson().trim().isEmpty() && !dto.getMenuJson().equals("[]")) {
-			try {
-				List<Map<String, Object>> menuMaps = objectMapper.readValue(
-					dto.getMenuJson(), 
-					new TypeReference<List<Map<String, Object>>>() {}
-				);
-				
-				menuCollections = menuMaps.stream()
-					.map(menuMap -> {
-						MenuCollection menuCollection = new MenuCollection();
-						menuCollection.setMenuId((String) menuMap.get("menuId"));
-						menuCollection.setName((String) menuMap.get("name"));
-						menuCollection.setPrice(((Number) menuMap.get("price")).intValue());
-						menuCollection.setDescription((String) menuMap.get("description"));
-						menuCollection.setHidden((Boolean) menuMap.get("isHidden"));
-						return menuCollection;
-					})
-					.toList();
-			} catch (Exception e) {
-				menuCollections = new ArrayList<>();
-			}
+		List<MenuCollection> menuCollections = new ArrayList<>(dto.getMenus().size());
+		for (MenuRow row : dto.getMenus()) {
+			MenuCollection menuCollection = new MenuCollection();
+			menuCollection.setMenuId(row.getMenuId().toString());
+			menuCollection.setName(row.getName());
+			menuCollection.setPrice(row.getPrice() == null ? null : row.getPrice().intValue());
+			menuCollection.setDescription(row.getDescription());
+			menuCollection.setHidden(row.isHidden());
+			menuCollections.add(menuCollection);
 		}
-		
 		storeCollection.setMenus(menuCollections);
+		storeCollection.setSearchTokens(StoreSearchTokens.of(dto.getStoreName(), dto.getCategoryKeys(),
+			menuCollections.stream().map(MenuCollection::getName).toList()));
 
 		return storeCollection;
 	}
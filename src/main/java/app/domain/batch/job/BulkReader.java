@@ -3,25 +3,41 @@ package app.domain.batch.job;
 import app.domain.batch.dto.BulkDto;
 import app.domain.batch.repository.BulkRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.NonTransientResourceException;
 import org.springframework.batch.item.ParseException;
 import org.springframework.batch.item.UnexpectedInputException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
+// 파티션(워커 스텝)마다 별도 인스턴스로 자기 storeId 구간만 읽는다
+// 청크 커밋마다 마지막으로 읽은 storeId 를 스텝 ExecutionContext 에 남겨 재시작 시 그 다음부터 읽는다
 @Component
+@StepScope
 @RequiredArgsConstructor
-public class BulkReader implements ItemReader<BulkDto> {
+public class BulkReader implements ItemStreamReader<BulkDto> {
+
+    public static final String LAST_KEY = "bulkReader.lastStoreKey";
 
     private final BulkRepository bulkRepository;
     private Iterator<BulkDto> storeIterator;
     private UUID lastStoreKey = null;
     private boolean initialized = false;
-    private final int batchSize = 100;
+
+    @Value("${batch.store-sync.chunk-size:100}")
+    private int batchSize = 100;
+
+    @Value("#{stepExecutionContext['" + StoreKeyRangePartitioner.MIN_KEY + "']}")
+    private String minStoreKey;
+
+    @Value("#{stepExecutionContext['" + StoreKeyRangePartitioner.MAX_KEY + "']}")
+    private String maxStoreKey;
 
     @Override
     public BulkDto read() throws Exception, UnexpectedInputException, ParseException, NonTransientResourceException {
@@ -46,8 +62,22 @@ public class BulkReader implements ItemReader<BulkDto> {
         return null;
     }
 
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (executionContext.containsKey(LAST_KEY)) {
+            lastStoreKey = UUID.fromString(executionContext.getString(LAST_KEY));
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        if (lastStoreKey != null) {
+            executionContext.putString(LAST_KEY, lastStoreKey.toString());
+        }
+    }
+
+    // 첫 조회는 저장된 커서(없으면 구간 처음)부터 시작
     private void initialize() {
-        lastStoreKey = null; // 첫 번째 조회는 null부터 시작
         List<BulkDto> firstBatch = loadNextBatch();
         if (!firstBatch.isEmpty()) {
             storeIterator = firstBatch.iterator();
@@ -56,7 +86,11 @@ public class BulkReader implements ItemReader<BulkDto> {
     }
 
     private List<BulkDto> loadNextBatch() {
-        return bulkRepository.findStoresWithDetailsCursor(lastStoreKey, batchSize);
+        return bulkRepository.findStoresWithDetailsCursor(lastStoreKey, toUuid(minStoreKey), toUuid(maxStoreKey), batchSize);
+    }
+
+    private UUID toUuid(String value) {
+        return value == null ? null : UUID.fromString(value);
     }
 
     public void reset() {
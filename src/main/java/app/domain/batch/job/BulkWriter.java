@@ -1,8 +1,12 @@
 package app.domain.batch.job;
 
+import app.domain.mongo.model.entity.MenuCollection;
 import app.domain.mongo.model.entity.StoreCollection;
 import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -10,18 +14,30 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
+// ChunkListener 는 writer 로 등록될 때 스텝 리스너로도 함께 등록된다
 @Component
 @RequiredArgsConstructor
-public class BulkWriter implements ItemWriter<StoreCollection> {
+public class BulkWriter implements ItemWriter<StoreCollection>, ChunkListener {
+
+	public static final String WRITTEN_KEY = "sync.written";
+	public static final String SKIPPED_KEY = "sync.skipped";
 
 	private final MongoTemplate mongoTemplate;
 
+	// 롤백된 청크는 재시도에서 write 가 다시 불리므로 건수는 커밋된 뒤(afterChunk)에만 스텝에 더한다
+	// 파티션 워커가 이 빈을 함께 쓰므로 청크를 처리하는 스레드별로 모은다
+	private final ThreadLocal<long[]> pending = ThreadLocal.withInitial(() -> new long[2]);
+
 	@Override
 	public void write(Chunk<? extends StoreCollection> chunk) throws Exception {
 		if (chunk.isEmpty()) {
@@ -33,19 +49,35 @@ public class BulkWriter implements ItemWriter<StoreCollection> {
 				.toList();
 
 		Query versionQuery = new Query(where("storeKey").in(storeKeys));
-		versionQuery.fields().include("storeKey").include("version");
+		versionQuery.fields().include("storeKey").include("version").include("contentHash");
 
 		List<StoreCollection> existingStores = mongoTemplate.find(versionQuery, StoreCollection.class, "stores");
 
-		Map<String, Long> versionMap = existingStores.stream()
-				.collect(Collectors.toMap(StoreCollection::getStoreKey, StoreCollection::getVersion, (oldValue, newValue) -> oldValue));
+		Map<String, StoreCollection> existingMap = existingStores.stream()
+				.collect(Collectors.toMap(StoreCollection::getStoreKey, store -> store, (oldValue, newValue) -> oldValue));
 
 		String collectionName = "stores";
 		BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+		long written = 0;
+		long skipped = 0;
 
 		for (StoreCollection item : chunk) {
+			if (item.getDeletedAt() != null) {
+				bulkOps.remove(new Query(where("storeKey").is(item.getStoreKey())));
+				written++;
+				continue;
+			}
+
+			// 내용이 그대로면 쓰지 않는다. 매일 전체 컬렉션을 다시 쓰며 oplog 를 채우지 않도록
+			String contentHash = contentHash(item);
+			StoreCollection existing = existingMap.get(item.getStoreKey());
+			if (existing != null && contentHash.equals(existing.getContentHash())) {
+				skipped++;
+				continue;
+			}
+
 			Query query;
-			Long existingVersion = versionMap.get(item.getStoreKey());
+			Long existingVersion = existing == null ? null : existing.getVersion();
 
 			if (existingVersion != null) {
 				// Item exists, use optimistic locking
@@ -71,14 +103,80 @@ public class BulkWriter implements ItemWriter<StoreCollection> {
 			update.set("isActive", item.getIsActive());
 			update.set("createdAt", item.getCreatedAt());
 			update.set("updatedAt", item.getUpdatedAt());
+			update.set("storeUpdatedAt", item.getUpdatedAt());
 			update.set("deletedAt", item.getDeletedAt());
 			update.set("menus", item.getMenus());
 			update.set("reviewCount", item.getReviewCount());
+			update.set("searchTokens", item.getSearchTokens());
+			update.set("contentHash", contentHash);
 			update.inc("version", 1);
 
 			bulkOps.upsert(query, update);
+			written++;
+		}
+
+		if (written > 0) {
+			bulkOps.execute();
 		}
+		long[] counts = pending.get();
+		counts[0] += written;
+		counts[1] += skipped;
+	}
+
+	@Override
+	public void afterChunk(ChunkContext context) {
+		long[] counts = pending.get();
+		pending.remove();
+		ExecutionContext executionContext = context.getStepContext().getStepExecution().getExecutionContext();
+		executionContext.putLong(WRITTEN_KEY, executionContext.getLong(WRITTEN_KEY, 0L) + counts[0]);
+		executionContext.putLong(SKIPPED_KEY, executionContext.getLong(SKIPPED_KEY, 0L) + counts[1]);
+	}
+
+	@Override
+	public void afterChunkError(ChunkContext context) {
+		pending.remove();
+	}
+
+	// upsert 로 쓰는 필드만 고정된 순서로 해시한다 (id, version 제외)
+	public static String contentHash(StoreCollection item) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		StringBuilder content = new StringBuilder(256);
+		append(content, item.getUserId());
+		append(content, item.getStoreKey());
+		append(content, item.getStoreName());
+		append(content, item.getDescription());
+		append(content, item.getCategoryKeys());
+		append(content, item.getAvgRating());
+		append(content, item.getReviewCount());
+		append(content, item.getPhoneNumber());
+		append(content, item.getMinOrderAmount());
+		append(content, item.getAddress());
+		append(content, item.getRegionName());
+		append(content, item.getRegionFullName());
+		append(content, item.getStoreAcceptStatus());
+		append(content, item.getIsActive());
+		append(content, item.getCreatedAt() == null ? null : item.getCreatedAt().getTime());
+		append(content, item.getUpdatedAt() == null ? null : item.getUpdatedAt().getTime());
+		List<MenuCollection> menus = item.getMenus() == null ? List.of() : item.getMenus();
+		append(content, menus.size());
+		for (MenuCollection menu : menus) {
+			append(content, menu.getMenuId());
+			append(content, menu.getName());
+			append(content, menu.getPrice());
+			append(content, menu.getDescription());
+			append(content, menu.getCategory());
+			append(content, menu.isHidden());
+		}
+		append(content, item.getSearchTokens());
+		return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+	}
 
-		bulkOps.execute();
+	private static void append(StringBuilder content, Object value) {
+		content.append(value == null ? "\u0000" : value.toString()).append('\u001f');
 	}
 }
\ No newline at end of file
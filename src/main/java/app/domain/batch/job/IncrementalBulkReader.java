@@ -0,0 +1,51 @@
+package app.domain.batch.job;
+
+import app.domain.batch.dto.BulkDto;
+import app.domain.batch.dto.ChangedStorePage;
+import app.domain.batch.repository.BulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.UUID;
+
+// 증분 동기화: jobParameters 의 since 이후 변경된 가게만 storeId 순으로 읽는다
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class IncrementalBulkReader implements ItemReader<BulkDto> {
+
+    public static final String SINCE = "since";
+
+    private final BulkRepository bulkRepository;
+    private Iterator<BulkDto> storeIterator;
+    private UUID lastStoreKey = null;
+    private boolean exhausted = false;
+
+    @Value("${batch.store-sync.chunk-size:100}")
+    private int batchSize = 100;
+
+    @Value("#{jobParameters['" + SINCE + "']}")
+    private String since;
+
+    @Override
+    public BulkDto read() {
+        // 읽은 행이 모두 걸러진 페이지는 비어 있어도 끝이 아니므로 다음 페이지를 이어서 읽는다
+        while (storeIterator == null || !storeIterator.hasNext()) {
+            if (exhausted) {
+                return null;
+            }
+            ChangedStorePage page = bulkRepository.findChangedStoresCursor(lastStoreKey, LocalDateTime.parse(since), batchSize);
+            if (page.getScanned() < batchSize) {
+                exhausted = true;
+            }
+            lastStoreKey = page.getLastStoreId();
+            storeIterator = page.getStores().iterator();
+        }
+        return storeIterator.next();
+    }
+}
@@ -0,0 +1,46 @@
+package app.domain.batch.job;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/*
+ * storeId(UUID) 키 공간을 gridSize 개의 연속 구간 [minStoreKey, maxStoreKey) 으로 나눈다.
+ * Postgres 는 uuid 를 부호 없는 128비트 값 순서로 비교하므로 같은 기준으로 경계를 계산한다.
+ * 첫 구간은 하한, 마지막 구간은 상한이 없다.
+ */
+@Component
+public class StoreKeyRangePartitioner implements Partitioner {
+
+    public static final String MIN_KEY = "minStoreKey";
+    public static final String MAX_KEY = "maxStoreKey";
+
+    private static final BigInteger KEYSPACE = BigInteger.ONE.shiftLeft(128);
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int count = Math.max(1, gridSize);
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            ExecutionContext context = new ExecutionContext();
+            if (i > 0) {
+                context.putString(MIN_KEY, boundary(i, count).toString());
+            }
+            if (i < count - 1) {
+                context.putString(MAX_KEY, boundary(i + 1, count).toString());
+            }
+            partitions.put("partition" + i, context);
+        }
+        return partitions;
+    }
+
+    static UUID boundary(int index, int count) {
+        BigInteger value = KEYSPACE.multiply(BigInteger.valueOf(index)).divide(BigInteger.valueOf(count));
+        return new UUID(value.shiftRight(64).longValue(), value.longValue());
+    }
+}
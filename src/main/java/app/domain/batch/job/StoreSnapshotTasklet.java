@@ -0,0 +1,55 @@
+package app.domain.batch.job;
+
+import app.domain.mongo.StoreSnapshotExporter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// 읽기 모델 스냅샷을 로컬 디스크에 쓴다. 임시 파일에 다 쓴 뒤 이름을 바꿔 반쯤 쓰인 파일이 보이지 않게 한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSnapshotTasklet implements Tasklet {
+
+    public static final String EXPORTED_KEY = "snapshot.exported";
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final StoreSnapshotExporter storeSnapshotExporter;
+
+    @Value("${batch.store-snapshot.dir:/tmp/store-snapshots}")
+    private String directory;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Path dir = Files.createDirectories(Path.of(directory));
+        Path target = dir.resolve("stores-" + LocalDateTime.now().format(FILE_TIME) + ".ndjson.gz");
+        Path temp = dir.resolve(target.getFileName() + ".part");
+
+        long exported;
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            exported = storeSnapshotExporter.export(out);
+        } catch (Exception e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+        contribution.incrementWriteCount(exported);
+        chunkContext.getStepContext().getStepExecution().getExecutionContext().putLong(EXPORTED_KEY, exported);
+        log.info("가게 스냅샷 저장: {} ({}건)", target, exported);
+        return RepeatStatus.FINISHED;
+    }
+}
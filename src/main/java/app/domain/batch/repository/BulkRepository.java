@@ -1,9 +1,15 @@
 package app.domain.batch.repository;
 
 import app.domain.batch.dto.BulkDto;
+import app.domain.batch.dto.ChangedStorePage;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface BulkRepository {
-    List<BulkDto> findStoresWithDetailsCursor(UUID lastStoreId, int limit);
+    // minStoreId 이상 maxStoreId 미만 구간에서 lastStoreId 다음부터 조회한다. null 이면 해당 조건 없음
+    List<BulkDto> findStoresWithDetailsCursor(UUID lastStoreId, UUID minStoreId, UUID maxStoreId, int limit);
+
+    // since 이후 가게 또는 그 메뉴가 바뀐 가게를 storeId 순으로 조회한다. 삭제된 가게는 storeKey/deletedAt 만 채운다
+    ChangedStorePage findChangedStoresCursor(UUID lastStoreId, LocalDateTime since, int limit);
 }
\ No newline at end of file
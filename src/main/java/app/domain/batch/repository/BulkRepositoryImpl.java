@@ -1,14 +1,16 @@
 package app.domain.batch.repository;
 
 import app.domain.batch.dto.BulkDto;
+import app.domain.batch.dto.ChangedStorePage;
+import app.domain.batch.dto.MenuRow;
 
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
-import app.domain.menu.model.entity.Menu;
-import app.domain.menu.model.entity.QCategory;
+import app.domain.menu.cache.CategoryTreeCache;
 import app.domain.menu.model.entity.QMenu;
 import app.domain.store.model.entity.QRegion;
 import app.domain.store.model.entity.QReview;
@@ -17,8 +19,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,24 +36,87 @@ import java.util.stream.Collectors;
 public class BulkRepositoryImpl implements BulkRepository {
 
     private final EntityManager entityManager;
-    private final ObjectMapper objectMapper;
+    private final CategoryTreeCache categoryTreeCache;
 
     @Override
-    public List<BulkDto> findStoresWithDetailsCursor(UUID lastStoreId, int limit) {
+    public List<BulkDto> findStoresWithDetailsCursor(UUID lastStoreId, UUID minStoreId, UUID maxStoreId, int limit) {
         QStore s = QStore.store;
-        QRegion region = QRegion.region;
-        QCategory category = QCategory.category;
-        QReview review = QReview.review;
-        QCategory parentCategory = new QCategory("parentCategory");
-        QCategory grandparentCategory = new QCategory("grandparentCategory");
+        BooleanBuilder condition = new BooleanBuilder()
+                .and(s.deletedAt.isNull())
+                .and(lastStoreId != null ? s.storeId.gt(lastStoreId)
+                        : minStoreId != null ? s.storeId.goe(minStoreId) : null)
+                .and(maxStoreId == null ? null : s.storeId.lt(maxStoreId));
+        return findStores(condition, limit);
+    }
 
-        com.querydsl.core.types.Expression<Double> avgRatingExpr = JPAExpressions.select(review.rating.avg().coalesce(0.0))
-                .from(review)
-                .where(review.store.eq(s.storeId).and(review.deletedAt.isNull()));
+    // Store/Menu 엔티티는 @SQLRestriction 으로 삭제 건이 걸러지므로 변경 감지는 네이티브 쿼리로 한다
+    @Override
+    public ChangedStorePage findChangedStoresCursor(UUID lastStoreId, LocalDateTime since, int limit) {
+        String sql = """
+                select s.store_id, s.deleted_at
+                from p_store s
+                where (s.updated_at > :since
+                    or s.deleted_at > :since
+                    or exists (select 1 from p_menu m
+                               where m.store_id = s.store_id
+                                 and (m.updated_at > :since or m.deleted_at > :since)))
+                """
+                + (lastStoreId == null ? "" : "  and s.store_id > :lastStoreId\n")
+                + "order by s.store_id\nlimit :limit";
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("since", since)
+                .setParameter("limit", limit);
+        if (lastStoreId != null) {
+            query.setParameter("lastStoreId", lastStoreId);
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return new ChangedStorePage(List.of(), lastStoreId, 0);
+        }
 
-        com.querydsl.core.types.Expression<Long> reviewCountExpr = JPAExpressions.select(review.count())
-                .from(review)
-                .where(review.store.eq(s.storeId).and(review.deletedAt.isNull()));
+        List<UUID> changedIds = new ArrayList<>(rows.size());
+        Map<UUID, BulkDto> deleted = new HashMap<>();
+        for (Object[] row : rows) {
+            UUID storeId = row[0] instanceof UUID uuid ? uuid : UUID.fromString(row[0].toString());
+            changedIds.add(storeId);
+            if (row[1] != null) {
+                BulkDto tombstone = new BulkDto();
+                tombstone.setStoreKey(storeId);
+                tombstone.setDeletedAt(toTimestamp(row[1]));
+                deleted.put(storeId, tombstone);
+            }
+        }
+
+        List<UUID> liveIds = changedIds.stream().filter(id -> !deleted.containsKey(id)).toList();
+        Map<UUID, BulkDto> live = liveIds.isEmpty() ? Map.of()
+                : findStores(new BooleanBuilder(QStore.store.storeId.in(liveIds)), liveIds.size()).stream()
+                        .collect(Collectors.toMap(BulkDto::getStoreKey, dto -> dto));
+
+        // 두 조회 사이에 삭제된 가게는 live 에서 빠지므로, 다음 커서는 네이티브 쿼리의 마지막 행으로 넘긴다
+        List<BulkDto> stores = changedIds.stream()
+                .map(id -> deleted.containsKey(id) ? deleted.get(id) : live.get(id))
+                .filter(Objects::nonNull)
+                .toList();
+        return new ChangedStorePage(stores, changedIds.get(changedIds.size() - 1), rows.size());
+    }
+
+    private Timestamp toTimestamp(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp;
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return Timestamp.valueOf(localDateTime);
+        }
+        if (value instanceof Instant instant) {
+            return Timestamp.from(instant);
+        }
+        return Timestamp.valueOf(value.toString());
+    }
+
+    private List<BulkDto> findStores(Predicate condition, int limit) {
+        QStore s = QStore.store;
+        QRegion region = QRegion.region;
 
         List<com.querydsl.core.Tuple> tuples = new JPAQuery<>(entityManager)
                 .select(
@@ -61,19 +133,11 @@ public class BulkRepositoryImpl implements BulkRepository {
                         s.deletedAt,
                         region.regionName,
                         region.fullName,
-                        category.categoryName,
-                        parentCategory.categoryName,
-                        grandparentCategory.categoryName,
-                        avgRatingExpr,
-                        reviewCountExpr
+                        s.category.categoryId
                 )
                 .from(s)
                 .join(s.region, region)
-                .join(s.category, category)
-                .leftJoin(category.parentCategory, parentCategory)
-                .leftJoin(parentCategory.parentCategory, grandparentCategory)
-                .where(s.deletedAt.isNull())
-                .where(lastStoreId == null ? Expressions.TRUE : s.storeId.gt(lastStoreId))
+                .where(condition)
                 .orderBy(s.storeId.asc())
                 .limit(limit)
                 .fetch();
@@ -95,18 +159,9 @@ public class BulkRepositoryImpl implements BulkRepository {
             }
             dto.setRegionName(tuple.get(region.regionName));
             dto.setRegionFullName(tuple.get(region.fullName));
-            String categoryName = tuple.get(category.categoryName);
-            String parentCategoryName = tuple.get(parentCategory.categoryName);
-            String grandparentCategoryName = tuple.get(grandparentCategory.categoryName);
-
-            List<String> categoryKeys = new java.util.ArrayList<>();
-            if (grandparentCategoryName != null) categoryKeys.add(grandparentCategoryName);
-            if (parentCategoryName != null) categoryKeys.add(parentCategoryName);
-            categoryKeys.add(categoryName);
-            dto.setCategoryKeys(categoryKeys);
-
-            dto.setAvgRating(tuple.get(avgRatingExpr));
-            dto.setReviewCount(tuple.get(reviewCountExpr));
+            // 상위 카테고리 이름은 조인 대신 카테고리 트리 스냅샷의 경로(루트 -> 자신)로 채운다
+            UUID categoryId = tuple.get(s.category.categoryId);
+            dto.setCategoryKeys(categoryTreeCache.get(categoryId).path(categoryId));
             return dto;
         }).collect(Collectors.toList());
 
@@ -116,36 +171,39 @@ public class BulkRepositoryImpl implements BulkRepository {
 
         List<UUID> storeIds = stores.stream().map(BulkDto::getStoreKey).toList();
         QMenu menu = QMenu.menu;
-        List<Menu> menus = new JPAQuery<>(entityManager)
-                .select(menu)
+        Map<UUID, List<MenuRow>> menusByStoreId = new JPAQuery<>(entityManager)
+                .select(Projections.constructor(MenuRow.class,
+                        menu.store.storeId,
+                        menu.menuId,
+                        menu.name,
+                        menu.price,
+                        menu.description,
+                        menu.hidden))
                 .from(menu)
                 .where(menu.store.storeId.in(storeIds).and(menu.deletedAt.isNull()))
-                .fetch();
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(MenuRow::getStoreId));
 
-        Map<UUID, List<Menu>> menusByStoreId = menus.stream()
-                .collect(Collectors.groupingBy(m -> m.getStore().getStoreId()));
-
-        return stores.stream()
-                .map(dto -> {
-                    List<Menu> storeMenus = menusByStoreId.getOrDefault(dto.getStoreKey(), List.of());
-                    try {
-                        String menuJson = objectMapper.writeValueAsString(
-                                storeMenus.stream()
-                                        .map(m -> Map.of(
-                                                "menuId", m.getMenuId().toString(),
-                                                "name", m.getName(),
-                                                "price", m.getPrice(),
-                                                "description", m.getDescription(),
-                                                "isHidden", m.isHidden()
-                                        ))
-                                        .toList()
-                        );
-                        dto.setMenuJson(menuJson);
-                    } catch (Exception e) {
-                        dto.setMenuJson("[]");
-                    }
-                    return dto;
-                })
-                .toList();
+        // 가게마다 상관 서브쿼리 두 번 대신 페이지 전체를 한 번의 그룹 집계로 읽는다
+        QReview review = QReview.review;
+        NumberExpression<Long> reviewCount = review.count();
+        NumberExpression<Double> avgRating = review.rating.avg();
+        Map<UUID, com.querydsl.core.Tuple> reviewStats = new JPAQuery<>(entityManager)
+                .select(review.store, reviewCount, avgRating)
+                .from(review)
+                .where(review.store.in(storeIds).and(review.deletedAt.isNull()))
+                .groupBy(review.store)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(review.store), tuple -> tuple));
+
+        stores.forEach(dto -> {
+            dto.setMenus(menusByStoreId.getOrDefault(dto.getStoreKey(), List.of()));
+            com.querydsl.core.Tuple stats = reviewStats.get(dto.getStoreKey());
+            dto.setReviewCount(stats == null ? 0L : stats.get(reviewCount));
+            dto.setAvgRating(stats == null ? 0.0 : stats.get(avgRating));
+        });
+        return stores;
     }
 }
\ No newline at end of file
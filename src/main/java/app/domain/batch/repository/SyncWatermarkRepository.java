@@ -0,0 +1,36 @@
+package app.domain.batch.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+// 동기화 작업별 high-water mark. 읽기 모델과 같은 Mongo 에 둔다
+@Repository
+@RequiredArgsConstructor
+public class SyncWatermarkRepository {
+
+    private static final String COLLECTION = "sync_watermarks";
+
+    private final MongoTemplate mongoTemplate;
+
+    public Optional<LocalDateTime> find(String name) {
+        Document document = mongoTemplate.findOne(new Query(where("_id").is(name)), Document.class, COLLECTION);
+        if (document == null || document.getString("watermark") == null) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDateTime.parse(document.getString("watermark")));
+    }
+
+    public void save(String name, LocalDateTime watermark) {
+        mongoTemplate.upsert(new Query(where("_id").is(name)),
+                new Update().set("watermark", watermark.toString()), COLLECTION);
+    }
+}
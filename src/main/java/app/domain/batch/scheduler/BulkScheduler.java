@@ -1,32 +1,84 @@
 package app.domain.batch.scheduler;
 
+import java.time.LocalDateTime;
+
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import app.domain.batch.config.IncrementalSyncListener;
+import app.domain.batch.job.IncrementalBulkReader;
+import app.domain.batch.repository.SyncWatermarkRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class BulkScheduler {
 
+    // 워터마크가 없을 때(첫 실행) 전체 변경 이력을 대상으로 한다
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final JobLauncher jobLauncher;
-    @Qualifier("storeBatchJob")
-    private final Job storeBatchJob;
+    private final StoreSyncLauncher storeSyncLauncher;
+    @Qualifier("storeIncrementalSyncJob")
+    private final Job storeIncrementalSyncJob;
+    @Qualifier("storeSnapshotJob")
+    private final Job storeSnapshotJob;
+    private final SyncWatermarkRepository syncWatermarkRepository;
+
+    @Value("${batch.store-sync.incremental.enabled:true}")
+    private boolean incrementalEnabled;
+
+    // 커밋이 늦게 끝난 트랜잭션의 updatedAt 을 놓치지 않도록 워터마크를 현재보다 조금 뒤로 잡는다
+    @Value("${batch.store-sync.incremental.lag-seconds:30}")
+    private long lagSeconds;
 
     @Scheduled(cron = "0 0 4 * * *")
     public void runJob() {
+        try {
+            storeSyncLauncher.launch();
+        } catch (Exception e) {
+            log.error("가게 전체 동기화 실행 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${batch.store-sync.incremental.interval-ms:300000}",
+            initialDelayString = "${batch.store-sync.incremental.interval-ms:300000}")
+    public void runIncrementalJob() {
+        if (!incrementalEnabled) {
+            return;
+        }
+        try {
+            LocalDateTime since = syncWatermarkRepository.find(IncrementalSyncListener.WATERMARK).orElse(EPOCH);
+            LocalDateTime until = LocalDateTime.now().minusSeconds(lagSeconds);
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addString(IncrementalBulkReader.SINCE, since.toString())
+                    .addString(IncrementalSyncListener.UNTIL, until.toString())
+                    .addString("JobID", String.valueOf(System.currentTimeMillis()))
+                    .toJobParameters();
+            jobLauncher.run(storeIncrementalSyncJob, jobParameters);
+        } catch (Exception e) {
+            log.error("증분 동기화 실행 실패", e);
+        }
+    }
+
+    // 기본은 꺼져 있다("-"). 필요한 환경에서만 cron 을 지정한다
+    @Scheduled(cron = "${batch.store-snapshot.cron:-}")
+    public void runSnapshotJob() {
         try {
             JobParameters jobParameters = new JobParametersBuilder()
                     .addString("JobID", String.valueOf(System.currentTimeMillis()))
                     .toJobParameters();
-            jobLauncher.run(storeBatchJob, jobParameters);
+            jobLauncher.run(storeSnapshotJob, jobParameters);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("가게 스냅샷 실행 실패", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package app.domain.batch.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 전체 동기화(storeBatchJob) 실행 창구. 스케줄러와 수동 실행 API 가 함께 쓴다
+ * - 실행 중인 잡이 있으면 새로 띄우지 않는다
+ * - 마지막 실행이 실패/중단이면 같은 파라미터로 재시작해 각 파티션의 체크포인트부터 이어서 읽는다
+ * - 프로세스가 죽어 STARTED 로 남은 실행은 stale-after-minutes 동안 진행이 없으면 실패로 정리한 뒤 재시작한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSyncLauncher {
+
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    @Qualifier("storeBatchJob")
+    private final Job storeBatchJob;
+
+    @Value("${batch.store-sync.stale-after-minutes:60}")
+    private long staleAfterMinutes;
+
+    public JobExecution launch() throws JobExecutionException {
+        String jobName = storeBatchJob.getName();
+        for (JobExecution running : jobExplorer.findRunningJobExecutions(jobName)) {
+            if (!isStale(running)) {
+                throw new JobExecutionAlreadyRunningException("storeBatchJob is already running: " + running.getId());
+            }
+            log.warn("진행이 멈춘 가게 동기화 실행을 실패로 정리합니다. executionId={}", running.getId());
+            markFailed(running);
+        }
+
+        JobParameters parameters = restartableParameters(jobName)
+            .orElseGet(() -> new JobParametersBuilder()
+                .addString("JobID", String.valueOf(System.currentTimeMillis()))
+                .toJobParameters());
+        return jobLauncher.run(storeBatchJob, parameters);
+    }
+
+    private Optional<JobParameters> restartableParameters(String jobName) {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(jobName);
+        if (lastInstance == null) {
+            return Optional.empty();
+        }
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+        if (lastExecution == null) {
+            return Optional.empty();
+        }
+        BatchStatus status = lastExecution.getStatus();
+        if (status != BatchStatus.FAILED && status != BatchStatus.STOPPED) {
+            return Optional.empty();
+        }
+        log.info("가게 동기화를 체크포인트부터 재시작합니다. instanceId={}", lastInstance.getInstanceId());
+        return Optional.of(lastExecution.getJobParameters());
+    }
+
+    // 스텝 실행은 청크 커밋마다 갱신되므로 가장 최근 갱신 시각을 진행 여부로 본다
+    private boolean isStale(JobExecution execution) {
+        LocalDateTime lastUpdated = execution.getLastUpdated();
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            if (stepExecution.getLastUpdated() != null
+                && (lastUpdated == null || stepExecution.getLastUpdated().isAfter(lastUpdated))) {
+                lastUpdated = stepExecution.getLastUpdated();
+            }
+        }
+        return lastUpdated != null && lastUpdated.isBefore(LocalDateTime.now().minusMinutes(staleAfterMinutes));
+    }
+
+    private void markFailed(JobExecution execution) {
+        LocalDateTime now = LocalDateTime.now();
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(ExitStatus.FAILED);
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
+        }
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(ExitStatus.FAILED);
+        execution.setEndTime(now);
+        jobRepository.update(execution);
+    }
+}
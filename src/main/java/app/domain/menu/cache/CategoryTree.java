@@ -0,0 +1,106 @@
+package app.domain.menu.cache;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+ * 카테고리 트리 스냅샷 (불변)
+ * 카테고리마다 루트부터 자신까지의 이름 경로와 자신을 포함한 하위 카테고리 id 집합을 미리 계산해 둔다.
+ */
+public final class CategoryTree {
+
+	public record Node(UUID categoryId, String categoryName, UUID parentCategoryId) {
+	}
+
+	private final Map<UUID, String> names;
+	private final Map<UUID, List<String>> paths;
+	private final Map<UUID, Set<UUID>> descendants;
+
+	private CategoryTree(Map<UUID, String> names, Map<UUID, List<String>> paths, Map<UUID, Set<UUID>> descendants) {
+		this.names = names;
+		this.paths = paths;
+		this.descendants = descendants;
+	}
+
+	public static CategoryTree of(Collection<Node> nodes) {
+		Map<UUID, Node> byId = new HashMap<>();
+		Map<UUID, List<UUID>> children = new HashMap<>();
+		for (Node node : nodes) {
+			byId.put(node.categoryId(), node);
+			if (node.parentCategoryId() != null) {
+				children.computeIfAbsent(node.parentCategoryId(), key -> new ArrayList<>()).add(node.categoryId());
+			}
+		}
+
+		Map<UUID, String> names = new HashMap<>();
+		Map<UUID, List<String>> paths = new HashMap<>();
+		Map<UUID, Set<UUID>> descendants = new HashMap<>();
+		for (Node node : byId.values()) {
+			names.put(node.categoryId(), node.categoryName());
+			paths.put(node.categoryId(), List.copyOf(path(node, byId)));
+			descendants.put(node.categoryId(), Set.copyOf(descendants(node.categoryId(), children)));
+		}
+		return new CategoryTree(Map.copyOf(names), Map.copyOf(paths), Map.copyOf(descendants));
+	}
+
+	// 잘못된 데이터로 부모가 순환해도 멈추도록 방문한 노드는 다시 따라가지 않는다
+	private static List<String> path(Node node, Map<UUID, Node> byId) {
+		Deque<String> path = new ArrayDeque<>();
+		Set<UUID> visited = new HashSet<>();
+		for (Node current = node; current != null && visited.add(current.categoryId());
+			current = current.parentCategoryId() == null ? null : byId.get(current.parentCategoryId())) {
+			path.addFirst(current.categoryName());
+		}
+		return new ArrayList<>(path);
+	}
+
+	private static Set<UUID> descendants(UUID categoryId, Map<UUID, List<UUID>> children) {
+		Set<UUID> result = new HashSet<>();
+		Deque<UUID> queue = new ArrayDeque<>(List.of(categoryId));
+		while (!queue.isEmpty()) {
+			UUID current = queue.poll();
+			if (result.add(current)) {
+				queue.addAll(children.getOrDefault(current, List.of()));
+			}
+		}
+		return result;
+	}
+
+	public boolean contains(UUID categoryId) {
+		return names.containsKey(categoryId);
+	}
+
+	// 루트 -> 자신 순서의 카테고리 이름. 모르는 id 면 빈 목록
+	public List<String> path(UUID categoryId) {
+		return paths.getOrDefault(categoryId, List.of());
+	}
+
+	public Set<UUID> descendantIds(UUID categoryId) {
+		return descendants.getOrDefault(categoryId, Set.of());
+	}
+
+	// 이름에 키워드가 포함된(대소문자 무관) 카테고리와 그 하위 카테고리 전체
+	public Set<UUID> matchingIds(String keyword) {
+		String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+		Set<UUID> result = new HashSet<>();
+		names.forEach((categoryId, name) -> {
+			if (name != null && name.toLowerCase(Locale.ROOT).contains(lowerKeyword)) {
+				result.addAll(descendantIds(categoryId));
+			}
+		});
+		return result;
+	}
+
+	public int size() {
+		return names.size();
+	}
+}
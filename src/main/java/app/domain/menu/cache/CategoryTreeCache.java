@@ -0,0 +1,49 @@
+package app.domain.menu.cache;
+
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import app.domain.menu.model.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 카테고리 트리 로컬 캐시. 작고 거의 바뀌지 않으므로 전체를 한 번에 읽어 스냅샷으로 교체한다
+ * - 처음 쓸 때 읽고, refresh-ms 주기로 다시 읽는다
+ * - 스냅샷에 없는 카테고리(방금 추가된 것)를 찾으면 바로 다시 읽는다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeCache {
+
+	private final CategoryRepository categoryRepository;
+
+	private volatile CategoryTree tree;
+
+	public CategoryTree get() {
+		CategoryTree current = tree;
+		return current != null ? current : reload();
+	}
+
+	public CategoryTree get(UUID categoryId) {
+		CategoryTree current = get();
+		return current.contains(categoryId) ? current : reload();
+	}
+
+	@Scheduled(fixedDelayString = "${category.tree.refresh-ms:600000}", initialDelayString = "${category.tree.refresh-ms:600000}")
+	public void scheduledReload() {
+		reload();
+	}
+
+	public synchronized CategoryTree reload() {
+		CategoryTree loaded = CategoryTree.of(categoryRepository.findAllNodes().stream()
+			.map(view -> new CategoryTree.Node(view.getCategoryId(), view.getCategoryName(), view.getParentCategoryId()))
+			.toList());
+		tree = loaded;
+		log.debug("카테고리 트리 적재: {}개", loaded.size());
+		return loaded;
+	}
+}
@@ -0,0 +1,59 @@
+package app.domain.menu.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MenuCacheInvalidator implements MessageListener {
+
+	public static final String CHANNEL = "menu:invalidate";
+
+	private final MenuSnapshotCache menuSnapshotCache;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	// 커밋 이후에 비워야 다른 요청이 변경 전 값을 다시 캐시에 올리지 않는다
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleMenuChanged(MenuChangedEvent event) {
+		menuSnapshotCache.evict(event.getMenuIds());
+		try {
+			redisTemplate.convertAndSend(CHANNEL,
+				event.getMenuIds().stream().map(UUID::toString).collect(Collectors.joining(",")));
+		} catch (Exception e) {
+			log.warn("메뉴 캐시 무효화 전파 실패, TTL 만료로 반영됩니다: {}", event.getMenuIds(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		List<UUID> menuIds = Arrays.stream(body.split(","))
+			.filter(id -> !id.isBlank())
+			.map(UUID::fromString)
+			.toList();
+		menuSnapshotCache.evict(menuIds);
+	}
+}
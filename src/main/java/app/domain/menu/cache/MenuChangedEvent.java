@@ -0,0 +1,18 @@
+package app.domain.menu.cache;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+
+@Getter
+public class MenuChangedEvent extends ApplicationEvent {
+	private final List<UUID> menuIds;
+
+	public MenuChangedEvent(Object source, List<UUID> menuIds) {
+		super(source);
+		this.menuIds = menuIds;
+	}
+}
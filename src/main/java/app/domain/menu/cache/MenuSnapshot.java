@@ -0,0 +1,31 @@
+package app.domain.menu.cache;
+
+import java.util.UUID;
+
+import app.domain.menu.model.repository.MenuRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class MenuSnapshot {
+	private final UUID menuId;
+	private final UUID storeId;
+	private final String name;
+	private final Long price;
+	private final boolean hidden;
+	private final boolean deleted;
+
+	public static MenuSnapshot from(MenuRepository.MenuSnapshotView view) {
+		return MenuSnapshot.builder()
+			.menuId(view.getMenuId())
+			.storeId(view.getStoreId())
+			.name(view.getName())
+			.price(view.getPrice())
+			.hidden(Boolean.TRUE.equals(view.getHidden()))
+			.deleted(Boolean.TRUE.equals(view.getDeleted()))
+			.build();
+	}
+}
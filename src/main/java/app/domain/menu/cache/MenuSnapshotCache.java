@@ -0,0 +1,59 @@
+package app.domain.menu.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import app.domain.menu.model.repository.MenuRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 주문 검증/내부 메뉴 조회용 메뉴 스냅샷 로컬 캐시
+ * 메뉴 수정 시 MenuCacheInvalidator 가 로컬과 다른 파드의 캐시를 함께 비운다. TTL 은 누락된 무효화에 대한 안전장치다.
+ */
+@Component
+@Slf4j
+public class MenuSnapshotCache {
+
+	private final MenuRepository menuRepository;
+	private final Cache<UUID, MenuSnapshot> cache;
+
+	public MenuSnapshotCache(MenuRepository menuRepository, MeterRegistry meterRegistry,
+		@Value("${menu.cache.ttl-seconds:300}") long ttlSeconds,
+		@Value("${menu.cache.max-size:100000}") long maxSize) {
+		this.menuRepository = menuRepository;
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.maximumSize(maxSize)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "menuSnapshot");
+		meterRegistry.gauge("menu.snapshot.cache.hit.ratio", cache, c -> c.stats().hitRate());
+	}
+
+	// 캐시에 없는 메뉴만 한 번의 쿼리로 읽는다. DB 에도 없는 메뉴는 결과에서 빠진다
+	public Map<UUID, MenuSnapshot> getAll(Collection<UUID> menuIds) {
+		return cache.getAll(menuIds, missing -> {
+			Map<UUID, MenuSnapshot> loaded = new HashMap<>();
+			menuRepository.findSnapshotsByMenuIdIn(new ArrayList<>(missing))
+				.forEach(view -> loaded.put(view.getMenuId(), MenuSnapshot.from(view)));
+			return loaded;
+		});
+	}
+
+	public void evict(Collection<UUID> menuIds) {
+		cache.invalidateAll(menuIds);
+		log.debug("메뉴 캐시 무효화: {}", menuIds);
+	}
+}
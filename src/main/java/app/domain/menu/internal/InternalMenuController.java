@@ -3,7 +3,11 @@ package app.domain.menu.internal;
 import app.commonUtil.apiPayload.ApiResponse;
 import app.domain.menu.model.dto.request.StockRequest;
 import app.domain.menu.model.dto.response.MenuInfoResponse;
+import app.domain.menu.model.dto.response.StockReconciliationResponse;
+import app.domain.menu.model.dto.response.StockShardResponse;
 import app.domain.menu.status.StoreMenuSuccessStatus;
+import app.domain.menu.stock.StockReconciliationService;
+import app.domain.menu.stock.StockShardService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +26,8 @@ public class InternalMenuController {
 
 	private final InternalMenuService internalMenuService;
 	private final StockRetryService stockRetryService;
+	private final StockReconciliationService stockReconciliationService;
+	private final StockShardService stockShardService;
 
 	@PostMapping("/batch")
 	public ApiResponse<List<MenuInfoResponse>> getMenuInfoList(@RequestBody List<UUID> menuIds) {
@@ -34,4 +40,14 @@ public class InternalMenuController {
 		boolean result = stockRetryService.decreaseStock(requests);
 		return ApiResponse.onSuccess(StoreMenuSuccessStatus.STOCK_DECREASE_SUCCESS, result);
 	}
+
+	@GetMapping("/stocks/reconciliation")
+	public ApiResponse<StockReconciliationResponse> reconcileStock() {
+		return ApiResponse.onSuccess(StoreMenuSuccessStatus.STOCK_RECONCILIATION_SUCCESS, stockReconciliationService.reconcile());
+	}
+
+	@PostMapping("/stocks/{menuId}/shards")
+	public ApiResponse<StockShardResponse> reshardStock(@PathVariable UUID menuId, @RequestParam int count) {
+		return ApiResponse.onSuccess(StoreMenuSuccessStatus.STOCK_SHARD_UPDATED_SUCCESS, stockShardService.reshard(menuId, count));
+	}
 }
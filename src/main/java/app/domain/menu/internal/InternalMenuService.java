@@ -2,11 +2,11 @@ package app.domain.menu.internal;
 
 
 import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.menu.cache.MenuSnapshot;
+import app.domain.menu.cache.MenuSnapshotCache;
 import app.domain.menu.model.dto.request.StockRequest;
 import app.domain.menu.model.dto.response.MenuInfoResponse;
-import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.entity.Stock;
-import app.domain.menu.model.repository.MenuRepository;
 import app.domain.menu.model.repository.StockRepository;
 import app.domain.menu.status.StoreMenuErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -26,17 +26,17 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class InternalMenuService {
 
-	private final MenuRepository menuRepository;
+	private final MenuSnapshotCache menuSnapshotCache;
 	private final StockRepository stockRepository;
 
-	@Transactional(readOnly = true)
 	public List<MenuInfoResponse> getMenuInfoList(List<UUID> menuIds) {
 		if (menuIds == null || menuIds.isEmpty()) {
 			throw new GeneralException(StoreMenuErrorCode.MENU_ID_NULL);
 		}
 
-		List<Menu> menus = menuRepository.findAllByMenuIdInAndHiddenIsFalse(menuIds);
-
+		List<MenuSnapshot> menus = menuSnapshotCache.getAll(menuIds).values().stream()
+			.filter(menu -> !menu.isHidden() && !menu.isDeleted())
+			.toList();
 
 		if (menus.size() != menuIds.size()) {
 			throw new GeneralException(StoreMenuErrorCode.MENU_NOT_FOUND);
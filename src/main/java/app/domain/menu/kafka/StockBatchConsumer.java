@@ -0,0 +1,87 @@
+package app.domain.menu.kafka;
+
+import app.global.config.StockInitializer;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "stock.batch.enabled", havingValue = "true")
+public class StockBatchConsumer {
+
+    private final StockService stockService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+        id = StockInitializer.REQUEST_LISTENER_ID,
+        idIsGroup = false,
+        autoStartup = "false",
+        topics = "stock.request",
+        groupId = "stock.group",
+        containerFactory = "stockBatchListenerContainerFactory",
+        properties = {
+            "max.poll.records=${stock.batch.max-size:500}",
+            "fetch.max.wait.ms=${stock.batch.linger-ms:20}",
+            "fetch.min.bytes=${stock.batch.min-bytes:16384}"
+        }
+    )
+    public void handleStockRequests(List<ConsumerRecord<String, String>> records) {
+        List<StockBatchRequest> requests = parse(records);
+        log.info("Received stock request batch: {} records, {} parsed", records.size(), requests.size());
+        if (!requests.isEmpty()) {
+            stockService.processStockBatch(requests);
+        }
+    }
+
+    @KafkaListener(
+        id = StockInitializer.REFUND_LISTENER_ID,
+        idIsGroup = false,
+        autoStartup = "false",
+        topics = "refund.request",
+        groupId = "stock.refund.group",
+        containerFactory = "stockBatchListenerContainerFactory",
+        properties = {
+            "max.poll.records=${stock.batch.max-size:500}",
+            "fetch.max.wait.ms=${stock.batch.linger-ms:20}",
+            "fetch.min.bytes=${stock.batch.min-bytes:16384}"
+        }
+    )
+    public void handleRefundRequests(List<ConsumerRecord<String, String>> records) {
+        List<StockBatchRequest> requests = parse(records);
+        log.info("Received refund request batch: {} records, {} parsed", records.size(), requests.size());
+        if (!requests.isEmpty()) {
+            stockService.processRefundBatch(requests);
+        }
+    }
+
+    private List<StockBatchRequest> parse(List<ConsumerRecord<String, String>> records) {
+        List<StockBatchRequest> requests = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                List<Map<String, Object>> stockRequests = objectMapper.readValue(record.value(), new TypeReference<List<Map<String, Object>>>() {});
+                requests.add(new StockBatchRequest(headerValue(record, "orderId"), stockRequests));
+            } catch (Exception e) {
+                log.error("Failed to parse stock message: {}", record.value(), e);
+            }
+        }
+        return requests;
+    }
+
+    private String headerValue(ConsumerRecord<String, String> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,14 @@
+package app.domain.menu.kafka;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StockBatchRequest {
+    private final String orderId;
+    private final List<Map<String, Object>> stockRequests;
+}
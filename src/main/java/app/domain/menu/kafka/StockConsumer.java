@@ -1,9 +1,11 @@
 package app.domain.menu.kafka;
 
+import app.global.config.StockInitializer;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
@@ -14,12 +16,14 @@ import java.util.Map;
 @Component
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnProperty(name = "stock.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class StockConsumer {
 
     private final StockService stockService;
     private final ObjectMapper objectMapper;
 
-    @KafkaListener(topics = "stock.request", groupId = "stock.group")
+    @KafkaListener(id = StockInitializer.REQUEST_LISTENER_ID, idIsGroup = false, autoStartup = "false",
+        topics = "stock.request", groupId = "stock.group")
     public void handleStockRequest(String message, @Header(value = "orderId", required = false) String headerOrderId) {
         try {
             List<Map<String, Object>> stockRequests = objectMapper.readValue(message, new TypeReference<List<Map<String, Object>>>() {});
@@ -30,12 +34,13 @@ public class StockConsumer {
         }
     }
 
-    @KafkaListener(topics = "refund.request",groupId= "stock.refund.group")
+    @KafkaListener(id = StockInitializer.REFUND_LISTENER_ID, idIsGroup = false, autoStartup = "false",
+        topics = "refund.request",groupId= "stock.refund.group")
     public void handleRefundRequest(String message, @Header(value = "orderId", required = false) String headerOrderId) {
         try {
             List<Map<String, Object>> refundRequests = objectMapper.readValue(message, new TypeReference<List<Map<String, Object>>>() {});
             log.info("Received refund request: {}", refundRequests);
-            stockService.processStockRefund(refundRequests);
+            stockService.processStockRefund(refundRequests, headerOrderId);
         } catch (Exception e) {
             log.error("Failed to parse refund request message: {}", message, e);
         }
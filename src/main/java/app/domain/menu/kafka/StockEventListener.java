@@ -1,5 +1,7 @@
 package app.domain.menu.kafka;
 
+import app.domain.menu.status.StoreMenuErrorCode;
+import app.domain.menu.stock.StockReservation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,9 +14,23 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class StockEventListener {
 
     private final StockProducer stockProducer;
+    private final StockReservation stockReservation;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleStockResult(StockResultEvent event) {
         stockProducer.sendStockResult(event.getOrderId(), event.getStatus(), event.getMessage());
     }
-}
\ No newline at end of file
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void confirmReservation(StockReservationEvent event) {
+        stockReservation.confirm(event.getOrderId());
+    }
+
+    // DB 반영이 롤백되면 Redis 예약을 되돌리고 실패를 알린다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void releaseReservation(StockReservationEvent event) {
+        log.warn("재고 DB 반영 롤백, 예약 복구: orderId={}", event.getOrderId());
+        stockReservation.release(event.getOrderId());
+        stockProducer.sendStockResult(event.getOrderId(), "fail", StoreMenuErrorCode.CONCURRENCY_ERROR.getMessage());
+    }
+}
@@ -0,0 +1,15 @@
+package app.domain.menu.kafka;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+
+@Getter
+public class StockReservationEvent extends ApplicationEvent {
+    private final String orderId;
+
+    public StockReservationEvent(Object source, String orderId) {
+        super(source);
+        this.orderId = orderId;
+    }
+}
@@ -0,0 +1,87 @@
+package app.domain.menu.kafka;
+
+import app.domain.menu.model.repository.StockOrderAppliedRepository;
+import app.domain.menu.status.StoreMenuErrorCode;
+import app.domain.menu.stock.StockReservation;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/*
+ * reclaim-after 가 지나도록 RESERVED 로 남은 예약 정리
+ * DB 반영 기록(p_stock_order_applied)이 있으면 확정하고 성공을, 없으면 Redis 재고를 되돌리고 실패를 알린다.
+ * 확정/복구 스크립트가 상태를 다시 확인하므로 여러 파드가 동시에 돌아도 한 번만 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationSweeper {
+
+    private final StockReservation stockReservation;
+    private final StockOrderAppliedRepository stockOrderAppliedRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${stock.reservation.sweep-batch-size:100}")
+    private int batchSize;
+
+    @Value("${stock.reservation.ttl-seconds:604800}")
+    private long ttlSeconds;
+
+    @Scheduled(fixedDelayString = "${stock.reservation.sweep-interval-ms:60000}")
+    public void sweep() {
+        for (String orderId : stockReservation.expired(batchSize)) {
+            try {
+                resolve(orderId);
+            } catch (Exception e) {
+                log.error("만료 예약 정리 실패, 다음 주기에 재시도합니다: orderId={}", orderId, e);
+            }
+        }
+    }
+
+    // 예약 기록보다 오래 남길 필요가 없다
+    @Scheduled(fixedDelayString = "${stock.reservation.purge-interval-ms:3600000}")
+    public void purgeApplied() {
+        Integer purged = transactionTemplate.execute(status ->
+            stockOrderAppliedRepository.deleteAppliedBefore(LocalDateTime.now().minusSeconds(ttlSeconds)));
+        if (purged != null && purged > 0) {
+            log.info("재고 주문 반영 기록 정리: {} 건", purged);
+        }
+    }
+
+    private void resolve(String orderId) {
+        if (stockOrderAppliedRepository.existsById(orderId)) {
+            StockReservation.Result result = stockReservation.confirm(orderId);
+            if (result == StockReservation.Result.OK) {
+                count("confirmed");
+                log.warn("만료 예약 확정: orderId={}", orderId);
+                eventPublisher.publishEvent(new StockResultEvent(this, orderId, "success", ""));
+            } else if (result == StockReservation.Result.NOT_FOUND) {
+                stockReservation.forget(orderId);
+            }
+            return;
+        }
+
+        StockReservation.Release release = stockReservation.reclaim(orderId);
+        StockReservation.Result result = release == null ? null : release.getResult();
+        if (result == StockReservation.Result.OK) {
+            count("released");
+            log.warn("만료 예약 복구: orderId={}, {}", orderId, release.getLines());
+            eventPublisher.publishEvent(new StockResultEvent(this, orderId, "fail", StoreMenuErrorCode.CONCURRENCY_ERROR.getMessage()));
+        } else if (result == StockReservation.Result.NOT_FOUND) {
+            stockReservation.forget(orderId);
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("stock.reservation.reclaimed", "outcome", outcome).increment();
+    }
+}
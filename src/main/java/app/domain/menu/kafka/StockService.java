@@ -1,91 +1,204 @@
 package app.domain.menu.kafka;
 
 import app.domain.menu.model.entity.Stock;
+import app.domain.menu.model.entity.StockOrderApplied;
+import app.domain.menu.model.repository.StockOrderAppliedRepository;
 import app.domain.menu.model.repository.StockRepository;
 import app.domain.menu.status.StoreMenuErrorCode;
+import app.domain.menu.stock.StockKeyLayout;
+import app.domain.menu.stock.StockLedger;
+import app.domain.menu.stock.StockLoader;
+import app.domain.menu.stock.StockReservation;
+import app.global.config.RedisScriptRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StockService {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    // 배치 트랜잭션 버전 충돌 시 다시 읽어 시도하는 횟수
+    private static final int BATCH_LOCK_RETRIES = 3;
+
+    private final RedisScriptRegistry scriptRegistry;
     private final StockRepository stockRepository;
     private final ApplicationEventPublisher eventPublisher;
-
-    private static final String LUA_SCRIPT = """
-        local keys = KEYS
-        local quantities = ARGV
-        
-        for i = 1, #keys do
-            local stock = redis.call('GET', keys[i])
-            if not stock or tonumber(stock) < tonumber(quantities[i]) then
-                return 0
-            end
-        end
-        
-        for i = 1, #keys do
-            redis.call('DECRBY', keys[i], quantities[i])
-        end
-        
-        return 1
-        """;
+    private final TransactionTemplate transactionTemplate;
+    private final StockLedger stockLedger;
+    private final StockKeyLayout stockKeyLayout;
+    private final StockReservation stockReservation;
+    private final StockLoader stockLoader;
+    private final StockOrderAppliedRepository stockOrderAppliedRepository;
+    private final MeterRegistry meterRegistry;
 
     @Transactional
     public void processStock(List<Map<String, Object>> stockRequests, String headerOrderId, boolean isRefund) {
-        try {
-            if (isRefund) {
-                stockRequests.forEach(req -> {
-                    String menuId = req.get("menuId").toString();
-                    Integer quantity = Integer.valueOf(req.get("quantity").toString());
-                    redisTemplate.opsForValue().increment("stock:" + menuId, quantity);
-                });
-                updateDatabaseStock(stockRequests, true);
-                log.info("재고 환불 처리 완료: {}", stockRequests);
-            } else {
-                List<String> keys = stockRequests.stream()
-                        .map(req -> "stock:" + req.get("menuId"))
-                        .collect(Collectors.toList());
-
-                List<String> quantities = stockRequests.stream()
-                        .map(req -> String.valueOf(req.get("quantity")))
-                        .collect(Collectors.toList());
-
-                DefaultRedisScript<Long> script = new DefaultRedisScript<>(LUA_SCRIPT, Long.class);
-                Long result = redisTemplate.execute(script, keys, quantities.toArray());
+        // 예약 기록이 orderId 기준이므로 orderId 없는 요청은 중복 여부를 판단할 수 없다
+        if (headerOrderId == null) {
+            processUntracked(stockRequests, isRefund);
+            return;
+        }
+        if (isRefund) {
+            processRefund(headerOrderId, stockRequests);
+            return;
+        }
 
-                if (result != null && result == 1L) {
-                    updateDatabaseStock(stockRequests, false);
-                    eventPublisher.publishEvent(new StockResultEvent(this, headerOrderId, "success", ""));
-                } else {
-                    if (processStockFromDatabase(stockRequests)) {
+        boolean holding = false;
+        try {
+            StockReservation.Result result = stockReservation.reserve(headerOrderId, stockRequests);
+            if (result == StockReservation.Result.NOT_LOADED) {
+                stockLoader.loadMissing(menuIds(stockRequests));
+                result = stockReservation.reserve(headerOrderId, stockRequests);
+            }
+            switch (result) {
+                case OK -> {
+                    holding = true;
+                    applyReservation(headerOrderId, stockRequests);
+                }
+                case EXPIRED -> {
+                    // 이전 처리가 확정 전에 멈춘 예약. 스크립트가 예약 시각을 갱신해 가져왔으므로 스위퍼와 겹치지 않는다
+                    // DB 반영 기록이 있으면 확정만 하고, 없으면 남은 단계를 마저 진행한다
+                    if (stockOrderAppliedRepository.existsById(headerOrderId)) {
+                        stockReservation.confirm(headerOrderId);
+                        eventPublisher.publishEvent(new StockResultEvent(this, headerOrderId, "success", ""));
+                    } else {
+                        holding = true;
+                        applyReservation(headerOrderId, stockRequests);
+                    }
+                }
+                case OUT_OF_STOCK, NOT_LOADED, LAYOUT_CHANGED -> {
+                    // write-behind 모드에서는 Redis 가 기준 재고이므로 DB 로 대체 처리하지 않는다
+                    if (!stockLedger.isEnabled() && processStockFromDatabase(stockRequests)) {
+                        stockOrderAppliedRepository.save(new StockOrderApplied(headerOrderId, LocalDateTime.now()));
+                        stockReservation.mark(headerOrderId, stockRequests);
+                        eventPublisher.publishEvent(new StockReservationEvent(this, headerOrderId));
                         eventPublisher.publishEvent(new StockResultEvent(this, headerOrderId, "success", ""));
                     } else {
                         eventPublisher.publishEvent(new StockResultEvent(this, headerOrderId, "fail", StoreMenuErrorCode.OUT_OF_STOCK.getMessage()));
                     }
                 }
+                default -> publishDuplicate(headerOrderId, result);
+            }
+        } catch (Exception e) {
+            log.error("재고 처리 실패", e);
+            if (holding) {
+                stockReservation.release(headerOrderId);
+            }
+            eventPublisher.publishEvent(new StockResultEvent(this, headerOrderId, "fail", e.getMessage()));
+        }
+    }
+
+    // Redis 예약을 잡은 주문의 DB 반영. 반영 기록을 같은 트랜잭션에 남기고 커밋 후 예약을 확정한다 (StockEventListener)
+    private void applyReservation(String orderId, List<Map<String, Object>> stockRequests) {
+        if (!stockLedger.isEnabled()) {
+            updateDatabaseStock(stockRequests, false);
+            stockOrderAppliedRepository.save(new StockOrderApplied(orderId, LocalDateTime.now()));
+            eventPublisher.publishEvent(new StockReservationEvent(this, orderId));
+        }
+        eventPublisher.publishEvent(new StockResultEvent(this, orderId, "success", ""));
+    }
+
+    // orderId 가 없으면 예약 기록 없이 예전처럼 바로 반영한다. 재전송되면 중복 반영될 수 있으므로 건수를 따로 센다
+    private void processUntracked(List<Map<String, Object>> stockRequests, boolean isRefund) {
+        countUntracked(isRefund ? "refund_without_order_id" : "request_without_order_id");
+        log.warn("orderId 헤더가 없는 재고 요청, 중복 방지 없이 처리합니다. refund={}, {}", isRefund, stockRequests);
+        if (isRefund) {
+            try {
+                restoreUntracked(stockRequests);
+            } catch (Exception e) {
+                log.error("재고 환불 처리 실패: {}", stockRequests, e);
+            }
+            return;
+        }
+
+        StockReservation.Result result = null;
+        try {
+            result = stockReservation.take(stockRequests);
+            if (result == StockReservation.Result.NOT_LOADED) {
+                stockLoader.loadMissing(menuIds(stockRequests));
+                result = stockReservation.take(stockRequests);
+            }
+            if (result == StockReservation.Result.OK) {
+                if (!stockLedger.isEnabled()) {
+                    updateDatabaseStock(stockRequests, false);
+                }
+                eventPublisher.publishEvent(new StockResultEvent(this, null, "success", ""));
+            } else if (!stockLedger.isEnabled() && processStockFromDatabase(stockRequests)) {
+                eventPublisher.publishEvent(new StockResultEvent(this, null, "success", ""));
+            } else {
+                eventPublisher.publishEvent(new StockResultEvent(this, null, "fail", StoreMenuErrorCode.OUT_OF_STOCK.getMessage()));
             }
         } catch (Exception e) {
             log.error("재고 처리 실패", e);
-            if (!isRefund) {
-                eventPublisher.publishEvent(new StockResultEvent(this, headerOrderId, "fail", e.getMessage()));
+            if (result == StockReservation.Result.OK) {
+                stockReservation.put(stockRequests);
+            }
+            eventPublisher.publishEvent(new StockResultEvent(this, null, "fail", e.getMessage()));
+        }
+    }
+
+    private void restoreUntracked(List<Map<String, Object>> stockRequests) {
+        stockReservation.put(stockRequests);
+        if (!stockLedger.isEnabled()) {
+            updateDatabaseStock(stockRequests, true);
+        }
+        log.info("재고 환불 처리 완료(예약 기록 없음): {}", stockRequests);
+    }
+
+    private void countUntracked(String reason) {
+        meterRegistry.counter("stock.reservation.untracked", "reason", reason).increment();
+    }
+
+    // 예약 기록의 수량만큼 되돌린다. 배포 전 주문이나 기록이 만료된 주문은 요청 수량으로 바로 되돌린다
+    private void processRefund(String orderId, List<Map<String, Object>> stockRequests) {
+        try {
+            StockReservation.Release release = stockReservation.release(orderId);
+            if (release.getResult() == StockReservation.Result.NOT_FOUND) {
+                countUntracked("refund_without_record");
+                log.warn("예약 기록이 없는 환불, 요청 수량으로 복구합니다: orderId={}", orderId);
+                restoreUntracked(stockRequests);
+                return;
+            }
+            if (release.getResult() != StockReservation.Result.OK) {
+                log.warn("재고 환불 건너뜀: orderId={}, reservation={}", orderId, release.getResult());
+                return;
+            }
+            if (!stockLedger.isEnabled()) {
+                updateDatabaseStock(release.getLines(), true);
             }
+            log.info("재고 환불 처리 완료: orderId={}, {}", orderId, release.getLines());
+        } catch (Exception e) {
+            log.error("재고 환불 처리 실패: orderId={}", orderId, e);
+        }
+    }
+
+    // 재전송된 주문은 이전 처리 결과를 다시 알리고, 처리 중인 주문은 건너뛴다
+    private void publishDuplicate(String orderId, StockReservation.Result result) {
+        log.info("중복 재고 요청: orderId={}, reservation={}", orderId, result);
+        if (result == StockReservation.Result.CONFIRMED) {
+            eventPublisher.publishEvent(new StockResultEvent(this, orderId, "success", ""));
+        } else if (result == StockReservation.Result.RELEASED) {
+            eventPublisher.publishEvent(new StockResultEvent(this, orderId, "fail", StoreMenuErrorCode.OUT_OF_STOCK.getMessage()));
         }
     }
 
@@ -127,7 +240,7 @@ public class StockService {
                 UUID menuId = UUID.fromString(req.get("menuId").toString());
                 Integer quantity = Integer.valueOf(req.get("quantity").toString());
                 Stock stock = stockMap.get(menuId);
-                
+
                 if (stock == null || stock.getStock() < quantity) {
                     return false;
                 }
@@ -138,10 +251,10 @@ public class StockService {
                 Integer quantity = Integer.valueOf(req.get("quantity").toString());
                 Stock stock = stockMap.get(menuId);
                 stock.setStock(stock.getStock() - quantity);
-                
-                redisTemplate.opsForValue().set("stock:" + menuId, String.valueOf(stock.getStock()));
+
+                stockKeyLayout.set(menuId, stock.getStock());
             });
-            
+
             return true;
         } catch (Exception e) {
             log.error("DB 재고 처리 실패", e);
@@ -149,14 +262,301 @@ public class StockService {
         }
     }
 
+    public void processStockBatch(List<StockBatchRequest> requests) {
+        List<StockBatchRequest> valid = withOrderId(requests, false);
+        List<StockReservation.Result> results;
+        try {
+            results = reserveAll(valid);
+        } catch (Exception e) {
+            // 파이프라인 실패 시 전 건을 DB 기준으로 처리하고 Redis 값을 DB 값으로 덮어쓴다
+            log.error("재고 배치 Redis 파이프라인 실패, DB 처리로 전환: {} 건", valid.size(), e);
+            results = List.of();
+        }
+
+        List<StockBatchRequest> reserved = new ArrayList<>();
+        List<StockBatchRequest> fallback = new ArrayList<>();
+        for (int i = 0; i < valid.size(); i++) {
+            StockReservation.Result result = i < results.size() ? results.get(i) : null;
+            if (result == StockReservation.Result.OK) {
+                reserved.add(valid.get(i));
+            } else if (result == StockReservation.Result.EXPIRED) {
+                // 확정 전에 멈춘 예약(스크립트가 예약 시각을 갱신해 가져옴). DB 반영 기록이 없으면 이번 배치에서 마저 반영한다
+                if (stockOrderAppliedRepository.existsById(valid.get(i).getOrderId())) {
+                    stockReservation.confirm(valid.get(i).getOrderId());
+                    eventPublisher.publishEvent(new StockResultEvent(this, valid.get(i).getOrderId(), "success", ""));
+                } else {
+                    reserved.add(valid.get(i));
+                }
+            } else if (result == null || result == StockReservation.Result.OUT_OF_STOCK
+                    || result == StockReservation.Result.NOT_LOADED || result == StockReservation.Result.LAYOUT_CHANGED) {
+                fallback.add(valid.get(i));
+            } else {
+                publishDuplicate(valid.get(i).getOrderId(), result);
+            }
+        }
+
+        if (stockLedger.isEnabled()) {
+            reserved.forEach(request ->
+                eventPublisher.publishEvent(new StockResultEvent(this, request.getOrderId(), "success", "")));
+            fallback.forEach(request ->
+                eventPublisher.publishEvent(new StockResultEvent(this, request.getOrderId(), "fail", StoreMenuErrorCode.OUT_OF_STOCK.getMessage())));
+            log.info("재고 배치 원장 기록 완료: {} 건 (성공 {} 건)", valid.size(), reserved.size());
+            return;
+        }
+
+        List<StockBatchRequest> fromDatabase = new ArrayList<>();
+        try {
+            executeWithLockRetry(status -> {
+                fromDatabase.clear();
+                Map<UUID, Stock> stockMap = loadStocks(valid);
+                reserved.forEach(request -> applyDelta(stockMap, request.getStockRequests(), false));
+                reserved.forEach(request ->
+                    eventPublisher.publishEvent(new StockResultEvent(this, request.getOrderId(), "success", "")));
+
+                fallback.forEach(request -> {
+                    if (reserveFromDatabase(stockMap, request.getStockRequests())) {
+                        fromDatabase.add(request);
+                        eventPublisher.publishEvent(new StockResultEvent(this, request.getOrderId(), "success", ""));
+                    } else {
+                        eventPublisher.publishEvent(new StockResultEvent(this, request.getOrderId(), "fail", StoreMenuErrorCode.OUT_OF_STOCK.getMessage()));
+                    }
+                });
+                LocalDateTime now = LocalDateTime.now();
+                stockOrderAppliedRepository.saveAll(Stream.concat(reserved.stream(), fromDatabase.stream())
+                    .map(request -> new StockOrderApplied(request.getOrderId(), now))
+                    .toList());
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 재시도해도 충돌하면 주문 단위 트랜잭션으로 나눠 충돌한 주문만 실패 처리한다
+            log.warn("재고 배치 버전 충돌 {} 회, 주문 단위 처리로 전환: {} 건", BATCH_LOCK_RETRIES, valid.size());
+            fromDatabase.clear();
+            reserved.removeIf(request -> !applyReserved(request));
+            fallback.forEach(request -> {
+                if (applyFromDatabase(request)) {
+                    fromDatabase.add(request);
+                }
+            });
+        } catch (Exception e) {
+            log.error("재고 배치 DB 반영 실패, Redis 예약 복구: {} 건", reserved.size(), e);
+            scriptRegistry.executePipelined("stock.batch.release", reserved.stream()
+                    .map(request -> stockReservation.releaseCall(request.getOrderId(), request.getStockRequests()))
+                    .collect(Collectors.toList()));
+            // 중복/만료 확정으로 이미 응답한 주문은 다시 알리지 않는다
+            Stream.concat(reserved.stream(), fallback.stream()).forEach(request ->
+                eventPublisher.publishEvent(new StockResultEvent(this, request.getOrderId(), "fail", e.getMessage())));
+            return;
+        }
+
+        try {
+            List<RedisScriptRegistry.Call> calls = new ArrayList<>();
+            reserved.forEach(request -> calls.add(stockReservation.confirmCall(request.getOrderId())));
+            fromDatabase.forEach(request -> calls.add(stockReservation.markCall(request.getOrderId(), request.getStockRequests())));
+            scriptRegistry.executePipelined("stock.batch.confirm", calls);
+        } catch (Exception e) {
+            log.error("재고 예약 확정 기록 실패: {} 건", reserved.size() + fromDatabase.size(), e);
+        }
+        log.info("재고 배치 처리 완료: {} 건 (Redis {} 건, DB 대체 {} 건)", valid.size(), reserved.size(), fallback.size());
+    }
+
+    public void processRefundBatch(List<StockBatchRequest> requests) {
+        List<StockBatchRequest> valid = withOrderId(requests, true);
+        List<Object> results = scriptRegistry.executePipelined("stock.refund.release", valid.stream()
+                .map(request -> stockReservation.releaseCall(request.getOrderId(), request.getStockRequests()))
+                .collect(Collectors.toList()));
+
+        List<StockBatchRequest> released = new ArrayList<>();
+        for (int i = 0; i < valid.size(); i++) {
+            StockReservation.Release release = StockReservation.Release.of(results.get(i));
+            if (release != null && (release.getResult() == StockReservation.Result.LINES_MISMATCH
+                    || release.getResult() == StockReservation.Result.LAYOUT_CHANGED)) {
+                // 환불 요청의 메뉴가 예약 기록과 다르거나 샤드 구성이 바뀌었으면 기록의 메뉴로 다시 복구한다
+                release = stockReservation.release(valid.get(i).getOrderId());
+            }
+            if (release != null && release.getResult() == StockReservation.Result.OK) {
+                released.add(new StockBatchRequest(valid.get(i).getOrderId(), release.getLines()));
+            } else if (release != null && release.getResult() == StockReservation.Result.NOT_FOUND) {
+                countUntracked("refund_without_record");
+                log.warn("예약 기록이 없는 환불, 요청 수량으로 복구합니다: orderId={}", valid.get(i).getOrderId());
+                stockReservation.put(valid.get(i).getStockRequests());
+                released.add(valid.get(i));
+            } else {
+                log.warn("재고 환불 건너뜀: orderId={}, reservation={}", valid.get(i).getOrderId(),
+                    release == null ? null : release.getResult());
+            }
+        }
+        if (stockLedger.isEnabled() || released.isEmpty()) {
+            log.info("재고 환불 배치 처리 완료: {} 건 (복구 {} 건)", valid.size(), released.size());
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<UUID, Stock> stockMap = loadStocks(released);
+                released.forEach(request -> applyDelta(stockMap, request.getStockRequests(), true));
+            });
+            log.info("재고 환불 배치 처리 완료: {} 건 (복구 {} 건)", valid.size(), released.size());
+        } catch (Exception e) {
+            log.error("재고 환불 배치 DB 반영 실패: {} 건", released.size(), e);
+        }
+    }
+
+    // 커밋 시점의 버전 충돌은 재고를 다시 읽어 새 트랜잭션으로 재시도한다. 롤백된 시도의 결과 이벤트는 발행되지 않는다
+    private void executeWithLockRetry(Consumer<TransactionStatus> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(action);
+                return;
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= BATCH_LOCK_RETRIES) {
+                    throw e;
+                }
+                log.debug("재고 DB 반영 버전 충돌, 재시도 {}/{}", attempt, BATCH_LOCK_RETRIES);
+            }
+        }
+    }
+
+    // Redis 예약을 마친 주문 하나를 반영한다. 실패하면 예약을 되돌리고 실패를 알린다
+    private boolean applyReserved(StockBatchRequest request) {
+        try {
+            executeWithLockRetry(status -> {
+                applyDelta(loadStocks(List.of(request)), request.getStockRequests(), false);
+                stockOrderAppliedRepository.save(new StockOrderApplied(request.getOrderId(), LocalDateTime.now()));
+                eventPublisher.publishEvent(new StockResultEvent(this, request.getOrderId(), "success", ""));
+            });
+            return true;
+        } catch (Exception e) {
+            log.error("재고 DB 반영 실패, Redis 예약 복구: orderId={}", request.getOrderId(), e);
+            stockReservation.release(request.getOrderId());
+            eventPublisher.publishEvent(new StockResultEvent(this, request.getOrderId(), "fail", StoreMenuErrorCode.CONCURRENCY_ERROR.getMessage()));
+            return false;
+        }
+    }
+
+    private boolean applyFromDatabase(StockBatchRequest request) {
+        try {
+            Boolean applied = transactionTemplate.execute(status -> {
+                if (!reserveFromDatabase(loadStocks(List.of(request)), request.getStockRequests())) {
+                    return false;
+                }
+                stockOrderAppliedRepository.save(new StockOrderApplied(request.getOrderId(), LocalDateTime.now()));
+                eventPublisher.publishEvent(new StockResultEvent(this, request.getOrderId(), "success", ""));
+                return true;
+            });
+            if (Boolean.TRUE.equals(applied)) {
+                return true;
+            }
+            eventPublisher.publishEvent(new StockResultEvent(this, request.getOrderId(), "fail", StoreMenuErrorCode.OUT_OF_STOCK.getMessage()));
+        } catch (Exception e) {
+            log.error("재고 DB 대체 처리 실패: orderId={}", request.getOrderId(), e);
+            eventPublisher.publishEvent(new StockResultEvent(this, request.getOrderId(), "fail", StoreMenuErrorCode.CONCURRENCY_ERROR.getMessage()));
+        }
+        return false;
+    }
+
+    // Redis 에 재고가 없는 메뉴가 있으면 DB 에서 채우고, 샤드 구성이 바뀌었으면 다시 읽은 뒤 해당 주문만 다시 예약한다
+    private List<StockReservation.Result> reserveAll(List<StockBatchRequest> requests) {
+        List<StockReservation.Result> results = reservePipelined(requests);
+        List<Integer> notLoaded = new ArrayList<>();
+        List<Integer> retryIndexes = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == StockReservation.Result.NOT_LOADED) {
+                notLoaded.add(i);
+            }
+            if (results.get(i) == StockReservation.Result.NOT_LOADED
+                    || results.get(i) == StockReservation.Result.LAYOUT_CHANGED) {
+                retryIndexes.add(i);
+            }
+        }
+        if (retryIndexes.isEmpty()) {
+            return results;
+        }
+
+        if (notLoaded.size() < retryIndexes.size()) {
+            stockKeyLayout.refresh();
+        }
+        if (!notLoaded.isEmpty()) {
+            stockLoader.loadMissing(notLoaded.stream()
+                    .flatMap(i -> menuIds(requests.get(i).getStockRequests()).stream())
+                    .collect(Collectors.toSet()));
+        }
+        List<StockReservation.Result> retried = reservePipelined(retryIndexes.stream().map(requests::get).collect(Collectors.toList()));
+        for (int i = 0; i < retryIndexes.size(); i++) {
+            results.set(retryIndexes.get(i), retried.get(i));
+        }
+        return results;
+    }
+
+    private List<StockReservation.Result> reservePipelined(List<StockBatchRequest> requests) {
+        return scriptRegistry.executePipelined("stock.batch.reserve", requests.stream()
+                .map(request -> stockReservation.reserveCall(request.getOrderId(), request.getStockRequests()))
+                .collect(Collectors.toList()))
+                .stream().map(StockReservation.Result::of).collect(Collectors.toList());
+    }
+
+    private List<UUID> menuIds(List<Map<String, Object>> stockRequests) {
+        return stockRequests.stream()
+                .map(req -> UUID.fromString(req.get("menuId").toString()))
+                .collect(Collectors.toList());
+    }
+
+    // orderId 가 없는 요청은 배치에서 빼고 한 건씩 예약 기록 없이 처리한다
+    private List<StockBatchRequest> withOrderId(List<StockBatchRequest> requests, boolean isRefund) {
+        List<StockBatchRequest> valid = new ArrayList<>(requests.size());
+        requests.forEach(request -> {
+            if (request.getOrderId() == null) {
+                processUntracked(request.getStockRequests(), isRefund);
+            } else {
+                valid.add(request);
+            }
+        });
+        return valid;
+    }
+
+    private Map<UUID, Stock> loadStocks(List<StockBatchRequest> requests) {
+        List<UUID> menuIds = requests.stream()
+                .flatMap(request -> request.getStockRequests().stream())
+                .map(req -> UUID.fromString(req.get("menuId").toString()))
+                .distinct()
+                .collect(Collectors.toList());
+
+        return stockRepository.findByMenuMenuIdIn(menuIds).stream()
+                .collect(Collectors.toMap(stock -> stock.getMenu().getMenuId(), stock -> stock));
+    }
+
+    private void applyDelta(Map<UUID, Stock> stockMap, List<Map<String, Object>> stockRequests, boolean isIncrease) {
+        stockRequests.forEach(req -> {
+            Stock stock = stockMap.get(UUID.fromString(req.get("menuId").toString()));
+            long quantity = Long.parseLong(req.get("quantity").toString());
+            if (stock != null) {
+                stock.setStock(isIncrease ? stock.getStock() + quantity : stock.getStock() - quantity);
+            }
+        });
+    }
+
+    private boolean reserveFromDatabase(Map<UUID, Stock> stockMap, List<Map<String, Object>> stockRequests) {
+        for (Map<String, Object> req : stockRequests) {
+            Stock stock = stockMap.get(UUID.fromString(req.get("menuId").toString()));
+            if (stock == null || stock.getStock() < Long.parseLong(req.get("quantity").toString())) {
+                return false;
+            }
+        }
+
+        applyDelta(stockMap, stockRequests, false);
+        stockRequests.forEach(req -> {
+            UUID menuId = UUID.fromString(req.get("menuId").toString());
+            stockKeyLayout.set(menuId, stockMap.get(menuId).getStock());
+        });
+        return true;
+    }
+
     @Transactional
     public void processStockRequest(List<Map<String, Object>> stockRequests, String headerOrderId) {
         processStock(stockRequests, headerOrderId, false);
     }
 
     @Transactional
-    public void processStockRefund(List<Map<String, Object>> stockRequests) {
-        processStock(stockRequests, null, true);
+    public void processStockRefund(List<Map<String, Object>> stockRequests, String headerOrderId) {
+        processStock(stockRequests, headerOrderId, true);
     }
 
     @Recover
@@ -164,4 +564,4 @@ public class StockService {
         log.error("DB 재고 업데이트 재시도 모두 실패: {}", stockRequests, e);
         throw e;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package app.domain.menu.model.dto.response;
 
+import app.domain.menu.cache.MenuSnapshot;
 import app.domain.menu.model.entity.Menu;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,4 +25,12 @@ public class MenuInfoResponse {
 			.price(menu.getPrice())
 			.build();
 	}
+
+	public static MenuInfoResponse from(MenuSnapshot menu) {
+		return MenuInfoResponse.builder()
+			.menuId(menu.getMenuId())
+			.name(menu.getName())
+			.price(menu.getPrice())
+			.build();
+	}
 }
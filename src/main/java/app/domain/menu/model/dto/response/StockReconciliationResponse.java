@@ -0,0 +1,30 @@
+package app.domain.menu.model.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReconciliationResponse {
+	private int checkedCount;
+	private long unflushedEntries;
+	private List<Mismatch> mismatches;
+
+	@Getter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Mismatch {
+		private UUID menuId;
+		private Long redisStock;
+		private Long dbStock;
+		private Long unflushedDelta;
+	}
+}
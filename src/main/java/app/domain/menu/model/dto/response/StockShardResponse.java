@@ -0,0 +1,18 @@
+package app.domain.menu.model.dto.response;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockShardResponse {
+	private UUID menuId;
+	private int shardCount;
+	private Long stock;
+}
@@ -0,0 +1,48 @@
+package app.domain.menu.model.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * DB 에 반영한 재고 원장 항목(stock:ledger 스트림 id)
+ * 재고 반영과 같은 트랜잭션에 기록해 XACK 전에 죽어 다시 읽힌 항목을 건너뛴다.
+ * XDEL 까지 끝난 항목은 다시 읽힐 수 없으므로 바로 지운다.
+ */
+@Entity
+@Table(name = "p_stock_ledger_applied")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockLedgerApplied implements Persistable<String> {
+
+	@Id
+	@Column(length = 64)
+	private String streamId;
+
+	@Column(nullable = false)
+	private LocalDateTime appliedAt;
+
+	public StockLedgerApplied(String streamId, LocalDateTime appliedAt) {
+		this.streamId = streamId;
+		this.appliedAt = appliedAt;
+	}
+
+	@Override
+	public String getId() {
+		return streamId;
+	}
+
+	// 항상 새로 기록만 하므로 저장 전 조회(merge)를 건너뛴다
+	@Override
+	public boolean isNew() {
+		return true;
+	}
+}
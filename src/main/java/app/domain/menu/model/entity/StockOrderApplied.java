@@ -0,0 +1,47 @@
+package app.domain.menu.model.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * DB 재고에 차감을 반영한 주문
+ * 재고 차감과 같은 트랜잭션에 기록해, 확정되지 못하고 남은 예약(RESERVED)을 확정할지 되돌릴지 판단한다.
+ */
+@Entity
+@Table(name = "p_stock_order_applied")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockOrderApplied implements Persistable<String> {
+
+	@Id
+	@Column(length = 64)
+	private String orderId;
+
+	@Column(nullable = false)
+	private LocalDateTime appliedAt;
+
+	public StockOrderApplied(String orderId, LocalDateTime appliedAt) {
+		this.orderId = orderId;
+		this.appliedAt = appliedAt;
+	}
+
+	@Override
+	public String getId() {
+		return orderId;
+	}
+
+	// 항상 새로 기록만 하므로 저장 전 조회(merge)를 건너뛴다
+	@Override
+	public boolean isNew() {
+		return true;
+	}
+}
@@ -1,12 +1,27 @@
 package app.domain.menu.model.repository;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import app.domain.menu.model.entity.Category;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
+
+	// 카테고리 트리 스냅샷용. 부모는 id 만 읽어 연관 엔티티를 불러오지 않는다
+	@Query(value = "select c.category_id as \"categoryId\", c.category_name as \"categoryName\", "
+		+ "c.parent_category_id as \"parentCategoryId\" from p_category c", nativeQuery = true)
+	List<CategoryNodeView> findAllNodes();
+
+	interface CategoryNodeView {
+		UUID getCategoryId();
+
+		String getCategoryName();
+
+		UUID getParentCategoryId();
+	}
 }
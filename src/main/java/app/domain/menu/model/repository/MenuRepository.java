@@ -1,5 +1,6 @@
 package app.domain.menu.model.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,6 +8,8 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import app.domain.menu.model.entity.Menu;
@@ -25,4 +28,24 @@ public interface MenuRepository extends JpaRepository<Menu, UUID> {
 	List<Menu> findAllByMenuIdInAndHiddenIsFalse(List<UUID> menuIds);
 
 	List<Menu> findByStore(Store store);
+
+	// @SQLRestriction 을 거치지 않도록 native 로 조회해 삭제된 메뉴도 스냅샷에 담는다
+	@Query(value = "select m.menu_id as \"menuId\", m.store_id as \"storeId\", m.name as \"name\", m.price as \"price\", "
+		+ "m.is_hidden as \"hidden\", (m.deleted_at is not null) as \"deleted\" from p_menu m where m.menu_id in (:menuIds)",
+		nativeQuery = true)
+	List<MenuSnapshotView> findSnapshotsByMenuIdIn(@Param("menuIds") Collection<UUID> menuIds);
+
+	interface MenuSnapshotView {
+		UUID getMenuId();
+
+		UUID getStoreId();
+
+		String getName();
+
+		Long getPrice();
+
+		Boolean getHidden();
+
+		Boolean getDeleted();
+	}
 }
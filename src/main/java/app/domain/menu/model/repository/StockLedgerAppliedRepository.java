@@ -0,0 +1,25 @@
+package app.domain.menu.model.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import app.domain.menu.model.entity.StockLedgerApplied;
+
+@Repository
+public interface StockLedgerAppliedRepository extends JpaRepository<StockLedgerApplied, String> {
+
+	@Query("select a.streamId from StockLedgerApplied a where a.streamId in :streamIds")
+	List<String> findAppliedIds(@Param("streamIds") Collection<String> streamIds);
+
+	// XDEL 뒤 삭제가 실패해 남은 기록 정리
+	@Modifying
+	@Query("delete from StockLedgerApplied a where a.appliedAt < :before")
+	int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
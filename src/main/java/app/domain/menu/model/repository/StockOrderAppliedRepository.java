@@ -0,0 +1,19 @@
+package app.domain.menu.model.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import app.domain.menu.model.entity.StockOrderApplied;
+
+@Repository
+public interface StockOrderAppliedRepository extends JpaRepository<StockOrderApplied, String> {
+
+	@Modifying
+	@Query("delete from StockOrderApplied a where a.appliedAt < :before")
+	int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
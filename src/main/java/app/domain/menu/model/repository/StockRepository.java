@@ -5,8 +5,12 @@ import jakarta.persistence.LockModeType;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,4 +23,20 @@ public interface StockRepository extends JpaRepository<Stock, UUID> {
 
     @Lock(LockModeType.OPTIMISTIC)
     Optional<Stock> findByMenu_MenuId(UUID menuId);
+
+    @Modifying
+    @Query("update Stock s set s.stock = s.stock + :delta, s.version = s.version + 1 where s.menu.menuId = :menuId")
+    int addStock(@Param("menuId") UUID menuId, @Param("delta") Long delta);
+
+    @Query("select s.menu.menuId as menuId, s.stock as stock from Stock s")
+    List<MenuStockView> findAllMenuStocks();
+
+    @Query("select s.menu.menuId as menuId, s.stock as stock from Stock s where s.menu.menuId in :menuIds")
+    List<MenuStockView> findMenuStocks(@Param("menuIds") Collection<UUID> menuIds);
+
+    interface MenuStockView {
+        UUID getMenuId();
+
+        Long getStock();
+    }
 }
@@ -4,10 +4,12 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.menu.cache.MenuChangedEvent;
 import app.domain.menu.model.dto.request.MenuCreateRequest;
 import app.domain.menu.model.dto.request.MenuDeleteRequest;
 import app.domain.menu.model.dto.request.MenuListRequest;
@@ -22,6 +24,9 @@ import app.domain.menu.model.entity.Stock;
 import app.domain.menu.model.repository.MenuRepository;
 import app.domain.menu.model.repository.StockRepository;
 import app.domain.menu.status.StoreMenuErrorCode;
+import app.domain.menu.stock.StockLedger;
+import app.domain.menu.stock.StockReservation;
+import app.domain.outbox.service.StoreProjectionOutbox;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
 import app.domain.store.status.StoreErrorCode;
@@ -34,6 +39,10 @@ public class StoreMenuService {
 	private final MenuRepository menuRepository;
 	private final StoreRepository storeRepository;
 	private final StockRepository stockRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final StoreProjectionOutbox storeProjectionOutbox;
+	private final StockLedger stockLedger;
+	private final StockReservation stockReservation;
 
 	@Transactional
 	public MenuCreateResponse createMenu(MenuCreateRequest request, Long userId) {
@@ -51,6 +60,7 @@ public class StoreMenuService {
 		Menu menu = new Menu(null, store, request.getName(), request.getPrice(), request.getDescription(), false, null);
 
 		Menu savedMenu = menuRepository.save(menu);
+		storeProjectionOutbox.menuCreated(savedMenu);
 
 		return new MenuCreateResponse(savedMenu.getMenuId(), savedMenu.getName());
 	}
@@ -74,6 +84,8 @@ public class StoreMenuService {
 		menu.update(request.getName(), request.getPrice(), request.getDescription(), request.getIsHidden());
 
 		Menu updatedMenu = menuRepository.save(menu);
+		eventPublisher.publishEvent(new MenuChangedEvent(this, List.of(updatedMenu.getMenuId())));
+		storeProjectionOutbox.menuUpdated(updatedMenu);
 
 		return new MenuUpdateResponse(updatedMenu.getMenuId(), updatedMenu.getName());
 	}
@@ -94,6 +106,8 @@ public class StoreMenuService {
 
 		menu.markAsDeleted();
 		menuRepository.save(menu);
+		eventPublisher.publishEvent(new MenuChangedEvent(this, List.of(menu.getMenuId())));
+		storeProjectionOutbox.menuDeleted(menu);
 
 		return new MenuDeleteResponse(menu.getMenuId(), "DELETED");
 	}
@@ -110,6 +124,8 @@ public class StoreMenuService {
 
 		menu.updateVisible(visible);
 		Menu updatedMenu = menuRepository.save(menu);
+		eventPublisher.publishEvent(new MenuChangedEvent(this, List.of(updatedMenu.getMenuId())));
+		storeProjectionOutbox.menuVisibilityChanged(updatedMenu);
 
 		return new MenuUpdateResponse(updatedMenu.getMenuId(), updatedMenu.getName());
 	}
@@ -138,9 +154,23 @@ public class StoreMenuService {
 			throw new GeneralException(StoreMenuErrorCode.NOT_STORE_OWNER);
 		}
 
-		Stock stock = stockRepository.findByMenu_MenuId(request.getMenuId())
-			.orElse(Stock.builder().menu(menu).stock(0L).build());
+		Stock stock = stockRepository.findByMenu_MenuId(request.getMenuId()).orElse(null);
 
+		if (stockLedger.isEnabled()) {
+			// write-behind 모드에서는 Redis 가 기준이다. DB 는 원장에 남긴 차이로만 따라가게 해 반영 전 차감을 덮지 않는다
+			long stored = request.getQuantity();
+			if (stock == null) {
+				stockRepository.save(Stock.builder().menu(menu).stock(stored).build());
+			} else {
+				stored = stock.getStock();
+			}
+			stockReservation.reset(menu.getMenuId(), request.getQuantity(), stored);
+			return new MenuUpdateResponse(menu.getMenuId(), menu.getName());
+		}
+
+		if (stock == null) {
+			stock = Stock.builder().menu(menu).stock(0L).build();
+		}
 		stock.setStock(request.getQuantity());
 		stockRepository.save(stock);
 
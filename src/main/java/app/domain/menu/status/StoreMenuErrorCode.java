@@ -23,7 +23,10 @@ public enum StoreMenuErrorCode implements BaseCode {
 	USER_NOT_FOUND_FOR_MENU(HttpStatus.NOT_FOUND, "MENU0010", "메뉴 관련 작업을 수행할 사용자를 찾을 수 없습니다."),
 	MENU_CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "MENU011", "메뉴 카테고리를 찾을 수 없습니다."),
 	CONCURRENCY_ERROR(HttpStatus.CONFLICT, "MENU012", "데이터 처리 중 충돌이 발생했습니다. 다시 시도해 주세요."),
-	NOT_STORE_OWNER(HttpStatus.BAD_REQUEST,"Menu013","가게 점주만 재고를 수정할 수 있습니다.");
+	NOT_STORE_OWNER(HttpStatus.BAD_REQUEST,"Menu013","가게 점주만 재고를 수정할 수 있습니다."),
+	INVALID_STOCK_SHARD_COUNT(HttpStatus.BAD_REQUEST, "MENU014", "재고 샤드 수가 허용 범위를 벗어났습니다."),
+	STOCK_NOT_LOADED(HttpStatus.NOT_FOUND, "MENU015", "Redis 에 적재된 재고가 없습니다."),
+	STOCK_SHARDING_DISABLED(HttpStatus.BAD_REQUEST, "MENU016", "재고 샤드 기능이 꺼져 있습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
@@ -19,7 +19,9 @@ public enum StoreMenuSuccessStatus implements BaseCode {
 	MENU_INFO_BATCH_SUCCESS(HttpStatus.OK, "MENU200", "메뉴 일괄 조회 성공"),
 	CUSTOMER_GET_STORE_MENU_LIST_OK(HttpStatus.OK, "MENU204", "가게 메뉴 목록 조회 성공"),
 	STOCK_DECREASE_SUCCESS(HttpStatus.OK, "MENU205", "재고가 성공적으로 감소되었습니다."),
-	STOCK_UPDATED_SUCCESS(HttpStatus.OK,"Menu206","재고가 성공적으로 수정되었습니다.");
+	STOCK_UPDATED_SUCCESS(HttpStatus.OK,"Menu206","재고가 성공적으로 수정되었습니다."),
+	STOCK_RECONCILIATION_SUCCESS(HttpStatus.OK, "MENU207", "재고 정합성 점검 성공"),
+	STOCK_SHARD_UPDATED_SUCCESS(HttpStatus.OK, "MENU208", "재고 샤드 구성이 변경되었습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
@@ -0,0 +1,294 @@
+package app.domain.menu.stock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import app.global.config.RedisScriptRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 메뉴 재고 키 구성
+ * - 기본: stock:{menuId} 단일 카운터
+ * - 샤드: stock:shards 해시에 menuId -> N 이 있으면 stock:{menuId}:0..N-1 에 재고를 나눠 담는다 (인기 메뉴만 전환)
+ * 구성은 클라이언트가 stock:shards 를 읽어 두고, 스크립트에 그 메뉴의 재고 키를 모두 KEYS 로 넘긴다.
+ * 스크립트는 넘겨받은 샤드 수가 stock:shards 와 같은지 확인하고, 다르면 -4 를 돌려줘 구성을 다시 읽고 재시도하게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockKeyLayout {
+
+	public static final String SHARDS_KEY = "stock:shards";
+
+	// 재고 스크립트 공통 함수
+	// 재고 줄 하나 = ARGV 의 menuId, 샤드 수, 값 + KEYS 에 이어지는 그 메뉴의 재고 키 (클라이언트가 고른 샤드부터)
+	// stock_check 는 고른 샤드로 충분하면 나머지 샤드를 읽지 않는다 (1: 충분, 0: 부족, -2: 적재 전)
+	// stock_take 는 고른 샤드부터 차감하고 모자라면 다음 샤드에서 마저 차감한다. stock_put 은 고른 샤드 하나에 되돌린다
+	public static final String LUA_FUNCTIONS = """
+		local function stock_lines(keyFrom, argFrom)
+		    local lines = {}
+		    local k = keyFrom
+		    for a = argFrom, #ARGV, 3 do
+		        local line = { menuId = ARGV[a], count = tonumber(ARGV[a + 1]), value = ARGV[a + 2], keys = {} }
+		        for s = 1, line.count do
+		            line.keys[s] = KEYS[k]
+		            k = k + 1
+		        end
+		        lines[#lines + 1] = line
+		    end
+		    return lines
+		end
+		local function stock_layout_ok(shards, lines)
+		    for _, line in ipairs(lines) do
+		        if (tonumber(redis.call('HGET', shards, line.menuId)) or 1) ~= line.count then
+		            return false
+		        end
+		    end
+		    return true
+		end
+		local function stock_total(line)
+		    local total
+		    for _, key in ipairs(line.keys) do
+		        local value = redis.call('GET', key)
+		        if value then
+		            total = (total or 0) + tonumber(value)
+		        end
+		    end
+		    return total
+		end
+		local function stock_check(line, quantity)
+		    local total
+		    for _, key in ipairs(line.keys) do
+		        local value = redis.call('GET', key)
+		        if value then
+		            total = (total or 0) + tonumber(value)
+		            if total >= quantity then
+		                return 1
+		            end
+		        end
+		    end
+		    return total and 0 or -2
+		end
+		local function stock_take(line, quantity)
+		    local remaining = quantity
+		    for _, key in ipairs(line.keys) do
+		        local available = tonumber(redis.call('GET', key)) or 0
+		        if available > 0 then
+		            local take = math.min(available, remaining)
+		            redis.call('DECRBY', key, string.format('%d', take))
+		            remaining = remaining - take
+		            if remaining <= 0 then
+		                return
+		            end
+		        end
+		    end
+		end
+		local function stock_put(line, quantity)
+		    redis.call('INCRBY', line.keys[1], quantity)
+		end
+		local function stock_set(line, total)
+		    local n = #line.keys
+		    local base = math.floor(total / n)
+		    local rest = total - base * n
+		    for s = 1, n do
+		        redis.call('SET', line.keys[s], string.format('%d', s <= rest and base + 1 or base))
+		    end
+		end
+		""";
+
+	// KEYS: stock:shards, 재고 키... / ARGV: mode(nx/set), (menuId, 샤드 수, 재고)...
+	// nx 는 이미 적재된 메뉴를 건너뛰고, set 은 덮어쓴다. 샤드 메뉴는 재고를 샤드에 고르게 나눈다
+	private static final String LOAD_SCRIPT = LUA_FUNCTIONS + """
+		local lines = stock_lines(2, 2)
+		if not stock_layout_ok(KEYS[1], lines) then
+		    return -4
+		end
+		for _, line in ipairs(lines) do
+		    if ARGV[1] == 'set' or not stock_total(line) then
+		        stock_set(line, tonumber(line.value))
+		    end
+		end
+		return 1
+		""";
+
+	// KEYS: stock:shards, 현재 재고 키..., 새 재고 키... / ARGV: (menuId, 현재 샤드 수, 0), (menuId, 새 샤드 수, 0)
+	// 합계를 보존한 채 샤드 수를 바꾼다. 적재되지 않은 메뉴는 -1
+	private static final String RESHARD_SCRIPT = LUA_FUNCTIONS + """
+		local lines = stock_lines(2, 1)
+		local current, target = lines[1], lines[2]
+		if not stock_layout_ok(KEYS[1], { current }) then
+		    return -4
+		end
+		local total = stock_total(current)
+		if not total then
+		    return -1
+		end
+		for _, key in ipairs(current.keys) do
+		    redis.call('DEL', key)
+		end
+		if target.count > 1 then
+		    redis.call('HSET', KEYS[1], target.menuId, target.count)
+		else
+		    redis.call('HDEL', KEYS[1], target.menuId)
+		end
+		stock_set(target, total)
+		return total
+		""";
+
+	private static final long LAYOUT_CHANGED = -4;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisScriptRegistry scriptRegistry;
+
+	// 샤드 키 사용 여부. 꺼져 있으면 전환 API 를 막고 구성을 주기적으로 읽지 않는다 (-4 를 받으면 그때 읽는다)
+	@Getter
+	@Value("${stock.shard.enabled:false}")
+	private boolean enabled;
+
+	private RedisScriptRegistry.Script loadScript;
+	private RedisScriptRegistry.Script reshardScript;
+
+	private volatile Map<String, Integer> shards = Map.of();
+
+	@PostConstruct
+	void registerScripts() {
+		loadScript = scriptRegistry.register("stock.load", LOAD_SCRIPT);
+		reshardScript = scriptRegistry.register("stock.reshard", RESHARD_SCRIPT);
+	}
+
+	public static String key(Object menuId) {
+		return "stock:" + menuId;
+	}
+
+	@Scheduled(fixedDelayString = "${stock.shard.refresh-interval-ms:5000}")
+	public void refreshPeriodically() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			refresh();
+		} catch (Exception e) {
+			log.warn("재고 샤드 구성 조회 실패: {}", e.getMessage());
+		}
+	}
+
+	public void refresh() {
+		Map<String, Integer> loaded = new HashMap<>();
+		redisTemplate.<String, String>opsForHash().entries(SHARDS_KEY)
+			.forEach((menuId, count) -> loaded.put(menuId, Integer.valueOf(count)));
+		shards = loaded;
+	}
+
+	public int shardCount(Object menuId) {
+		return shards.getOrDefault(menuId.toString(), 1);
+	}
+
+	// 재고 줄 하나를 스크립트 인자에 붙인다. 샤드 메뉴는 요청마다 고른 샤드부터 모든 샤드 키를 넘긴다
+	public void addLine(List<String> keys, List<String> args, Object menuId, Object value) {
+		int count = shardCount(menuId);
+		args.add(menuId.toString());
+		args.add(String.valueOf(count));
+		args.add(String.valueOf(value));
+		keys.addAll(keys(menuId, count));
+	}
+
+	public void set(UUID menuId, long stock) {
+		setAll(Map.of(menuId, stock));
+	}
+
+	public void setAll(Map<UUID, Long> stocks) {
+		load("set", stocks);
+	}
+
+	public void setIfAbsent(Map<UUID, Long> stocks) {
+		load("nx", stocks);
+	}
+
+	// 메뉴별 전체 재고(샤드 합계). Redis 에 없는 메뉴는 null
+	public List<Long> totals(List<UUID> menuIds) {
+		refresh();
+		List<String> keys = new ArrayList<>();
+		List<Integer> counts = new ArrayList<>(menuIds.size());
+		menuIds.forEach(menuId -> {
+			int count = shardCount(menuId);
+			counts.add(count);
+			keys.addAll(keys(menuId, count));
+		});
+		List<String> values = redisTemplate.opsForValue().multiGet(keys);
+		List<Long> result = new ArrayList<>(menuIds.size());
+		int k = 0;
+		for (int count : counts) {
+			Long total = null;
+			for (int s = 0; s < count; s++, k++) {
+				String value = values == null ? null : values.get(k);
+				if (value != null) {
+					total = (total == null ? 0 : total) + Long.parseLong(value);
+				}
+			}
+			result.add(total);
+		}
+		return result;
+	}
+
+	// 현재 재고를 보존한 채 샤드 수를 바꾼다 (1 이면 단일 키로 되돌린다). 적재되지 않은 메뉴는 -1
+	public long reshard(UUID menuId, int shardCount) {
+		long total = LAYOUT_CHANGED;
+		for (int attempt = 0; attempt < 2 && total == LAYOUT_CHANGED; attempt++) {
+			Object count = redisTemplate.opsForHash().get(SHARDS_KEY, menuId.toString());
+			int current = count == null ? 1 : Integer.parseInt(count.toString());
+			List<String> keys = new ArrayList<>();
+			keys.add(SHARDS_KEY);
+			keys.addAll(keys(menuId, current));
+			keys.addAll(keys(menuId, shardCount));
+			List<String> args = List.of(menuId.toString(), String.valueOf(current), "0",
+				menuId.toString(), String.valueOf(shardCount), "0");
+			total = toLong(scriptRegistry.execute(reshardScript, ReturnType.INTEGER, keys, args));
+		}
+		refresh();
+		return total;
+	}
+
+	private void load(String mode, Map<UUID, Long> stocks) {
+		for (int attempt = 0; attempt < 2; attempt++) {
+			List<String> keys = new ArrayList<>();
+			keys.add(SHARDS_KEY);
+			List<String> args = new ArrayList<>(stocks.size() * 3 + 1);
+			args.add(mode);
+			stocks.forEach((menuId, stock) -> addLine(keys, args, menuId, stock));
+			if (toLong(scriptRegistry.execute(loadScript, ReturnType.INTEGER, keys, args)) != LAYOUT_CHANGED) {
+				return;
+			}
+			refresh();
+		}
+		throw new IllegalStateException("재고 샤드 구성이 적재 중에 바뀌었습니다.");
+	}
+
+	private List<String> keys(Object menuId, int count) {
+		if (count <= 1) {
+			return List.of(key(menuId));
+		}
+		int start = ThreadLocalRandom.current().nextInt(count);
+		List<String> keys = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			keys.add(key(menuId) + ":" + (start + i) % count);
+		}
+		return keys;
+	}
+
+	private static long toLong(Object value) {
+		return value == null ? 0 : Long.parseLong(value.toString());
+	}
+}
@@ -0,0 +1,22 @@
+package app.domain.menu.stock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * write-behind 재고 원장(stock:ledger 스트림)
+ * 예약/복구 스크립트(StockReservation)가 재고 변경과 함께 menuId, delta, orderId 를 기록하고
+ * StockLedgerFlusher 가 주기적으로 DB 에 반영한다.
+ */
+@Component
+public class StockLedger {
+
+	public static final String STREAM_KEY = "stock:ledger";
+
+	@Value("${stock.write-behind.enabled:false}")
+	private boolean enabled;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+}
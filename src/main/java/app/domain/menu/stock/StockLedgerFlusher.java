@@ -0,0 +1,193 @@
+package app.domain.menu.stock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.menu.model.entity.StockLedgerApplied;
+import app.domain.menu.model.repository.StockLedgerAppliedRepository;
+import app.domain.menu.model.repository.StockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockLedgerFlusher {
+
+	static final String GROUP = "stock-ledger-writer";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final StockLedger stockLedger;
+	private final StockRepository stockRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final StockLedgerAppliedRepository stockLedgerAppliedRepository;
+
+	@Value("${stock.write-behind.consumer:${HOSTNAME:stock-ledger}}")
+	private String consumerName;
+
+	@Value("${stock.write-behind.batch-size:1000}")
+	private int batchSize;
+
+	@Value("${stock.write-behind.claim-idle-ms:60000}")
+	private long claimIdleMs;
+
+	@Value("${stock.write-behind.applied-retention-hours:24}")
+	private long appliedRetentionHours;
+
+	private volatile boolean groupReady = false;
+
+	// 재시작 시 이전에 읽고 반영하지 못한 원장 항목(pending)을 먼저 재처리한다
+	@EventListener(ApplicationReadyEvent.class)
+	public void replayOnStartup() {
+		if (!stockLedger.isEnabled()) {
+			return;
+		}
+		ensureGroup();
+		claimStalePending();
+		int replayed = 0;
+		int flushed;
+		while ((flushed = flush(ReadOffset.from("0"))) > 0) {
+			replayed += flushed;
+		}
+		log.info("재고 원장 재처리 완료: {} 건", replayed);
+	}
+
+	@Scheduled(fixedDelayString = "${stock.write-behind.flush-interval-ms:1000}")
+	public void flushPeriodically() {
+		if (!stockLedger.isEnabled()) {
+			return;
+		}
+		try {
+			ensureGroup();
+			claimStalePending();
+			flush(ReadOffset.from("0"));
+			while (flush(ReadOffset.lastConsumed()) == batchSize) {
+				// 한 주기에 밀린 원장을 모두 비운다
+			}
+		} catch (Exception e) {
+			log.error("재고 원장 반영 실패, 다음 주기에 재시도합니다.", e);
+		}
+	}
+
+	// 반영한 스트림 id 를 재고 변경과 같은 트랜잭션에 기록한다. XACK 전에 죽어 다시 읽힌 항목은 건너뛰고 ACK 만 한다
+	private int flush(ReadOffset offset) {
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+			Consumer.from(GROUP, consumerName),
+			StreamReadOptions.empty().count(batchSize),
+			offsets(StreamOffset.create(StockLedger.STREAM_KEY, offset)));
+		if (records == null || records.isEmpty()) {
+			return 0;
+		}
+
+		List<String> streamIds = records.stream().map(record -> record.getId().getValue()).toList();
+		Integer applied = transactionTemplate.execute(status -> {
+			Set<String> alreadyApplied = new HashSet<>(stockLedgerAppliedRepository.findAppliedIds(streamIds));
+			// menuId 순으로 정렬해 여러 파드가 동시에 반영할 때 락 순서를 고정한다
+			Map<UUID, Long> deltas = new TreeMap<>();
+			List<StockLedgerApplied> entries = new ArrayList<>();
+			LocalDateTime now = LocalDateTime.now();
+			for (MapRecord<String, Object, Object> record : records) {
+				if (alreadyApplied.contains(record.getId().getValue())) {
+					continue;
+				}
+				Map<Object, Object> value = record.getValue();
+				UUID menuId = UUID.fromString(value.get("menuId").toString());
+				deltas.merge(menuId, Long.parseLong(value.get("delta").toString()), Long::sum);
+				entries.add(new StockLedgerApplied(record.getId().getValue(), now));
+			}
+			deltas.forEach((menuId, delta) -> {
+				if (delta != 0 && stockRepository.addStock(menuId, delta) == 0) {
+					log.warn("재고 원장 반영 대상 없음: menuId={}, delta={}", menuId, delta);
+				}
+			});
+			stockLedgerAppliedRepository.saveAll(entries);
+			return entries.size();
+		});
+
+		RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+		redisTemplate.opsForStream().acknowledge(StockLedger.STREAM_KEY, GROUP, ids);
+		redisTemplate.opsForStream().delete(StockLedger.STREAM_KEY, ids);
+		try {
+			stockLedgerAppliedRepository.deleteAllByIdInBatch(streamIds);
+		} catch (Exception e) {
+			// 남은 기록은 purgeApplied 가 정리한다
+			log.warn("재고 원장 반영 기록 삭제 실패: {} 건, {}", streamIds.size(), e.getMessage());
+		}
+		int skipped = records.size() - (applied == null ? 0 : applied);
+		if (skipped > 0) {
+			log.info("이미 반영된 재고 원장 항목 건너뜀: {} 건", skipped);
+		}
+		log.debug("재고 원장 반영: {} 건", records.size());
+		return records.size();
+	}
+
+	@Scheduled(fixedDelayString = "${stock.write-behind.purge-interval-ms:3600000}")
+	public void purgeApplied() {
+		if (!stockLedger.isEnabled()) {
+			return;
+		}
+		Integer purged = transactionTemplate.execute(status ->
+			stockLedgerAppliedRepository.deleteAppliedBefore(LocalDateTime.now().minusHours(appliedRetentionHours)));
+		if (purged != null && purged > 0) {
+			log.info("재고 원장 반영 기록 정리: {} 건", purged);
+		}
+	}
+
+	@SafeVarargs
+	private static <T> T[] offsets(T... offsets) {
+		return offsets;
+	}
+
+	// 종료된 다른 파드가 읽고 반영하지 못한 항목을 가져온다
+	private void claimStalePending() {
+		PendingMessages pending = redisTemplate.opsForStream()
+			.pending(StockLedger.STREAM_KEY, GROUP, Range.unbounded(), batchSize);
+		RecordId[] stale = pending.stream()
+			.filter(message -> !consumerName.equals(message.getConsumerName()))
+			.filter(message -> message.getElapsedTimeSinceLastDelivery().toMillis() >= claimIdleMs)
+			.map(PendingMessage::getId)
+			.toArray(RecordId[]::new);
+		if (stale.length > 0) {
+			redisTemplate.opsForStream().claim(StockLedger.STREAM_KEY, GROUP, consumerName,
+				Duration.ofMillis(claimIdleMs), stale);
+			log.info("재고 원장 pending 항목 인수: {} 건", stale.length);
+		}
+	}
+
+	private void ensureGroup() {
+		if (groupReady) {
+			return;
+		}
+		try {
+			redisTemplate.opsForStream().createGroup(StockLedger.STREAM_KEY, ReadOffset.from("0"), GROUP);
+		} catch (Exception e) {
+			// BUSYGROUP: 이미 생성된 그룹
+			log.debug("재고 원장 컨슈머 그룹 생성 생략: {}", e.getMessage());
+		}
+		groupReady = true;
+	}
+}
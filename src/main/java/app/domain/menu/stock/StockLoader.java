@@ -0,0 +1,32 @@
+package app.domain.menu.stock;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import app.domain.menu.model.repository.StockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockLoader {
+
+	private final StockRepository stockRepository;
+	private final StockKeyLayout stockKeyLayout;
+
+	// Redis 에 없는 메뉴 재고를 DB 에서 채운다. 그 사이 다른 요청이 먼저 채운 키는 덮어쓰지 않는다
+	public int loadMissing(Collection<UUID> menuIds) {
+		Map<UUID, Long> stocks = new HashMap<>();
+		stockRepository.findMenuStocks(menuIds).forEach(view -> stocks.put(view.getMenuId(), view.getStock()));
+		if (!stocks.isEmpty()) {
+			stockKeyLayout.setIfAbsent(stocks);
+		}
+		log.info("재고 지연 적재: 요청 {} 개, 적재 {} 개", menuIds.size(), stocks.size());
+		return stocks.size();
+	}
+}
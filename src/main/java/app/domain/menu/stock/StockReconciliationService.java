@@ -0,0 +1,74 @@
+package app.domain.menu.stock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.domain.menu.model.dto.response.StockReconciliationResponse;
+import app.domain.menu.model.repository.StockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReconciliationService {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final StockRepository stockRepository;
+	private final StockKeyLayout stockKeyLayout;
+
+	// Redis 재고 = DB 재고 + 아직 반영되지 않은 원장 합계 여야 한다
+	@Transactional(readOnly = true)
+	public StockReconciliationResponse reconcile() {
+		Map<UUID, Long> unflushed = new HashMap<>();
+		List<MapRecord<String, Object, Object>> entries =
+			redisTemplate.opsForStream().range(StockLedger.STREAM_KEY, Range.unbounded());
+		if (entries != null) {
+			entries.forEach(entry -> unflushed.merge(
+				UUID.fromString(entry.getValue().get("menuId").toString()),
+				Long.parseLong(entry.getValue().get("delta").toString()),
+				Long::sum));
+		}
+
+		List<StockRepository.MenuStockView> dbStocks = stockRepository.findAllMenuStocks();
+		List<StockReconciliationResponse.Mismatch> mismatches = new ArrayList<>();
+		for (int from = 0; from < dbStocks.size(); from += CHUNK_SIZE) {
+			List<StockRepository.MenuStockView> chunk = dbStocks.subList(from, Math.min(from + CHUNK_SIZE, dbStocks.size()));
+			List<Long> totals = stockKeyLayout.totals(chunk.stream().map(StockRepository.MenuStockView::getMenuId).toList());
+
+			for (int i = 0; i < chunk.size(); i++) {
+				StockRepository.MenuStockView view = chunk.get(i);
+				Long redisStock = totals.get(i);
+				long delta = unflushed.getOrDefault(view.getMenuId(), 0L);
+				if (redisStock == null || redisStock != view.getStock() + delta) {
+					mismatches.add(StockReconciliationResponse.Mismatch.builder()
+						.menuId(view.getMenuId())
+						.redisStock(redisStock)
+						.dbStock(view.getStock())
+						.unflushedDelta(delta)
+						.build());
+				}
+			}
+		}
+
+		if (!mismatches.isEmpty()) {
+			log.warn("재고 정합성 불일치: {} / {} 건", mismatches.size(), dbStocks.size());
+		}
+		return StockReconciliationResponse.builder()
+			.checkedCount(dbStocks.size())
+			.unflushedEntries(entries == null ? 0 : entries.size())
+			.mismatches(mismatches)
+			.build();
+	}
+}
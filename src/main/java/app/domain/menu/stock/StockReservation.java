@@ -0,0 +1,416 @@
+package app.domain.menu.stock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import app.global.config.RedisScriptRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * 주문 단위 재고 예약 기록(stock:reservation:{orderId})
+ * - status: RESERVED(차감, DB 반영 전) -> CONFIRMED(확정) -> RELEASED(복구)
+ * - reservedAt: RESERVED 로 기록하거나 만료된 예약을 재전송이 다시 가져간 시각(ms), line:{menuId}: 예약 수량
+ * 같은 주문의 재전송/중복 환불은 기록 상태만 보고 스크립트 안에서 걸러진다.
+ * RESERVED 기록은 만료시키지 않고 stock:reservations:pending 에 올려 두어, reclaim-after 가 지나도록
+ * 확정되지 않으면 재전송 처리나 StockReservationSweeper 가 DB 반영 여부를 보고 확정하거나 되돌린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockReservation {
+
+	public static final String RECORD_PREFIX = "stock:reservation:";
+	public static final String PENDING_KEY = "stock:reservations:pending";
+
+	// KEYS: record, stock:ledger, stock:reservations:pending, stock:shards, 재고 키...
+	// ARGV: mode, ttl, ledger(1/0), orderId, now(ms), reclaimAfter(ms), (menuId, 샤드 수, quantity)...
+	// mode: reserve(RESERVED 로 차감) / commit(CONFIRMED 로 차감) / mark(차감 없이 CONFIRMED 기록) / confirm
+	//       / release / reclaim(만료된 RESERVED 만 복구)
+	// release/reclaim 은 기록의 line 이 모두 재고 줄로 선언되어 있어야 하며, 아니면 아무것도 바꾸지 않고 -3 을 돌려준다
+	// 선언한 샤드 구성이 stock:shards 와 다르면 아무것도 바꾸지 않고 -4 를 돌려준다
+	private static final String SCRIPT = StockKeyLayout.LUA_FUNCTIONS + """
+		local record = KEYS[1]
+		local mode = ARGV[1]
+		local ttl = tonumber(ARGV[2])
+		local ledger = ARGV[3] == '1'
+		local orderId = ARGV[4]
+		local now = tonumber(ARGV[5])
+		local reclaimAfter = tonumber(ARGV[6])
+		local lines = stock_lines(5, 7)
+		local codes = { RESERVED = 2, CONFIRMED = 3, RELEASED = 4 }
+		local status = redis.call('HGET', record, 'status')
+		local expired = status == 'RESERVED'
+		    and now - (tonumber(redis.call('HGET', record, 'reservedAt')) or 0) >= reclaimAfter
+
+		if mode == 'confirm' then
+		    if status ~= 'RESERVED' then
+		        return status and codes[status] or -1
+		    end
+		    redis.call('HSET', record, 'status', 'CONFIRMED')
+		    redis.call('ZREM', KEYS[3], orderId)
+		    redis.call('EXPIRE', record, ttl)
+		    return 1
+		end
+
+		if mode == 'release' or mode == 'reclaim' then
+		    if not status then
+		        return { '-1' }
+		    end
+		    if status == 'RELEASED' then
+		        return { '4' }
+		    end
+		    if mode == 'reclaim' and not expired then
+		        return { tostring(codes[status]) }
+		    end
+		    local declared = {}
+		    for _, line in ipairs(lines) do
+		        declared[line.menuId] = line
+		    end
+		    local fields = redis.call('HGETALL', record)
+		    for i = 1, #fields, 2 do
+		        if string.sub(fields[i], 1, 5) == 'line:' and not declared[string.sub(fields[i], 6)] then
+		            return { '-3' }
+		        end
+		    end
+		    if not stock_layout_ok(KEYS[4], lines) then
+		        return { '-4' }
+		    end
+		    local released = { '1' }
+		    for i = 1, #fields, 2 do
+		        if string.sub(fields[i], 1, 5) == 'line:' then
+		            local menuId = string.sub(fields[i], 6)
+		            stock_put(declared[menuId], fields[i + 1])
+		            if ledger then
+		                redis.call('XADD', KEYS[2], '*', 'menuId', menuId, 'delta', fields[i + 1], 'orderId', orderId)
+		            end
+		            released[#released + 1] = menuId
+		            released[#released + 1] = fields[i + 1]
+		        end
+		    end
+		    redis.call('HSET', record, 'status', 'RELEASED')
+		    redis.call('ZREM', KEYS[3], orderId)
+		    redis.call('EXPIRE', record, ttl)
+		    return released
+		end
+
+		if status then
+		    if expired then
+		        -- 재전송한 쪽이 이어서 처리하도록 예약 시각을 갱신해 스위퍼가 같은 예약을 동시에 되돌리지 않게 한다
+		        redis.call('HSET', record, 'reservedAt', now)
+		        redis.call('ZADD', KEYS[3], now, orderId)
+		        return 5
+		    end
+		    return codes[status]
+		end
+		if mode ~= 'mark' then
+		    if not stock_layout_ok(KEYS[4], lines) then
+		        return -4
+		    end
+		    for _, line in ipairs(lines) do
+		        local available = stock_check(line, tonumber(line.value))
+		        if available ~= 1 then
+		            return available
+		        end
+		    end
+		end
+		for _, line in ipairs(lines) do
+		    if mode ~= 'mark' then
+		        stock_take(line, tonumber(line.value))
+		        if ledger then
+		            redis.call('XADD', KEYS[2], '*', 'menuId', line.menuId, 'delta', '-' .. line.value, 'orderId', orderId)
+		        end
+		    end
+		    redis.call('HINCRBY', record, 'line:' .. line.menuId, line.value)
+		end
+		if mode == 'reserve' then
+		    redis.call('HSET', record, 'status', 'RESERVED', 'reservedAt', now)
+		    redis.call('ZADD', KEYS[3], now, orderId)
+		else
+		    redis.call('HSET', record, 'status', 'CONFIRMED')
+		    redis.call('EXPIRE', record, ttl)
+		end
+		return 1
+		""";
+
+	// 예약 기록 없이 재고만 바꾼다. orderId 가 없어 멱등 처리할 수 없는 요청용
+	// KEYS: stock:ledger, stock:shards, 재고 키... / ARGV: mode(take/put), ledger(1/0), (menuId, 샤드 수, quantity)...
+	// put 은 적재되지 않은 키를 만들지 않는다 (이후 DB 에서 적재될 때 반영된다)
+	private static final String UNTRACKED_SCRIPT = StockKeyLayout.LUA_FUNCTIONS + """
+		local take = ARGV[1] == 'take'
+		local ledger = ARGV[2] == '1'
+		local lines = stock_lines(3, 3)
+		if not stock_layout_ok(KEYS[2], lines) then
+		    return -4
+		end
+		if take then
+		    for _, line in ipairs(lines) do
+		        local available = stock_check(line, tonumber(line.value))
+		        if available ~= 1 then
+		            return available
+		        end
+		    end
+		end
+		for _, line in ipairs(lines) do
+		    local quantity = tonumber(line.value)
+		    if take then
+		        stock_take(line, quantity)
+		    elseif redis.call('EXISTS', line.keys[1]) == 1 then
+		        stock_put(line, line.value)
+		    end
+		    if ledger then
+		        redis.call('XADD', KEYS[1], '*', 'menuId', line.menuId, 'delta', take and '-' .. line.value or line.value, 'orderId', '')
+		    end
+		end
+		return 1
+		""";
+
+	// 점주가 재고를 지정한 값으로 바꾼다. 바뀐 차이만 원장에 남겨 DB 가 같은 값으로 따라오게 한다
+	// KEYS: stock:ledger, stock:shards, 재고 키... / ARGV: stored(Redis 에 없을 때 기준이 되는 DB 재고), (menuId, 샤드 수, stock)
+	private static final String RESET_SCRIPT = StockKeyLayout.LUA_FUNCTIONS + """
+		local line = stock_lines(3, 2)[1]
+		if not stock_layout_ok(KEYS[2], { line }) then
+		    return -4
+		end
+		local stock = tonumber(line.value)
+		local delta = stock - (stock_total(line) or tonumber(ARGV[1]))
+		stock_set(line, stock)
+		if delta ~= 0 then
+		    redis.call('XADD', KEYS[1], '*', 'menuId', line.menuId, 'delta', string.format('%d', delta), 'orderId', '')
+		end
+		return 1
+		""";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisScriptRegistry scriptRegistry;
+	private final StockLedger stockLedger;
+	private final StockKeyLayout stockKeyLayout;
+
+	private RedisScriptRegistry.Script script;
+	private RedisScriptRegistry.Script untrackedScript;
+	private RedisScriptRegistry.Script resetScript;
+
+	@Value("${stock.reservation.ttl-seconds:604800}")
+	private long ttlSeconds;
+
+	@Getter
+	@Value("${stock.reservation.reclaim-after-seconds:300}")
+	private long reclaimAfterSeconds;
+
+	public enum Result {
+		OK(1), OUT_OF_STOCK(0), IN_PROGRESS(2), CONFIRMED(3), RELEASED(4), EXPIRED(5), NOT_FOUND(-1), NOT_LOADED(-2),
+		LINES_MISMATCH(-3), LAYOUT_CHANGED(-4);
+
+		private final long code;
+
+		Result(long code) {
+			this.code = code;
+		}
+
+		public static Result of(Object code) {
+			if (code == null) {
+				return null;
+			}
+			long value = Long.parseLong(code.toString());
+			for (Result result : values()) {
+				if (result.code == value) {
+					return result;
+				}
+			}
+			throw new IllegalStateException("Unknown reservation result: " + code);
+		}
+	}
+
+	@Getter
+	public static class Release {
+		private final Result result;
+		private final List<Map<String, Object>> lines;
+
+		private Release(Result result, List<Map<String, Object>> lines) {
+			this.result = result;
+			this.lines = lines;
+		}
+
+		// release 스크립트 결과: [code, menuId, quantity, ...]
+		public static Release of(Object reply) {
+			if (!(reply instanceof List<?> values) || values.isEmpty()) {
+				return null;
+			}
+			List<Map<String, Object>> lines = new ArrayList<>();
+			for (int i = 1; i + 1 < values.size(); i += 2) {
+				lines.add(line(values.get(i).toString(), values.get(i + 1).toString()));
+			}
+			return new Release(Result.of(values.get(0)), lines);
+		}
+	}
+
+	@PostConstruct
+	void registerScript() {
+		script = scriptRegistry.register("stock.reservation", SCRIPT);
+		untrackedScript = scriptRegistry.register("stock.untracked", UNTRACKED_SCRIPT);
+		resetScript = scriptRegistry.register("stock.reset", RESET_SCRIPT);
+	}
+
+	// write-behind 모드에서는 DB 반영 단계가 없으므로 바로 확정 상태로 기록한다
+	public Result reserve(String orderId, List<Map<String, Object>> stockRequests) {
+		return Result.of(execute(ReturnType.INTEGER, reserveMode(), orderId, stockRequests));
+	}
+
+	public RedisScriptRegistry.Call reserveCall(String orderId, List<Map<String, Object>> stockRequests) {
+		return call(ReturnType.INTEGER, reserveMode(), orderId, stockRequests);
+	}
+
+	// DB 재고로 대신 처리한 주문. 이후 환불이 가능하도록 기록만 남긴다
+	public Result mark(String orderId, List<Map<String, Object>> stockRequests) {
+		return Result.of(execute(ReturnType.INTEGER, "mark", orderId, stockRequests));
+	}
+
+	public RedisScriptRegistry.Call markCall(String orderId, List<Map<String, Object>> stockRequests) {
+		return call(ReturnType.INTEGER, "mark", orderId, stockRequests);
+	}
+
+	public Result confirm(String orderId) {
+		return Result.of(execute(ReturnType.INTEGER, "confirm", orderId, Collections.emptyList()));
+	}
+
+	public RedisScriptRegistry.Call confirmCall(String orderId) {
+		return call(ReturnType.INTEGER, "confirm", orderId, Collections.emptyList());
+	}
+
+	// 기록의 line 을 먼저 읽어 복구할 재고 키를 KEYS 로 넘긴다. line 은 기록이 만들어진 뒤로 바뀌지 않는다
+	public Release release(String orderId) {
+		return Release.of(execute(ReturnType.MULTI, "release", orderId, lines(orderId)));
+	}
+
+	// 파이프라인에서는 기록을 먼저 읽을 수 없으므로 요청의 메뉴로 KEYS 를 만든다. 어긋나면 LINES_MISMATCH,
+	// 그 사이 샤드 구성이 바뀌었으면 LAYOUT_CHANGED 이므로 호출한 쪽이 release(orderId) 로 다시 복구한다
+	public RedisScriptRegistry.Call releaseCall(String orderId, List<Map<String, Object>> stockRequests) {
+		return call(ReturnType.MULTI, "release", orderId, stockRequests);
+	}
+
+	// reclaim-after 가 지나도록 RESERVED 로 남은 예약만 되돌린다. 그 사이 확정되었으면 해당 상태 코드를 돌려준다
+	public Release reclaim(String orderId) {
+		return Release.of(execute(ReturnType.MULTI, "reclaim", orderId, lines(orderId)));
+	}
+
+	// reclaim-after 가 지난 RESERVED 예약의 orderId (오래된 순)
+	public List<String> expired(int limit) {
+		Set<String> orderIds = redisTemplate.opsForZSet()
+			.rangeByScore(PENDING_KEY, 0, System.currentTimeMillis() - reclaimAfterSeconds * 1000, 0, limit);
+		return orderIds == null ? List.of() : List.copyOf(orderIds);
+	}
+
+	// 기록이 사라진 주문을 만료 목록에서 뺀다
+	public void forget(String orderId) {
+		redisTemplate.opsForZSet().remove(PENDING_KEY, orderId);
+	}
+
+	public Result take(List<Map<String, Object>> stockRequests) {
+		return Result.of(executeUntracked("take", stockRequests));
+	}
+
+	public void put(List<Map<String, Object>> stockRequests) {
+		executeUntracked("put", stockRequests);
+	}
+
+	// write-behind 모드 전용
+	public void reset(UUID menuId, long stock, long stored) {
+		Object result = withLayout(() -> {
+			List<String> keys = new ArrayList<>(List.of(StockLedger.STREAM_KEY, StockKeyLayout.SHARDS_KEY));
+			List<String> args = new ArrayList<>(List.of(String.valueOf(stored)));
+			stockKeyLayout.addLine(keys, args, menuId, stock);
+			return scriptRegistry.execute(resetScript, ReturnType.INTEGER, keys, args);
+		});
+		if (Result.of(result) == Result.LAYOUT_CHANGED) {
+			throw new IllegalStateException("재고 샤드 구성이 수정 중에 바뀌었습니다: " + menuId);
+		}
+	}
+
+	private String reserveMode() {
+		return stockLedger.isEnabled() ? "commit" : "reserve";
+	}
+
+	private List<Map<String, Object>> lines(String orderId) {
+		List<Map<String, Object>> lines = new ArrayList<>();
+		redisTemplate.<String, String>opsForHash().entries(RECORD_PREFIX + orderId).forEach((field, quantity) -> {
+			if (field.startsWith("line:")) {
+				lines.add(line(field.substring(5), quantity));
+			}
+		});
+		return lines;
+	}
+
+	private static Map<String, Object> line(String menuId, String quantity) {
+		Map<String, Object> line = new HashMap<>();
+		line.put("menuId", menuId);
+		line.put("quantity", Long.valueOf(quantity));
+		return line;
+	}
+
+	private Object execute(ReturnType returnType, String mode, String orderId, List<Map<String, Object>> stockRequests) {
+		return withLayout(() -> {
+			RedisScriptRegistry.Call call = call(returnType, mode, orderId, stockRequests);
+			return scriptRegistry.execute(call.script(), call.returnType(), call.keys(), call.args());
+		});
+	}
+
+	// 파이프라인으로 보낼 호출. 결과는 RedisScriptRegistry.executePipelined 의 반환 목록으로 받는다
+	private RedisScriptRegistry.Call call(ReturnType returnType, String mode, String orderId,
+		List<Map<String, Object>> stockRequests) {
+		List<String> keys = new ArrayList<>(stockRequests.size() + 4);
+		keys.add(RECORD_PREFIX + orderId);
+		keys.add(StockLedger.STREAM_KEY);
+		keys.add(PENDING_KEY);
+		keys.add(StockKeyLayout.SHARDS_KEY);
+		List<String> args = new ArrayList<>(stockRequests.size() * 3 + 6);
+		args.add(mode);
+		args.add(String.valueOf(ttlSeconds));
+		args.add(stockLedger.isEnabled() ? "1" : "0");
+		args.add(orderId);
+		args.add(String.valueOf(System.currentTimeMillis()));
+		args.add(String.valueOf(reclaimAfterSeconds * 1000));
+		stockRequests.forEach(req -> stockKeyLayout.addLine(keys, args, req.get("menuId"), req.get("quantity")));
+		return new RedisScriptRegistry.Call(script, returnType, keys, args);
+	}
+
+	private Object executeUntracked(String mode, List<Map<String, Object>> stockRequests) {
+		return withLayout(() -> {
+			List<String> keys = new ArrayList<>(stockRequests.size() + 2);
+			keys.add(StockLedger.STREAM_KEY);
+			keys.add(StockKeyLayout.SHARDS_KEY);
+			List<String> args = new ArrayList<>(stockRequests.size() * 3 + 2);
+			args.add(mode);
+			args.add(stockLedger.isEnabled() ? "1" : "0");
+			stockRequests.forEach(req -> stockKeyLayout.addLine(keys, args, req.get("menuId"), req.get("quantity")));
+			return scriptRegistry.execute(untrackedScript, ReturnType.INTEGER, keys, args);
+		});
+	}
+
+	// 알고 있던 샤드 구성이 그 사이 바뀌었으면 다시 읽고 한 번 더 보낸다
+	private Object withLayout(Supplier<Object> execution) {
+		Object result = execution.get();
+		if (code(result) == Result.LAYOUT_CHANGED) {
+			stockKeyLayout.refresh();
+			result = execution.get();
+		}
+		return result;
+	}
+
+	private static Result code(Object result) {
+		if (result instanceof List<?> values) {
+			return values.isEmpty() ? null : Result.of(values.get(0));
+		}
+		return Result.of(result);
+	}
+}
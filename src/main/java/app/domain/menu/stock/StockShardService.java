@@ -0,0 +1,49 @@
+package app.domain.menu.stock;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.menu.model.dto.response.StockShardResponse;
+import app.domain.menu.status.StoreMenuErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockShardService {
+
+	private static final long NOT_LOADED = -1;
+	private static final long LAYOUT_CHANGED = -4;
+
+	private final StockKeyLayout stockKeyLayout;
+
+	@Value("${stock.shard.max-count:32}")
+	private int maxShardCount;
+
+	// 인기 메뉴를 운영 중에 샤드 키로 전환하거나(count > 1) 단일 키로 되돌린다(count = 1)
+	public StockShardResponse reshard(UUID menuId, int shardCount) {
+		if (!stockKeyLayout.isEnabled()) {
+			throw new GeneralException(StoreMenuErrorCode.STOCK_SHARDING_DISABLED);
+		}
+		if (shardCount < 1 || shardCount > maxShardCount) {
+			throw new GeneralException(StoreMenuErrorCode.INVALID_STOCK_SHARD_COUNT);
+		}
+		long stock = stockKeyLayout.reshard(menuId, shardCount);
+		if (stock == NOT_LOADED) {
+			throw new GeneralException(StoreMenuErrorCode.STOCK_NOT_LOADED);
+		}
+		if (stock == LAYOUT_CHANGED) {
+			throw new GeneralException(StoreMenuErrorCode.CONCURRENCY_ERROR);
+		}
+		log.info("재고 샤드 변경: menuId={}, shardCount={}, stock={}", menuId, shardCount, stock);
+		return StockShardResponse.builder()
+			.menuId(menuId)
+			.shardCount(shardCount)
+			.stock(stock)
+			.build();
+	}
+}
@@ -0,0 +1,214 @@
+package app.domain.mongo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 검색창 자동완성용 메모리 트라이 (가게명, 메뉴명)
+ * - 각 노드에 점수 상위 MAX_SUGGESTIONS 개를 미리 담아 두어 조회는 접두어 길이만큼만 내려간다
+ * - 초성 트라이를 따로 두어 "ㄱㅊ" 같은 초성 입력도 찾는다
+ * - 동기화가 끝날 때마다 읽기 모델에서 새로 만들어 참조만 바꾼다 (조회 중인 요청은 이전 트라이를 끝까지 쓴다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreAutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final MongoTemplate mongoTemplate;
+
+    private volatile Snapshot snapshot = new Snapshot(new Node(), new Node(), 0);
+
+    public enum Type {
+        STORE, MENU
+    }
+
+    @Getter
+    public static class Suggestion {
+        private final Type type;
+        private final String text;
+        private final String storeKey;
+        @JsonIgnore
+        private final long score;
+
+        public Suggestion(Type type, String text, String storeKey, long score) {
+            this.type = type;
+            this.text = text;
+            this.storeKey = storeKey;
+            this.score = score;
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        boolean chosungQuery = prefix.chars().anyMatch(StoreAutocompleteIndex::isChosung);
+        Node node = chosungQuery
+            ? current.chosung.find(chosung(normalize(prefix)))
+            : current.names.find(normalize(prefix));
+        if (node == null) {
+            return List.of();
+        }
+        return node.top.subList(0, Math.min(Math.max(size, 1), node.top.size()));
+    }
+
+    public int size() {
+        return snapshot.entries;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("자동완성 인덱스 초기 생성 실패, 다음 동기화 후 다시 만듭니다: {}", e.getMessage());
+        }
+    }
+
+    // 활성 가게의 이름/메뉴명만 읽는다. 메뉴명은 여러 가게에 걸쳐 하나로 합치고 가게 수를 점수로 쓴다
+    public void rebuild() {
+        Query query = new Query(Criteria.where("isActive").is(true));
+        query.fields().include("storeKey").include("storeName").include("reviewCount").include("menus.name")
+            .include("menus.isHidden");
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        Map<String, long[]> menuCounts = new HashMap<>();
+        try (Stream<Document> stores = mongoTemplate.stream(query, Document.class, "stores")) {
+            stores.forEach(store -> {
+                String storeName = store.getString("storeName");
+                if (storeName != null && !storeName.isBlank()) {
+                    Number reviewCount = store.get("reviewCount", Number.class);
+                    suggestions.add(new Suggestion(Type.STORE, storeName, store.getString("storeKey"),
+                        reviewCount == null ? 0 : reviewCount.longValue()));
+                }
+                List<Document> menus = store.getList("menus", Document.class, List.of());
+                menus.stream()
+                    .filter(menu -> !Boolean.TRUE.equals(menu.getBoolean("isHidden")))
+                    .map(menu -> menu.getString("name"))
+                    .filter(name -> name != null && !name.isBlank())
+                    .distinct()
+                    .forEach(name -> menuCounts.computeIfAbsent(name, key -> new long[1])[0]++);
+            });
+        }
+        menuCounts.forEach((name, count) -> suggestions.add(new Suggestion(Type.MENU, name, null, count[0])));
+
+        Node names = new Node();
+        Node chosung = new Node();
+        for (Suggestion suggestion : suggestions) {
+            for (String key : keys(suggestion.getText())) {
+                names.insert(key, suggestion);
+                chosung.insert(chosung(key), suggestion);
+            }
+        }
+        snapshot = new Snapshot(names, chosung, suggestions.size());
+        log.info("자동완성 인덱스 교체: {}건", suggestions.size());
+    }
+
+    // 전체 이름과 각 단어 시작 위치부터의 접미어를 키로 쓴다 ("교촌치킨 강남점" -> "교촌치킨강남점", "강남점")
+    private static List<String> keys(String text) {
+        String[] words = text.trim().split("\\s+");
+        List<String> keys = new ArrayList<>(words.length);
+        for (int i = 0; i < words.length; i++) {
+            keys.add(normalize(String.join("", Arrays.copyOfRange(words, i, words.length))));
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    private static boolean isChosung(int c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    // 완성형 한글은 초성으로 바꾸고 나머지 글자는 그대로 둔다
+    static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                builder.append(CHOSUNG[(c - 0xAC00) / (21 * 28)]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private record Snapshot(Node names, Node chosung, int entries) {
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Suggestion> top = new ArrayList<>(2);
+
+        void insert(String key, Suggestion suggestion) {
+            Node node = this;
+            node.offer(suggestion);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.offer(suggestion);
+            }
+        }
+
+        Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            return node;
+        }
+
+        // 점수 내림차순, 같으면 짧은 이름 먼저. 같은 항목이 여러 키로 들어와도 한 번만 담는다
+        private void offer(Suggestion suggestion) {
+            if (top.contains(suggestion)) {
+                return;
+            }
+            int index = top.size();
+            while (index > 0 && better(suggestion, top.get(index - 1))) {
+                index--;
+            }
+            if (index >= MAX_SUGGESTIONS) {
+                return;
+            }
+            top.add(index, suggestion);
+            if (top.size() > MAX_SUGGESTIONS) {
+                top.remove(MAX_SUGGESTIONS);
+            }
+        }
+
+        private static boolean better(Suggestion a, Suggestion b) {
+            if (a.getScore() != b.getScore()) {
+                return a.getScore() > b.getScore();
+            }
+            return a.getText().length() < b.getText().length();
+        }
+    }
+}
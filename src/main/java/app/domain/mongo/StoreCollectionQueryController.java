@@ -1,9 +1,15 @@
 package app.domain.mongo;
 
 import app.commonUtil.apiPayload.ApiResponse;
+import app.domain.mongo.model.StoreDiscoverySort;
+import app.domain.mongo.model.dto.response.RegionStoreResponse;
+import app.domain.mongo.model.dto.response.StoreCardResponse;
 import app.domain.mongo.model.entity.StoreCollection;
 import app.domain.mongo.status.MongoStoreMenuErrorCode;
 import app.domain.mongo.status.MongoStoreMenuSuccessCode;
+import app.domain.store.model.dto.response.CursorResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,9 +17,18 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,17 +37,69 @@ import java.util.List;
 public class StoreCollectionQueryController {
 
     private final StoreCollectionQueryService storeCollectionQueryService;
+    private final StoreSnapshotExporter storeSnapshotExporter;
+    private final StoreAutocompleteIndex storeAutocompleteIndex;
+    private final StoreHotListCache storeHotListCache;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/search")
-    @Operation(summary = "통합 검색 API", description = "가게 이름, 카테고리, 메뉴 이름에서 키워드로 활성 상태인 가게를 검색합니다 ")
+    @Operation(summary = "통합 검색 API", description = "가게 이름, 카테고리, 메뉴 이름에서 키워드로 활성 상태인 가게를 관련도, 평점 순으로 검색해 목록 카드로 반환합니다.")
     @Parameter(name = "keyword", description = "검색할 키워드", required = true)
-    public ApiResponse<List<StoreCollection>> searchStores(@RequestParam("keyword") String keyword) {
-        List<StoreCollection> stores = storeCollectionQueryService.searchStores(keyword);
-        if (stores.isEmpty()) {
-            return ApiResponse.onFailure(MongoStoreMenuErrorCode.STORE_NOT_FOUND, null);
-        } else {
-            return ApiResponse.onSuccess(MongoStoreMenuSuccessCode.STORE_GET_SUCCESS, stores);
+    public ResponseEntity<StreamingResponseBody> searchStores(@RequestParam("keyword") String keyword,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        return streamCards(storeCollectionQueryService.searchStores(keyword, pageable));
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "검색어 자동완성 API", description = "가게 이름, 메뉴 이름을 접두어(초성 포함)로 찾아 추천어를 반환합니다. DB 를 조회하지 않습니다.")
+    @Parameter(name = "q", description = "입력 중인 검색어", required = true)
+    public ApiResponse<List<StoreAutocompleteIndex.Suggestion>> autocomplete(@RequestParam("q") String q,
+            @RequestParam(defaultValue = "10") int size) {
+        return ApiResponse.onSuccess(MongoStoreMenuSuccessCode.STORE_GET_SUCCESS,
+                storeAutocompleteIndex.suggest(q, Math.min(size, StoreAutocompleteIndex.MAX_SUGGESTIONS)));
+    }
+
+    @GetMapping("/region")
+    @Operation(summary = "지역 가게 목록 API", description = "지역의 활성 가게를 평점 또는 최소 주문 금액 순 목록 카드로 조회합니다. 카테고리로 거를 수 있고, 첫 페이지(page=0)에는 지역의 카테고리별 가게 수를 함께 반환합니다.")
+    @Parameter(name = "regionName", description = "지역 이름", required = true)
+    @Parameter(name = "category", description = "카테고리 (상위 카테고리 포함)")
+    public ApiResponse<RegionStoreResponse> discoverStores(@RequestParam("regionName") String regionName,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(defaultValue = "RATING") StoreDiscoverySort sort,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        return ApiResponse.onSuccess(MongoStoreMenuSuccessCode.STORE_GET_SUCCESS,
+                storeCollectionQueryService.discoverStores(regionName, category, sort, pageable));
+    }
+
+    @GetMapping("/region/hot")
+    @Operation(summary = "지역 인기 가게 목록 API", description = "미리 계산해 둔 지역(+카테고리)별 상위 가게 목록을 반환합니다. ETag 가 같으면 304 를 반환합니다.")
+    @Parameter(name = "regionName", description = "지역 이름", required = true)
+    @Parameter(name = "category", description = "카테고리 (없으면 지역 전체)")
+    public ResponseEntity<?> getHotStores(@RequestParam("regionName") String regionName,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(defaultValue = "RATING") StoreDiscoverySort sort,
+            WebRequest request) {
+        StoreHotListCache.HotList hotList = storeHotListCache.get(regionName, category, sort);
+        if (hotList == null) {
+            return ResponseEntity.ok(ApiResponse.onFailure(MongoStoreMenuErrorCode.STORE_NOT_FOUND, null));
         }
+        if (request.checkNotModified(hotList.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(hotList.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(hotList.body());
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "가게 읽기 모델 내보내기 API", description = "stores 컬렉션 전체를 gzip NDJSON 파일로 스트리밍합니다.")
+    public ResponseEntity<StreamingResponseBody> exportStores() {
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"stores.ndjson.gz\"")
+            .contentType(MediaType.parseMediaType("application/gzip"))
+            .body(storeSnapshotExporter::export);
     }
 
     @GetMapping("/{storeKey}")
@@ -55,54 +122,66 @@ public class StoreCollectionQueryController {
         }
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "전체 가게 목록 커서 조회 API", description = "_id 순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘깁니다.")
+    public ApiResponse<CursorResponse<StoreCollection>> getAllStoresByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.onSuccess(MongoStoreMenuSuccessCode.STORE_GET_SUCCESS,
+                storeCollectionQueryService.findStoresByCursor(cursor, size));
+    }
+
     @GetMapping("/search-by-name")
-    @Operation(summary = "가게 이름으로 검색 API", description = "가게 이름에 키워드가 포함된 가게 목록을 조회합니다. (대소문자 무관)")
+    @Operation(summary = "가게 이름으로 검색 API", description = "가게 이름에 키워드가 포함된 가게를 평점 순 목록 카드로 조회합니다. (대소문자 무관)")
     @Parameter(name = "keyword", description = "검색할 가게 이름 키워드", required = true)
-    public ApiResponse<List<StoreCollection>> searchStoresByName(@RequestParam("keyword") String keyword) {
-        List<StoreCollection> stores = storeCollectionQueryService.searchStoresByName(keyword);
-        if (stores.isEmpty()) {
-            return ApiResponse.onFailure(MongoStoreMenuErrorCode.STORE_NOT_FOUND, null);
-        } else {
-            return ApiResponse.onSuccess(MongoStoreMenuSuccessCode.STORE_GET_SUCCESS, stores);
-        }
+    public ResponseEntity<StreamingResponseBody> searchStoresByName(@RequestParam("keyword") String keyword,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        return streamCards(storeCollectionQueryService.searchStoresByName(keyword, pageable));
     }
 
     @GetMapping("/search-by-category")
-    @Operation(summary = "카테고리로 가게 검색 API", description = "제공된 카테고리 키워드를 포함하는 가게 목록을 조회합니다. (대소문자 무관)")
+    @Operation(summary = "카테고리로 가게 검색 API", description = "제공된 카테고리 키워드를 포함하는 가게를 평점 순 목록 카드로 조회합니다. (대소문자 무관)")
     @Parameter(name = "category", description = "검색할 카테고리 키워드", required = true)
-    public ApiResponse<List<StoreCollection>> searchStoresByCategory(@RequestParam("category") String category) {
-        List<StoreCollection> stores = storeCollectionQueryService.searchStoresByCategory(category);
-        if (stores.isEmpty()) {
-            return ApiResponse.onFailure(MongoStoreMenuErrorCode.STORE_NOT_FOUND, null);
-        } else {
-            return ApiResponse.onSuccess(MongoStoreMenuSuccessCode.STORE_GET_SUCCESS, stores);
-        }
+    public ResponseEntity<StreamingResponseBody> searchStoresByCategory(@RequestParam("category") String category,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        return streamCards(storeCollectionQueryService.searchStoresByCategory(category, pageable));
     }
 
     @GetMapping("/search-by-menu")
-    @Operation(summary = "메뉴 이름으로 가게 검색 API", description = "메뉴 이름에 키워드가 포함된 가게 목록을 조회합니다. (대소문자 무관)")
+    @Operation(summary = "메뉴 이름으로 가게 검색 API", description = "메뉴 이름에 키워드가 포함된 가게를 평점 순 목록 카드로 조회합니다. 카드에는 일치하는 메뉴가 담깁니다. (대소문자 무관)")
     @Parameter(name = "keyword", description = "검색할 메뉴 이름 키워드", required = true)
-    public ApiResponse<List<StoreCollection>> searchStoresByMenuName(@RequestParam("keyword") String keyword) {
-        List<StoreCollection> stores = storeCollectionQueryService.searchStoresByMenuName(keyword);
-        if (stores.isEmpty()) {
-            return ApiResponse.onFailure(MongoStoreMenuErrorCode.STORE_NOT_FOUND, null);
-        } else {
-            return ApiResponse.onSuccess(MongoStoreMenuSuccessCode.STORE_GET_SUCCESS, stores);
-        }
+    public ResponseEntity<StreamingResponseBody> searchStoresByMenuName(@RequestParam("keyword") String keyword,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        return streamCards(storeCollectionQueryService.searchStoresByMenuName(keyword, pageable));
     }
 
     @GetMapping("/filter-by-menu")
     @Operation(
             summary = "메뉴 이름으로 가게 및 메뉴 필터링 API",
-            description = "메뉴 이름에 키워드가 포함된 가게를 찾고, 해당 가게의 메뉴 목록에서는 키워드와 일치하는 메뉴만 필터링하여 반환합니다. (대소문자 무관)"
+            description = "메뉴 이름에 키워드가 포함된 활성 가게를 관련도, 평점 순으로 찾고, 키워드와 일치하는 메뉴만 담은 목록 카드로 반환합니다. (대소문자 무관)"
     )
     @Parameter(name = "keyword", description = "검색 및 필터링할 메뉴 이름 키워드", required = true)
-    public ApiResponse<List<StoreCollection>> filterStoresByMenuNameAndReturnFilteredMenus(@RequestParam("keyword") String keyword) {
-        List<StoreCollection> stores = storeCollectionQueryService.filterStoresByMenuNameAndReturnFilteredMenus(keyword);
+    public ApiResponse<List<StoreCardResponse>> filterStoresByMenuNameAndReturnFilteredMenus(@RequestParam("keyword") String keyword,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        List<StoreCardResponse> stores = storeCollectionQueryService.filterStoresByMenuNameAndReturnFilteredMenus(keyword, pageable);
         if (stores.isEmpty()) {
             return ApiResponse.onFailure(MongoStoreMenuErrorCode.STORE_NOT_FOUND, null);
         } else {
             return ApiResponse.onSuccess(MongoStoreMenuSuccessCode.STORE_GET_SUCCESS, stores);
         }
     }
+
+    // 커서에서 읽는 대로 바로 응답에 쓴다. Iterator 는 Jackson 이 배열로 한 건씩 직렬화한다
+    private ResponseEntity<StreamingResponseBody> streamCards(Stream<StoreCardResponse> cards) {
+        StreamingResponseBody body = out -> {
+            try (cards) {
+                Iterator<StoreCardResponse> iterator = cards.iterator();
+                ApiResponse<?> response = iterator.hasNext()
+                        ? ApiResponse.onSuccess(MongoStoreMenuSuccessCode.STORE_GET_SUCCESS, iterator)
+                        : ApiResponse.onFailure(MongoStoreMenuErrorCode.STORE_NOT_FOUND, null);
+                objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, response);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 }
@@ -1,40 +1,65 @@
 package app.domain.mongo;
 
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.mongo.model.StoreDiscoverySort;
+import app.domain.mongo.model.dto.response.RegionStoreResponse;
+import app.domain.mongo.model.dto.response.StoreCardResponse;
 import app.domain.mongo.model.entity.StoreCollection;
+import app.domain.store.model.StoreCursor;
+import app.domain.store.model.dto.response.CursorResponse;
+import app.domain.store.status.StoreErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.MatchOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class StoreCollectionQueryService {
 
+    private static final String COLLECTION = "stores";
+    // 카드에 담는 메뉴 수
+    private static final int CARD_MENU_LIMIT = 5;
+    private static final Document VISIBLE_MENU = new Document("$ne", List.of("$$menu.isHidden", true));
+    private static final AggregationOperation SORT_BY_SCORE = context -> new Document("$sort",
+            new Document("score", new Document("$meta", "textScore"))
+                    .append("avgRating", -1)
+                    .append("_id", 1));
+
     private final MongoTemplate mongoTemplate;
 
-    public List<StoreCollection> searchStores(String keyword) {
-        Query query = new Query();
-        Criteria searchCriteria = new Criteria().orOperator(
-                Criteria.where("storeName").regex(keyword, "i"),
-                Criteria.where("categoryKeys").regex(keyword, "i"),
-                Criteria.where("menus.name").regex(keyword, "i")
-        );
-        Criteria activeCriteria = Criteria.where("isActive").is(true);
-        Criteria combinedCriteria = new Criteria().andOperator(searchCriteria, activeCriteria);
-        query.addCriteria(combinedCriteria);
-        return mongoTemplate.find(query, StoreCollection.class);
+    // 가중치 텍스트 인덱스로 검색해 관련도, 평점 순으로 정렬한다
+    public Stream<StoreCardResponse> searchStores(String keyword, Pageable pageable) {
+        List<String> tokens = StoreSearchTokens.query(keyword);
+        if (tokens.isEmpty()) {
+            return Stream.empty();
+        }
+        Aggregation aggregation = cardAggregation(List.of(
+                Aggregation.match(TextCriteria.forLanguage("none").matchingAny(tokens.toArray(String[]::new))),
+                Aggregation.match(Criteria.where("isActive").is(true))),
+                SORT_BY_SCORE, pageable, VISIBLE_MENU);
+        return mongoTemplate.aggregateStream(aggregation, COLLECTION, StoreCardResponse.class);
     }
 
     public Optional<StoreCollection> findStoreByStoreKey(String storeKey) {
@@ -51,43 +76,113 @@ public class StoreCollectionQueryService {
         return Optional.ofNullable(store);
     }
 
-    public List<StoreCollection> searchStoresByName(String storeNameKeyword) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("storeName").regex(storeNameKeyword, "i"));
-        return mongoTemplate.find(query, StoreCollection.class);
+    public Stream<StoreCardResponse> searchStoresByName(String storeNameKeyword, Pageable pageable) {
+        return streamCards(Criteria.where("storeName").regex(literal(storeNameKeyword), "i").and("isActive").is(true),
+                pageable, VISIBLE_MENU);
+    }
+
+    public Stream<StoreCardResponse> searchStoresByCategory(String category, Pageable pageable) {
+        return streamCards(Criteria.where("categoryKeys").regex(literal(category), "i").and("isActive").is(true),
+                pageable, VISIBLE_MENU);
+    }
+
+    // 카드에는 키워드와 일치하는 메뉴를 먼저 보여준다
+    public Stream<StoreCardResponse> searchStoresByMenuName(String menuNameKeyword, Pageable pageable) {
+        String pattern = literal(menuNameKeyword);
+        return streamCards(Criteria.where("menus.name").regex(pattern, "i").and("isActive").is(true),
+                pageable, matchingMenu(pattern));
+    }
+
+    // 텍스트 인덱스로 후보를 좁힌 뒤 메뉴 이름을 확인한다. 페이지를 자른 다음 일치하는 메뉴만 카드 필드로 남긴다
+    public List<StoreCardResponse> filterStoresByMenuNameAndReturnFilteredMenus(String menuNameKeyword, Pageable pageable) {
+        List<String> tokens = StoreSearchTokens.query(menuNameKeyword);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        String pattern = literal(menuNameKeyword);
+        Aggregation aggregation = cardAggregation(List.of(
+                Aggregation.match(TextCriteria.forLanguage("none").matchingAny(tokens.toArray(String[]::new))),
+                Aggregation.match(Criteria.where("isActive").is(true).and("menus.name").regex(pattern, "i"))),
+                SORT_BY_SCORE, pageable, matchingMenu(pattern));
+        return mongoTemplate.aggregate(aggregation, COLLECTION, StoreCardResponse.class).getMappedResults();
+    }
+
+    // 지역(+카테고리) 동등 조건과 정렬 키가 StoreSearchIndexInitializer 의 지역 탐색 인덱스 순서와 같다
+    public RegionStoreResponse discoverStores(String regionName, String category, StoreDiscoverySort sort, Pageable pageable) {
+        Criteria criteria = Criteria.where("regionName").is(regionName);
+        if (category != null && !category.isBlank()) {
+            criteria.and("categoryKeys").is(category);
+        }
+        criteria.and("isActive").is(true);
+
+        Aggregation aggregation = cardAggregation(List.of(Aggregation.match(criteria)), Aggregation.sort(sort.toSort()),
+                pageable, VISIBLE_MENU);
+        List<StoreCardResponse> stores = mongoTemplate.aggregate(aggregation, COLLECTION, StoreCardResponse.class)
+                .getMappedResults();
+        // 카테고리별 가게 수는 페이지와 무관하므로 첫 페이지에서만 센다
+        return new RegionStoreResponse(stores, pageable.getPageNumber() == 0 ? countCategories(regionName) : null);
     }
 
-    public List<StoreCollection> searchStoresByCategory(String category) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("categoryKeys").regex(category, "i"));
-        return mongoTemplate.find(query, StoreCollection.class);
+    // unwind 전에 categoryKeys 만 남겨 메뉴 배열까지 풀어 복사하지 않는다
+    private Map<String, Long> countCategories(String regionName) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("regionName").is(regionName).and("isActive").is(true)),
+                Aggregation.project("categoryKeys"),
+                Aggregation.unwind("categoryKeys"),
+                Aggregation.group("categoryKeys").count().as("count"),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "count").and(Sort.by(Sort.Direction.ASC, "_id"))));
+        Map<String, Long> categories = new LinkedHashMap<>();
+        mongoTemplate.aggregate(aggregation, COLLECTION, Document.class).getMappedResults()
+                .forEach(row -> categories.put(row.getString("_id"), ((Number) row.get("count")).longValue()));
+        return categories;
     }
 
-    public List<StoreCollection> searchStoresByMenuName(String menuNameKeyword) {
-        Query query = new Query();
-        query.addCriteria(Criteria.where("menus.name").regex(menuNameKeyword, "i"));
-        return mongoTemplate.find(query, StoreCollection.class);
+    private Stream<StoreCardResponse> streamCards(Criteria criteria, Pageable pageable, Document menuCondition) {
+        Aggregation aggregation = cardAggregation(List.of(Aggregation.match(criteria)),
+                Aggregation.sort(StoreDiscoverySort.RATING.toSort()), pageable, menuCondition);
+        return mongoTemplate.aggregateStream(aggregation, COLLECTION, StoreCardResponse.class);
     }
 
-    public List<StoreCollection> filterStoresByMenuNameAndReturnFilteredMenus(String menuNameKeyword) {
-        MatchOperation matchOperation = Aggregation.match(Criteria.where("menus.name").regex(menuNameKeyword, "i"));
+    // 정렬과 페이지 자르기를 먼저 하고, 남은 문서에서만 메뉴를 골라 카드 필드로 줄인다
+    private Aggregation cardAggregation(List<AggregationOperation> match, AggregationOperation sort, Pageable pageable,
+            Document menuCondition) {
+        Document menus = new Document("$filter", new Document("input", "$menus")
+                .append("as", "menu")
+                .append("cond", menuCondition));
+        Document menuCards = new Document("$map", new Document("input",
+                new Document("$slice", List.of(menus, CARD_MENU_LIMIT)))
+                .append("as", "menu")
+                .append("in", new Document("menuId", "$$menu.menuId")
+                        .append("name", "$$menu.name")
+                        .append("price", "$$menu.price")));
 
         ProjectionOperation projectionOperation = Aggregation.project(
-                        "storeName", "description", "avgRating", "phoneNumber", "minOrderAmount", "address"
+                        "storeKey", "storeName", "avgRating", "reviewCount", "minOrderAmount", "regionName"
                 )
-                .and(context -> new Document("$filter",
-                        new Document("input", "$menus")
-                                .append("as", "menu")
-                                .append("cond", new Document("$regexMatch",
-                                        new Document("input", "$menu.name")
-                                                .append("regex", menuNameKeyword)
-                                                .append("options", "i")
-                                ))
-                )).as("menus");
-
-        Aggregation aggregation = Aggregation.newAggregation(matchOperation, projectionOperation);
-
-        return mongoTemplate.aggregate(aggregation, "storeCollection", StoreCollection.class).getMappedResults();
+                .andExclude("_id")
+                .and(context -> menuCards).as("menus");
+
+        // offset 도 줄인 크기로 계산해야 페이지 사이에 빠지는 가게가 없다
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), CursorResponse.MAX_SIZE));
+        List<AggregationOperation> operations = new ArrayList<>(match);
+        operations.add(sort);
+        operations.add(Aggregation.skip(page.getOffset()));
+        operations.add(Aggregation.limit(page.getPageSize()));
+        operations.add(projectionOperation);
+        return Aggregation.newAggregation(operations);
+    }
+
+    // 검색어는 정규식이 아니라 문자열 그대로 포함 여부를 본다. "(" 같은 입력이 잘못된 정규식 오류를 내지 않도록
+    private static String literal(String keyword) {
+        return Pattern.quote(keyword.trim());
+    }
+
+    private static Document matchingMenu(String pattern) {
+        return new Document("$and", List.of(
+                VISIBLE_MENU,
+                new Document("$regexMatch", new Document("input", "$$menu.name")
+                        .append("regex", pattern)
+                        .append("options", "i"))));
     }
 
     public Page<StoreCollection> findAllStores(Pageable pageable) {
@@ -96,4 +191,23 @@ public class StoreCollectionQueryService {
         long total = mongoTemplate.count(new Query(), StoreCollection.class);
         return new PageImpl<>(stores, pageable, total);
     }
-}
\ No newline at end of file
+
+    // _id 순 키셋 페이지. skip/count 없이 마지막 _id 다음부터 읽는다
+    public CursorResponse<StoreCollection> findStoresByCursor(String cursor, int size) {
+        int limit = CursorResponse.clampSize(size);
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "_id")).limit(limit + 1);
+        if (cursor != null && !cursor.isBlank()) {
+            query.addCriteria(Criteria.where("_id").gt(decodeCursor(cursor)));
+        }
+        List<StoreCollection> stores = mongoTemplate.find(query, StoreCollection.class);
+        return CursorResponse.of(stores, limit, store -> store, store -> StoreCursor.encodeToken(store.getId()));
+    }
+
+    private ObjectId decodeCursor(String cursor) {
+        String id = StoreCursor.decodeToken(cursor);
+        if (!ObjectId.isValid(id)) {
+            throw new GeneralException(StoreErrorCode.INVALID_CURSOR);
+        }
+        return new ObjectId(id);
+    }
+}
@@ -0,0 +1,248 @@
+package app.domain.mongo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.commonUtil.apiPayload.ApiResponse;
+import app.domain.mongo.model.StoreDiscoverySort;
+import app.domain.mongo.model.dto.response.StoreCardResponse;
+import app.domain.mongo.status.MongoStoreMenuSuccessCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * (지역, 카테고리, 정렬) 별 상위 가게 목록을 미리 만들어 둔 메모리 스냅샷
+ * - 응답 본문(ApiResponse JSON)과 ETag 를 만들어 두고 조회는 맵 조회 한 번으로 끝낸다
+ * - 전체 재계산은 동기화 완료 시와 refresh-ms 주기로, 읽기 모델 부분 갱신이 닿은 지역은 dirty-refresh-ms 안에 다시 만든다
+ * - 스냅샷은 통째로 교체하므로 조회 중에는 이전 스냅샷을 그대로 본다
+ * - 전체/지역 재계산은 buildLock 으로 한 번에 하나만 돌아, 먼저 시작한 전체 재계산이 나중에 끝난 지역 갱신을 덮어쓰지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreHotListCache {
+
+    // 카테고리 없이 지역 전체를 뜻하는 키
+    public static final String ALL_CATEGORIES = "";
+    private static final int CARD_MENU_LIMIT = 5;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${store.hot-list.size:50}")
+    private int size;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+    private final Object buildLock = new Object();
+    private final Set<String> dirtyRegions = new HashSet<>();
+    private boolean fullRefreshNeeded;
+
+    public record Key(String regionName, String category, StoreDiscoverySort sort) {
+    }
+
+    public record HotList(byte[] body, String etag) {
+    }
+
+    private record Snapshot(Map<Key, HotList> lists, Map<String, String> storeRegions) {
+    }
+
+    public HotList get(String regionName, String category, StoreDiscoverySort sort) {
+        return snapshot.lists.get(new Key(regionName, category == null ? ALL_CATEGORIES : category, sort));
+    }
+
+    // 스냅샷에 없는 가게는 목록에 없는 비활성 가게이므로, 새로 활성화된 경우에만 그 가게의 지역을 읽어 다시 만든다
+    public void invalidate(String storeKey, boolean activated) {
+        String regionName = snapshot.storeRegions.get(storeKey);
+        if (regionName == null && activated) {
+            Query query = new Query(Criteria.where("storeKey").is(storeKey));
+            query.fields().include("regionName");
+            Document store = mongoTemplate.findOne(query, Document.class, "stores");
+            regionName = store == null ? null : store.getString("regionName");
+        }
+        if (regionName == null) {
+            return;
+        }
+        synchronized (this) {
+            dirtyRegions.add(regionName);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("인기 가게 목록 초기 생성 실패, 다음 주기에 다시 만듭니다: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${store.hot-list.refresh-ms:600000}", initialDelayString = "${store.hot-list.refresh-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${store.hot-list.dirty-refresh-ms:10000}")
+    public void refreshDirty() {
+        synchronized (buildLock) {
+            Set<String> regions;
+            synchronized (this) {
+                if (fullRefreshNeeded) {
+                    regions = null;
+                } else if (dirtyRegions.isEmpty()) {
+                    return;
+                } else {
+                    regions = Set.copyOf(dirtyRegions);
+                    dirtyRegions.clear();
+                }
+            }
+            if (regions == null) {
+                rebuild();
+                return;
+            }
+            Map<Key, HotList> lists = new HashMap<>();
+            Map<String, String> storeRegions = new HashMap<>();
+            try {
+                build(Criteria.where("isActive").is(true).and("regionName").in(regions), lists, storeRegions);
+            } catch (RuntimeException e) {
+                // 실패한 지역은 다음 주기에 다시 만든다
+                synchronized (this) {
+                    dirtyRegions.addAll(regions);
+                }
+                throw e;
+            }
+            synchronized (this) {
+                Snapshot current = snapshot;
+                Map<Key, HotList> mergedLists = new HashMap<>(current.lists);
+                mergedLists.keySet().removeIf(key -> regions.contains(key.regionName()));
+                mergedLists.putAll(lists);
+                Map<String, String> mergedStores = new HashMap<>(current.storeRegions);
+                mergedStores.values().removeIf(regions::contains);
+                mergedStores.putAll(storeRegions);
+                snapshot = new Snapshot(Map.copyOf(mergedLists), Map.copyOf(mergedStores));
+            }
+            log.info("인기 가게 목록 지역 갱신: {}", regions);
+        }
+    }
+
+    // 훑기 전에 표시를 지워, 훑는 동안 들어온 무효화는 다음 지역 갱신에서 다시 반영한다
+    public void rebuild() {
+        synchronized (buildLock) {
+            synchronized (this) {
+                fullRefreshNeeded = false;
+                dirtyRegions.clear();
+            }
+            Map<Key, HotList> lists = new HashMap<>();
+            Map<String, String> storeRegions = new HashMap<>();
+            try {
+                build(Criteria.where("isActive").is(true), lists, storeRegions);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    fullRefreshNeeded = true;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                snapshot = new Snapshot(Map.copyOf(lists), Map.copyOf(storeRegions));
+            }
+            log.info("인기 가게 목록 교체: {}개 목록, 가게 {}건", lists.size(), storeRegions.size());
+        }
+    }
+
+    // 가게를 한 번 훑으며 지역 전체와 각 카테고리 키에 나눠 담고, 정렬마다 상위 size 개만 남긴다
+    private void build(Criteria criteria, Map<Key, HotList> lists, Map<String, String> storeRegions) {
+        Query query = new Query(criteria);
+        query.fields().include("storeKey").include("storeName").include("avgRating").include("reviewCount")
+            .include("minOrderAmount").include("regionName").include("categoryKeys")
+            .include("menus.menuId").include("menus.name").include("menus.price").include("menus.isHidden");
+
+        Map<String, Map<String, List<StoreCardResponse>>> groups = new HashMap<>();
+        try (Stream<Document> stores = mongoTemplate.stream(query, Document.class, "stores")) {
+            stores.forEach(store -> {
+                String regionName = store.getString("regionName");
+                if (regionName == null) {
+                    return;
+                }
+                StoreCardResponse card = toCard(store);
+                storeRegions.put(card.getStoreKey(), regionName);
+                Map<String, List<StoreCardResponse>> categories = groups.computeIfAbsent(regionName, key -> new HashMap<>());
+                categories.computeIfAbsent(ALL_CATEGORIES, key -> new ArrayList<>()).add(card);
+                store.getList("categoryKeys", String.class, List.of()).stream().distinct()
+                    .forEach(category -> categories.computeIfAbsent(category, key -> new ArrayList<>()).add(card));
+            });
+        }
+
+        groups.forEach((regionName, categories) -> categories.forEach((category, cards) -> {
+            for (StoreDiscoverySort sort : StoreDiscoverySort.values()) {
+                List<StoreCardResponse> top = cards.stream().sorted(comparator(sort)).limit(size).toList();
+                lists.put(new Key(regionName, category, sort), serialize(top));
+            }
+        }));
+    }
+
+    // StoreDiscoverySort 와 같은 순서. 값이 없는 가게는 뒤로 보낸다
+    private Comparator<StoreCardResponse> comparator(StoreDiscoverySort sort) {
+        Comparator<StoreCardResponse> order = switch (sort) {
+            case RATING -> Comparator.comparing(StoreCardResponse::getAvgRating,
+                Comparator.nullsLast(Comparator.reverseOrder()));
+            case MIN_ORDER_AMOUNT -> Comparator.comparing(StoreCardResponse::getMinOrderAmount,
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        };
+        return order.thenComparing(StoreCardResponse::getStoreKey, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    private StoreCardResponse toCard(Document store) {
+        StoreCardResponse card = new StoreCardResponse();
+        card.setStoreKey(store.getString("storeKey"));
+        card.setStoreName(store.getString("storeName"));
+        Number avgRating = store.get("avgRating", Number.class);
+        card.setAvgRating(avgRating == null ? null : avgRating.doubleValue());
+        Number reviewCount = store.get("reviewCount", Number.class);
+        card.setReviewCount(reviewCount == null ? null : reviewCount.longValue());
+        Number minOrderAmount = store.get("minOrderAmount", Number.class);
+        card.setMinOrderAmount(minOrderAmount == null ? null : minOrderAmount.longValue());
+        card.setRegionName(store.getString("regionName"));
+        card.setMenus(store.getList("menus", Document.class, List.of()).stream()
+            .filter(menu -> !Boolean.TRUE.equals(menu.getBoolean("isHidden")))
+            .limit(CARD_MENU_LIMIT)
+            .map(menu -> {
+                StoreCardResponse.MenuCard menuCard = new StoreCardResponse.MenuCard();
+                menuCard.setMenuId(menu.getString("menuId"));
+                menuCard.setName(menu.getString("name"));
+                Number price = menu.get("price", Number.class);
+                menuCard.setPrice(price == null ? null : price.intValue());
+                return menuCard;
+            })
+            .toList());
+        return card;
+    }
+
+    private HotList serialize(List<StoreCardResponse> cards) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(
+                ApiResponse.onSuccess(MongoStoreMenuSuccessCode.STORE_GET_SUCCESS, cards));
+            return new HotList(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("인기 가게 목록 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package app.domain.mongo;
+
+import app.domain.outbox.model.entity.OutboxEventType;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/*
+ * outbox 이벤트를 stores 문서에 필드 단위로 반영한다. (문서 전체를 다시 쓰지 않음)
+ * 메뉴는 menus.$[m] arrayFilter 로 해당 원소만 바꾸고, version 을 올려 배치(BulkWriter)의 낙관적 잠금과 맞춘다.
+ * 같은 이벤트가 다시 와도 결과가 같도록 추가는 없는 경우에만, 나머지는 $set/$pull 로 처리한다.
+ * payload 의 updatedAt(outbox 기록 시각)이 같은 범위의 마지막 반영 시각보다 이전이면 반영하지 않아, 재발행된 이전 이벤트가
+ * 더 최신 값(이후 이벤트나 배치)을 덮어쓰지 않는다. 가게 필드는 storeUpdatedAt, 메뉴는 menus.$[m].updatedAt(배치가 쓴 메뉴에는 없음)과 비교하므로
+ * 커밋 순서가 뒤바뀌어도 다른 메뉴의 변경은 버려지지 않는다. Mongo Date 가 ms 단위라 같은 ms 의 이벤트는 통과시킨다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreProjectionService {
+
+    private static final String COLLECTION = "stores";
+
+    private final MongoTemplate mongoTemplate;
+    private final StoreHotListCache storeHotListCache;
+
+    public void apply(String storeKey, OutboxEventType eventType, Map<String, Object> payload) {
+        Query query = new Query(where("storeKey").is(storeKey));
+        Update update = new Update();
+        Date updatedAt = payload.get("updatedAt") == null ? null
+            : Date.from(LocalDateTime.parse(payload.get("updatedAt").toString()).atZone(ZoneId.systemDefault()).toInstant());
+
+        switch (eventType) {
+            case STORE_UPDATED -> {
+                guardStore(query, update, updatedAt);
+                update.set("storeName", payload.get("storeName"));
+                update.set("description", payload.get("description"));
+                update.set("address", payload.get("address"));
+                update.set("phoneNumber", payload.get("phoneNumber"));
+                update.set("minOrderAmount", toLong(payload.get("minOrderAmount")));
+                update.set("categoryKeys", payload.get("categoryKeys"));
+            }
+            case STORE_STATUS_CHANGED -> {
+                guardStore(query, update, updatedAt);
+                update.set("storeAcceptStatus", payload.get("storeAcceptStatus"));
+                update.set("isActive", payload.get("isActive"));
+            }
+            case MENU_CREATED -> {
+                query.addCriteria(where("menus.menuId").ne(payload.get("menuId")));
+                update.push("menus", new Document()
+                    .append("menuId", payload.get("menuId"))
+                    .append("name", payload.get("name"))
+                    .append("price", toInteger(payload.get("price")))
+                    .append("description", payload.get("description"))
+                    .append("isHidden", payload.get("isHidden"))
+                    .append("updatedAt", updatedAt));
+            }
+            case MENU_UPDATED -> {
+                guardMenu(query, update, payload.get("menuId"), updatedAt);
+                update.set("menus.$[m].name", payload.get("name"));
+                update.set("menus.$[m].price", toInteger(payload.get("price")));
+                update.set("menus.$[m].description", payload.get("description"));
+                update.set("menus.$[m].isHidden", payload.get("isHidden"));
+                update.filterArray(where("m.menuId").is(payload.get("menuId")));
+            }
+            case MENU_VISIBILITY_CHANGED -> {
+                guardMenu(query, update, payload.get("menuId"), updatedAt);
+                update.set("menus.$[m].isHidden", payload.get("isHidden"));
+                update.filterArray(where("m.menuId").is(payload.get("menuId")));
+            }
+            case MENU_DELETED -> update.pull("menus", new Document("menuId", payload.get("menuId")));
+        }
+        if (updatedAt != null) {
+            update.max("updatedAt", updatedAt);
+        }
+        // 부분 갱신 후에는 해시가 내용과 맞지 않으므로 다음 배치가 다시 쓰도록 지운다
+        update.unset("contentHash");
+        update.inc("version", 1);
+
+        UpdateResult result = mongoTemplate.updateFirst(query, update, COLLECTION);
+        if (result.getMatchedCount() == 0) {
+            // 아직 배치로 적재되지 않은 가게, 이미 반영된 메뉴 추가, 또는 더 최신 값이 이미 반영된 이전 이벤트
+            log.debug("읽기 모델 반영 대상 없음: storeKey={}, eventType={}", storeKey, eventType);
+            return;
+        }
+        storeHotListCache.invalidate(storeKey,
+            eventType == OutboxEventType.STORE_STATUS_CHANGED && Boolean.TRUE.equals(payload.get("isActive")));
+    }
+
+    private void guardStore(Query query, Update update, Date updatedAt) {
+        if (updatedAt == null) {
+            return;
+        }
+        query.addCriteria(notNewerThan("storeUpdatedAt", updatedAt));
+        update.set("storeUpdatedAt", updatedAt);
+    }
+
+    // 대상 메뉴가 없거나 그 메뉴에 더 최신 변경이 반영돼 있으면 문서가 매칭되지 않는다
+    private void guardMenu(Query query, Update update, Object menuId, Date updatedAt) {
+        if (updatedAt == null) {
+            return;
+        }
+        query.addCriteria(where("menus").elemMatch(where("menuId").is(menuId)
+            .andOperator(notNewerThan("updatedAt", updatedAt))));
+        update.set("menus.$[m].updatedAt", updatedAt);
+    }
+
+    private Criteria notNewerThan(String field, Date updatedAt) {
+        return new Criteria().orOperator(where(field).exists(false), where(field).lte(updatedAt));
+    }
+
+    private Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    private Integer toInteger(Object value) {
+        return value == null ? null : ((Number) value).intValue();
+    }
+}
@@ -0,0 +1,75 @@
+package app.domain.mongo;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.stereotype.Component;
+
+import app.domain.mongo.model.StoreDiscoverySort;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * stores 컬렉션 조회용 인덱스 (자동 인덱스 생성은 꺼져 있다)
+ * - 가중치 텍스트 인덱스: 가게명 > 카테고리 > 메뉴명 > 2-gram 토큰 순으로 점수를 준다. 한국어 형태소 분석이 없으므로 language 는 none
+ * - 지역 탐색 인덱스: 지역(+카테고리) 동등 조건 뒤에 정렬 키를 두어 정렬 없이 페이지를 읽는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndexInitializer {
+
+    public static final String INDEX_NAME = "store_text_index";
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndex() {
+        TextIndexDefinition index = new TextIndexDefinition.TextIndexDefinitionBuilder()
+            .named(INDEX_NAME)
+            .withDefaultLanguage("none")
+            .onField("storeName", 10F)
+            .onField("categoryKeys", 5F)
+            .onField("menus.name", 3F)
+            .onField("searchTokens", 1F)
+            .build();
+        try {
+            mongoTemplate.indexOps("stores").createIndex(index);
+        } catch (Exception e) {
+            // 컬렉션당 텍스트 인덱스는 하나뿐이라 정의가 다른 기존 인덱스가 있으면 실패한다
+            log.error("가게 텍스트 인덱스 생성 실패. 기존 텍스트 인덱스를 확인하세요: {}", e.getMessage());
+        }
+        ensureDiscoveryIndexes();
+    }
+
+    // StoreCollectionQueryService.discoverStores 의 조건/정렬 조합마다 하나씩
+    private void ensureDiscoveryIndexes() {
+        for (StoreDiscoverySort sort : StoreDiscoverySort.values()) {
+            createIndex(new Index()
+                .named("store_region_" + sort.getField() + "_index")
+                .on("regionName", Sort.Direction.ASC)
+                .on("isActive", Sort.Direction.ASC)
+                .on(sort.getField(), sort.getDirection())
+                .on("_id", Sort.Direction.ASC));
+            createIndex(new Index()
+                .named("store_region_category_" + sort.getField() + "_index")
+                .on("regionName", Sort.Direction.ASC)
+                .on("categoryKeys", Sort.Direction.ASC)
+                .on("isActive", Sort.Direction.ASC)
+                .on(sort.getField(), sort.getDirection())
+                .on("_id", Sort.Direction.ASC));
+        }
+    }
+
+    private void createIndex(Index index) {
+        try {
+            mongoTemplate.indexOps("stores").createIndex(index);
+        } catch (Exception e) {
+            log.error("가게 지역 탐색 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+}
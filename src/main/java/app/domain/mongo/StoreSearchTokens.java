@@ -0,0 +1,63 @@
+package app.domain.mongo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/*
+ * 텍스트 인덱스용 검색 토큰
+ * MongoDB $text 는 공백 단위로만 나누므로 "교촌치킨" 에서 "치킨" 을 찾을 수 없다.
+ * 단어 자체와 글자 2-gram 을 함께 저장하고, 검색어도 같은 방식으로 나눠 부분 일치를 찾는다.
+ * 한 글자 검색어(닭, 회, 죽, 빵)는 2-gram 이 없으므로 저장할 때만 한글 음절 1-gram 도 넣는다.
+ * 검색어에는 1-gram 을 만들지 않아 여러 글자 검색이 한 글자 일치로 넓어지지 않는다.
+ */
+public final class StoreSearchTokens {
+
+    private static final String SPLIT = "[^\\p{L}\\p{N}]+";
+
+    private StoreSearchTokens() {
+    }
+
+    public static List<String> of(String storeName, Collection<String> categoryKeys, Collection<String> menuNames) {
+        TreeSet<String> tokens = new TreeSet<>();
+        addTokens(tokens, storeName, true);
+        if (categoryKeys != null) {
+            categoryKeys.forEach(category -> addTokens(tokens, category, true));
+        }
+        if (menuNames != null) {
+            menuNames.forEach(menuName -> addTokens(tokens, menuName, true));
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    public static List<String> query(String keyword) {
+        TreeSet<String> tokens = new TreeSet<>();
+        addTokens(tokens, keyword, false);
+        return new ArrayList<>(tokens);
+    }
+
+    private static void addTokens(TreeSet<String> tokens, String text, boolean hangulUnigrams) {
+        if (text == null) {
+            return;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split(SPLIT)) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            tokens.add(word);
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+            if (hangulUnigrams) {
+                for (int codePoint : codePoints) {
+                    if (Character.UnicodeBlock.of(codePoint) == Character.UnicodeBlock.HANGUL_SYLLABLES) {
+                        tokens.add(Character.toString(codePoint));
+                    }
+                }
+            }
+        }
+    }
+}
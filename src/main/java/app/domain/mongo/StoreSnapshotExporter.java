@@ -0,0 +1,65 @@
+package app.domain.mongo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * stores 컬렉션 전체를 gzip NDJSON(한 줄에 문서 하나)으로 내보낸다
+ * - _id 순 서버 커서로 batch-size 만큼씩 받아 바로 쓰므로 메모리는 컬렉션 크기와 무관하다
+ * - 출력이 느리면 쓰기가 막히고, 커서도 다음 배치를 가져오지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSnapshotExporter {
+
+    private static final String COLLECTION = "stores";
+    private static final JsonWriterSettings JSON = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${store.snapshot.batch-size:500}")
+    private int batchSize;
+
+    // 내보낸 문서 수를 돌려준다. out 은 닫지 않는다
+    public long export(OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 64 * 1024);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), 64 * 1024);
+        long count = 0;
+        try (MongoCursor<Document> cursor = mongoTemplate.getCollection(COLLECTION)
+            .find()
+            .projection(Projections.exclude("contentHash"))
+            .sort(Sorts.ascending("_id"))
+            .batchSize(batchSize)
+            .cursor()) {
+            while (cursor.hasNext()) {
+                writer.write(cursor.next().toJson(JSON));
+                writer.write('\n');
+                count++;
+            }
+        }
+        writer.flush();
+        gzip.finish();
+        log.info("가게 스냅샷 내보내기 완료: {}건", count);
+        return count;
+    }
+}
@@ -0,0 +1,40 @@
+package app.domain.mongo.kafka;
+
+import app.domain.mongo.StoreProjectionService;
+import app.domain.outbox.model.entity.OutboxEventType;
+import app.domain.outbox.service.OutboxRelay;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreProjectionConsumer {
+
+    private final StoreProjectionService storeProjectionService;
+    private final ObjectMapper objectMapper;
+
+    // Mongo 반영 실패는 던져서 컨테이너 에러 핸들러가 재시도하도록 한다
+    @KafkaListener(topics = OutboxRelay.TOPIC, groupId = "store.projection.group")
+    public void handle(String message,
+                       @Header(KafkaHeaders.RECEIVED_KEY) String storeKey,
+                       @Header("eventType") String eventType) {
+        Map<String, Object> payload;
+        try {
+            payload = objectMapper.readValue(message, new TypeReference<Map<String, Object>>() {});
+        } catch (JsonProcessingException e) {
+            log.error("Failed to parse projection event: {}", message, e);
+            return;
+        }
+        storeProjectionService.apply(storeKey, OutboxEventType.valueOf(eventType), payload);
+    }
+}
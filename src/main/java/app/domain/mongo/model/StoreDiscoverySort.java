@@ -0,0 +1,22 @@
+package app.domain.mongo.model;
+
+import org.springframework.data.domain.Sort;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 지역 가게 목록 정렬. 같은 값이면 _id 순으로 고정한다 (인덱스도 같은 순서로 만든다)
+@Getter
+@AllArgsConstructor
+public enum StoreDiscoverySort {
+
+	RATING("avgRating", Sort.Direction.DESC),
+	MIN_ORDER_AMOUNT("minOrderAmount", Sort.Direction.ASC);
+
+	private final String field;
+	private final Sort.Direction direction;
+
+	public Sort toSort() {
+		return Sort.by(direction, field).and(Sort.by(Sort.Direction.ASC, "_id"));
+	}
+}
@@ -0,0 +1,15 @@
+package app.domain.mongo.model.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 지역 가게 목록. categories 는 카테고리 필터와 무관하게 지역 전체의 카테고리별 가게 수 (많은 순), 첫 페이지에만 담는다
+@Getter
+@AllArgsConstructor
+public class RegionStoreResponse {
+	private List<StoreCardResponse> stores;
+	private Map<String, Long> categories;
+}
@@ -0,0 +1,30 @@
+package app.domain.mongo.model.dto.response;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 검색 결과 목록 카드. 상세 화면에서만 쓰는 필드와 메뉴 설명은 담지 않는다
+@Getter
+@Setter
+@NoArgsConstructor
+public class StoreCardResponse {
+	private String storeKey;
+	private String storeName;
+	private Double avgRating;
+	private Long reviewCount;
+	private Long minOrderAmount;
+	private String regionName;
+	private List<MenuCard> menus;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	public static class MenuCard {
+		private String menuId;
+		private String name;
+		private Integer price;
+	}
+}
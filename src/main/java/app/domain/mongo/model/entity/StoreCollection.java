@@ -4,12 +4,12 @@ import java.util.Date;
 import java.util.List;
 
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
-import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,17 +20,14 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 @Document(collection = "stores")
-@CompoundIndex(name = "store_search_index", def = "{'categoryKeys': 1, 'regionName': 1, 'isActive': 1}")
 public class StoreCollection {
     @Id
     private String id;
 	private Long userId;
 	@Indexed(name = "store_key_index", unique = true)
 	private String storeKey;
-	@TextIndexed(weight = 3)
 	private String storeName;
 	private String description;
-	@TextIndexed(weight = 2)
 	private List<String> categoryKeys;
 	private Double avgRating;
 	private Long reviewCount;
@@ -45,12 +42,20 @@ public class StoreCollection {
 	private Date createdAt;
 	@Indexed
 	private Date updatedAt;
+	// 가게 필드(이름, 상태 등)가 마지막으로 반영된 시각. 이벤트 반영 시 이전 이벤트를 거르는 데 쓴다
+	@JsonIgnore
+	private Date storeUpdatedAt;
 	private Date deletedAt;
 
 	@Field("version")
 	@org.springframework.data.annotation.Version
 	private Long version = 0L;
-	@TextIndexed
 	private List<MenuCollection> menus;
+	// 배치 동기화가 마지막으로 쓴 내용의 해시. 같으면 쓰기를 건너뛴다
+	@JsonIgnore
+	private String contentHash;
+	// 텍스트 인덱스용 단어/2-gram 토큰 (StoreSearchTokens, 인덱스는 StoreSearchIndexInitializer)
+	@JsonIgnore
+	private List<String> searchTokens;
 
 }
@@ -0,0 +1,44 @@
+package app.domain.outbox.model.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "p_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+	// 발행 순서. 같은 가게의 이벤트는 이 순서대로 같은 파티션에 실린다
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long outboxId;
+
+	@Column(nullable = false)
+	private String aggregateId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 50)
+	private OutboxEventType eventType;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,10 @@
+package app.domain.outbox.model.entity;
+
+public enum OutboxEventType {
+	STORE_UPDATED,
+	STORE_STATUS_CHANGED,
+	MENU_CREATED,
+	MENU_UPDATED,
+	MENU_DELETED,
+	MENU_VISIBILITY_CHANGED
+}
@@ -0,0 +1,21 @@
+package app.domain.outbox.model.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import app.domain.outbox.model.entity.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	@Query(value = "select * from p_outbox order by outbox_id limit :limit", nativeQuery = true)
+	List<OutboxEvent> findNextBatch(@Param("limit") int limit);
+
+	// 트랜잭션이 끝나면 풀리는 advisory lock. 릴레이를 한 파드에서만 돌려 발행 순서를 지킨다
+	@Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+	boolean tryRelayLock(@Param("key") long key);
+}
@@ -0,0 +1,86 @@
+package app.domain.outbox.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.outbox.model.entity.OutboxEvent;
+import app.domain.outbox.model.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * p_outbox 를 순서대로 읽어 store.projection 토픽에 묶어서 발행하고, 전송이 확인된 행만 지운다.
+ * 전송 후 삭제 전에 죽으면 재발행되므로 컨슈머 쪽 반영은 멱등이어야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+	public static final String TOPIC = "store.projection";
+	private static final long RELAY_LOCK_KEY = 0x5354_4f52_4f55_5442L;
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final KafkaTemplate<String, String> kafkaTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${outbox.relay.enabled:true}")
+	private boolean enabled;
+
+	@Value("${outbox.relay.batch-size:500}")
+	private int batchSize;
+
+	@Value("${outbox.relay.send-timeout-ms:10000}")
+	private long sendTimeoutMs;
+
+	@Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+	public void relay() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			Integer relayed;
+			while ((relayed = transactionTemplate.execute(status -> relayBatch())) != null && relayed == batchSize) {
+				// 밀린 이벤트는 한 주기에 모두 보낸다
+			}
+		} catch (Exception e) {
+			log.error("outbox 릴레이 실패, 다음 주기에 재시도합니다.", e);
+		}
+	}
+
+	private int relayBatch() {
+		if (!outboxEventRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+			return 0;
+		}
+		List<OutboxEvent> events = outboxEventRepository.findNextBatch(batchSize);
+		if (events.isEmpty()) {
+			return 0;
+		}
+
+		CompletableFuture<?>[] sends = events.stream()
+			.map(event -> {
+				ProducerRecord<String, String> record = new ProducerRecord<>(TOPIC, event.getAggregateId(), event.getPayload());
+				record.headers().add("eventType", event.getEventType().name().getBytes(StandardCharsets.UTF_8));
+				return kafkaTemplate.send(record);
+			})
+			.toArray(CompletableFuture[]::new);
+		try {
+			CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (Exception e) {
+			throw new IllegalStateException("outbox 이벤트 전송 실패", e);
+		}
+
+		outboxEventRepository.deleteAllInBatch(events);
+		log.debug("outbox 이벤트 발행: {} 건", events.size());
+		return events.size();
+	}
+}
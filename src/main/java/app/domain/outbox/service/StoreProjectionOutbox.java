@@ -0,0 +1,112 @@
+package app.domain.outbox.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.menu.cache.CategoryTreeCache;
+import app.domain.menu.model.entity.Category;
+import app.domain.menu.model.entity.Menu;
+import app.domain.outbox.model.entity.OutboxEvent;
+import app.domain.outbox.model.entity.OutboxEventType;
+import app.domain.outbox.model.repository.OutboxEventRepository;
+import app.domain.store.model.entity.Store;
+import app.domain.store.status.StoreAcceptStatus;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Mongo 읽기 모델(stores) 반영용 변경 이벤트를 도메인 변경과 같은 트랜잭션에서 p_outbox 에 기록한다.
+ * 발행은 OutboxRelay 가, 반영은 StoreProjectionConsumer 가 맡는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreProjectionOutbox {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+	private final CategoryTreeCache categoryTreeCache;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void storeUpdated(Store store) {
+		Map<String, Object> payload = new HashMap<>();
+		payload.put("storeName", store.getStoreName());
+		payload.put("description", store.getDescription());
+		payload.put("address", store.getAddress());
+		payload.put("phoneNumber", store.getPhoneNumber());
+		payload.put("minOrderAmount", store.getMinOrderAmount());
+		payload.put("categoryKeys", categoryKeys(store.getCategory()));
+		record(OutboxEventType.STORE_UPDATED, store, payload);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void storeStatusChanged(Store store) {
+		Map<String, Object> payload = new HashMap<>();
+		payload.put("storeAcceptStatus", store.getStoreAcceptStatus().name());
+		payload.put("isActive", store.getStoreAcceptStatus() == StoreAcceptStatus.APPROVE);
+		record(OutboxEventType.STORE_STATUS_CHANGED, store, payload);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void menuCreated(Menu menu) {
+		record(OutboxEventType.MENU_CREATED, menu.getStore(), menuPayload(menu));
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void menuUpdated(Menu menu) {
+		record(OutboxEventType.MENU_UPDATED, menu.getStore(), menuPayload(menu));
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void menuDeleted(Menu menu) {
+		record(OutboxEventType.MENU_DELETED, menu.getStore(), Map.of("menuId", menu.getMenuId().toString()));
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void menuVisibilityChanged(Menu menu) {
+		record(OutboxEventType.MENU_VISIBILITY_CHANGED, menu.getStore(),
+			Map.of("menuId", menu.getMenuId().toString(), "isHidden", menu.isHidden()));
+	}
+
+	private Map<String, Object> menuPayload(Menu menu) {
+		Map<String, Object> payload = new HashMap<>();
+		payload.put("menuId", menu.getMenuId().toString());
+		payload.put("name", menu.getName());
+		payload.put("price", menu.getPrice());
+		payload.put("description", menu.getDescription());
+		payload.put("isHidden", menu.isHidden());
+		return payload;
+	}
+
+	// BulkRepositoryImpl 과 같은 값: 카테고리 트리 스냅샷의 경로(루트 -> 자신). 부모를 하나씩 지연 로딩하지 않는다
+	private List<String> categoryKeys(Category category) {
+		if (category == null) {
+			return List.of();
+		}
+		UUID categoryId = category.getCategoryId();
+		return categoryTreeCache.get(categoryId).path(categoryId);
+	}
+
+	private void record(OutboxEventType eventType, Store store, Map<String, Object> payload) {
+		Map<String, Object> body = new HashMap<>(payload);
+		body.put("updatedAt", LocalDateTime.now().toString());
+		try {
+			outboxEventRepository.save(OutboxEvent.builder()
+				.aggregateId(store.getStoreId().toString())
+				.eventType(eventType)
+				.payload(objectMapper.writeValueAsString(body))
+				.createdAt(LocalDateTime.now())
+				.build());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("outbox payload 직렬화 실패: " + eventType, e);
+		}
+	}
+}
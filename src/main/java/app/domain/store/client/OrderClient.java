@@ -25,8 +25,10 @@ public class OrderClient {
     @Value("${order.service.url:http://localhost:8084}")
     private String orderServiceUrl;
 
-    public ApiResponse<List<StoreOrderInfo>> getOrdersByStoreId(UUID storeId){
-        String url = orderServiceUrl + "/internal/order/store/"+storeId;
+    // 주문 서비스의 GET /internal/order/store/{storeId} 가 offset/limit 쿼리 파라미터를 지원해야 한다.
+    // 파라미터를 모르는 버전은 전체 주문을 돌려주며, 이 경우 StoreService 가 offset 부터 잘라 쓴다
+    public ApiResponse<List<StoreOrderInfo>> getOrdersByStoreId(UUID storeId, long offset, int limit){
+        String url = orderServiceUrl + "/internal/order/store/"+storeId+"?offset="+offset+"&limit="+limit;
         ResponseEntity<ApiResponse<List<StoreOrderInfo>>> response = restTemplate.exchange(
             url,
             HttpMethod.GET,
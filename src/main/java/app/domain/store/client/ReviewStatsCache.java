@@ -0,0 +1,133 @@
+package app.domain.store.client;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import app.commonUtil.apiPayload.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 가게별 리뷰 통계(개수/평균) 로컬 캐시
+ * - refreshAfterWrite 이후 조회는 기존 값을 바로 돌려주고 백그라운드에서 갱신한다
+ * - 같은 가게에 대한 동시 미스는 진행 중인 하나의 호출을 함께 기다린다
+ * - 리뷰 서비스가 느리거나 실패하면 0/0.0 으로 응답한다 (늦게 도착한 결과는 다음 조회부터 사용)
+ */
+@Component
+@Slf4j
+public class ReviewStatsCache {
+
+	private final ReviewClient reviewClient;
+	private final ExecutorService executor;
+	private final AsyncLoadingCache<UUID, ReviewClient.StoreReviewResponse> cache;
+	private final long timeoutMs;
+
+	public ReviewStatsCache(ReviewClient reviewClient, MeterRegistry meterRegistry,
+		@Value("${review.cache.refresh-after-seconds:30}") long refreshAfterSeconds,
+		@Value("${review.cache.ttl-seconds:600}") long ttlSeconds,
+		@Value("${review.cache.max-size:50000}") long maxSize,
+		@Value("${review.cache.timeout-ms:300}") long timeoutMs,
+		@Value("${review.cache.threads:4}") int threads) {
+		this.reviewClient = reviewClient;
+		this.timeoutMs = timeoutMs;
+		this.executor = Executors.newFixedThreadPool(threads);
+		this.cache = Caffeine.newBuilder()
+			.refreshAfterWrite(Duration.ofSeconds(refreshAfterSeconds))
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.maximumSize(maxSize)
+			// 리뷰 서비스 호출에 요청 스레드의 토큰이 필요하다
+			.executor(new DelegatingSecurityContextExecutor(executor))
+			.recordStats()
+			.buildAsync(new CacheLoader<>() {
+				@Override
+				public ReviewClient.StoreReviewResponse load(UUID storeId) {
+					return loadAll(Set.of(storeId)).get(storeId);
+				}
+
+				@Override
+				public Map<UUID, ReviewClient.StoreReviewResponse> loadAll(Set<? extends UUID> storeIds) {
+					return fetch(storeIds);
+				}
+			});
+		CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "reviewStats");
+	}
+
+	// DB 조회와 겹쳐 실행하도록 먼저 시작해 두고 await 으로 받는다
+	public CompletableFuture<Map<UUID, ReviewClient.StoreReviewResponse>> prefetch(Collection<UUID> storeIds) {
+		if (storeIds.isEmpty()) {
+			return CompletableFuture.completedFuture(Map.of());
+		}
+		return cache.getAll(storeIds);
+	}
+
+	public Map<UUID, ReviewClient.StoreReviewResponse> await(
+		CompletableFuture<Map<UUID, ReviewClient.StoreReviewResponse>> future) {
+		try {
+			return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			log.warn("리뷰 통계 조회 지연({}ms), 기본값으로 응답합니다.", timeoutMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			log.warn("리뷰 통계 조회 실패, 기본값으로 응답합니다: {}", e.getMessage());
+		}
+		return Map.of();
+	}
+
+	public Map<UUID, ReviewClient.StoreReviewResponse> getAll(Collection<UUID> storeIds) {
+		return await(prefetch(storeIds));
+	}
+
+	public ReviewClient.StoreReviewResponse get(UUID storeId) {
+		return getAll(List.of(storeId)).getOrDefault(storeId, empty(storeId));
+	}
+
+	public static ReviewClient.StoreReviewResponse empty(UUID storeId) {
+		return new ReviewClient.StoreReviewResponse(storeId, 0L, 0.0);
+	}
+
+	// 리뷰가 없는 가게도 0/0.0 으로 캐시해 매번 다시 묻지 않도록 한다
+	private Map<UUID, ReviewClient.StoreReviewResponse> fetch(Collection<? extends UUID> storeIds) {
+		ApiResponse<List<ReviewClient.StoreReviewResponse>> response = reviewClient.getStoreReviewAverage(List.copyOf(storeIds));
+		if (response == null || !response.isSuccess()) {
+			throw new IllegalStateException("리뷰 서비스 응답 실패");
+		}
+		Map<UUID, ReviewClient.StoreReviewResponse> loaded = new HashMap<>();
+		if (response.result() != null) {
+			response.result().forEach(review -> loaded.put(review.getStoreId(), normalize(review)));
+		}
+		storeIds.forEach(storeId -> loaded.putIfAbsent(storeId, empty(storeId)));
+		return loaded;
+	}
+
+	private ReviewClient.StoreReviewResponse normalize(ReviewClient.StoreReviewResponse review) {
+		return new ReviewClient.StoreReviewResponse(review.getStoreId(),
+			review.getNumber() == null ? 0L : review.getNumber(),
+			review.getAverage() == null ? 0.0 : review.getAverage());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+}
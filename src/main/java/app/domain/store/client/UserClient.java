@@ -1,9 +1,10 @@
 package app.domain.store.client;
 
-
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -11,6 +12,9 @@ import org.springframework.web.client.RestTemplate;
 
 import app.commonUtil.apiPayload.ApiResponse;
 import app.domain.store.model.dto.response.GetUserInfoResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
 @Component
@@ -35,14 +39,16 @@ public class UserClient {
         return response.getBody();
     }
 
-    public ApiResponse<String> getUserName() {
-        String url = userServiceUrl + "/internal/user/name";
+    // 사용자 서비스의 POST /internal/user/names (본문: userId 목록, 응답: userId/name 목록) 에 의존한다.
+    // 사용자 서비스에 이 API 가 배포되기 전까지는 UserNameResolver 가 이름 없이 응답한다
+    public ApiResponse<List<UserNameResponse>> getUserNames(List<Long> userIds) {
+        String url = userServiceUrl + "/internal/user/names";
 
-        ResponseEntity<ApiResponse<String>> response = restTemplate.exchange(
+        ResponseEntity<ApiResponse<List<UserNameResponse>>> response = restTemplate.exchange(
             url,
-            HttpMethod.GET,
-            null,
-            new ParameterizedTypeReference<ApiResponse<String>>() {}
+            HttpMethod.POST,
+            new HttpEntity<>(userIds),
+            new ParameterizedTypeReference<ApiResponse<List<UserNameResponse>>>() {}
         );
 
         return response.getBody();
@@ -60,4 +66,12 @@ public class UserClient {
 
         return response.getBody();
     }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserNameResponse {
+        private Long userId;
+        private String name;
+    }
 }
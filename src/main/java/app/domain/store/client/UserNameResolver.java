@@ -0,0 +1,79 @@
+package app.domain.store.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import app.commonUtil.apiPayload.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 주문 목록의 고객 이름 조회
+ * 중복을 제거한 userId 중 캐시에 없는 것만 batch-size 단위로 묶어 사용자 서비스에 묻는다.
+ * 사용자 서비스 호출이 실패하면 해당 묶음은 이름 없이 응답하고 캐시하지 않아 다음 조회에서 다시 묻는다.
+ */
+@Component
+@Slf4j
+public class UserNameResolver {
+
+	private final UserClient userClient;
+	private final Cache<Long, String> cache;
+	private final int batchSize;
+
+	public UserNameResolver(UserClient userClient, MeterRegistry meterRegistry,
+		@Value("${user.name.cache.ttl-seconds:600}") long ttlSeconds,
+		@Value("${user.name.cache.max-size:100000}") long maxSize,
+		@Value("${user.name.batch-size:200}") int batchSize) {
+		this.userClient = userClient;
+		this.batchSize = batchSize;
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.maximumSize(maxSize)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "userName");
+	}
+
+	// 사용자 서비스가 모르거나 조회에 실패한 userId 는 결과에서 빠진다
+	public Map<Long, String> resolve(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return Map.of();
+		}
+		return cache.getAll(Set.copyOf(userIds), this::fetch);
+	}
+
+	private Map<Long, String> fetch(Set<? extends Long> missing) {
+		List<Long> ids = new ArrayList<>(missing);
+		Map<Long, String> loaded = new HashMap<>();
+		for (int from = 0; from < ids.size(); from += batchSize) {
+			List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+			ApiResponse<List<UserClient.UserNameResponse>> response;
+			try {
+				response = userClient.getUserNames(chunk);
+			} catch (RestClientException e) {
+				// 이름은 부가 정보라 주문 목록 조회를 실패시키지 않는다
+				log.warn("고객 이름 조회 실패, 이름 없이 응답합니다: {} 건, {}", chunk.size(), e.getMessage());
+				continue;
+			}
+			if (response != null && response.result() != null) {
+				response.result().stream()
+					.filter(user -> user.getName() != null)
+					.forEach(user -> loaded.put(user.getUserId(), user.getName()));
+			}
+		}
+		return loaded;
+	}
+}
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 import app.commonUtil.apiPayload.ApiResponse;
 import app.commonUtil.apiPayload.PagedResponse;
 import app.domain.store.service.CustomerStoreService;
+import app.domain.store.model.dto.response.CursorResponse;
 import app.domain.store.model.dto.response.GetCustomerStoreDetailResponse;
 import app.domain.store.model.dto.response.GetStoreListResponse;
 import app.domain.store.status.StoreAcceptStatus;
@@ -63,4 +64,37 @@ public class CustomerStoreController {
 		return ApiResponse.onSuccess(StoreSuccessStatus.CUSTOMER_SEARCH_STORE_OK,
 			customerStoreService.searchStoresByStatus(keyword,categoryWord, StoreAcceptStatus.APPROVE, pageable));
 	}
-}
\ No newline at end of file
+
+	@GetMapping("/cursor")
+	@Operation(
+		summary = "승인이 허용된 가게 목록 커서 조회",
+		description = "생성일 최신순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘기며, 전체 개수는 /count 로 조회합니다.")
+	public ApiResponse<CursorResponse<GetStoreListResponse>> getApprovedStoreListByCursor(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		return ApiResponse.onSuccess(StoreSuccessStatus.CUSTOMER_GET_STORE_LIST_OK,
+			customerStoreService.getApprovedStoreByCursor(cursor, size));
+	}
+
+	@GetMapping("/search/cursor")
+	@Operation(
+		summary = "가게 목록 커서 검색",
+		description = "가게명 순으로 검색 결과를 커서 단위로 조회합니다.")
+	public ApiResponse<CursorResponse<GetStoreListResponse>> searchApprovedStoreByCursor(
+		@RequestParam String keyword,
+		@RequestParam(required = false) String categoryWord,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "10") int size) {
+		return ApiResponse.onSuccess(StoreSuccessStatus.CUSTOMER_SEARCH_STORE_OK,
+			customerStoreService.searchStoresByCursor(keyword, categoryWord, cursor, size));
+	}
+
+	@GetMapping("/count")
+	@Operation(
+		summary = "승인이 허용된 가게 수 조회",
+		description = "화면 표시용 가게 수를 조회합니다. 잠시 캐시된 근사값입니다.")
+	public ApiResponse<Long> countApprovedStores() {
+		return ApiResponse.onSuccess(StoreSuccessStatus.CUSTOMER_GET_STORE_COUNT_OK,
+			customerStoreService.countApprovedStores());
+	}
+}
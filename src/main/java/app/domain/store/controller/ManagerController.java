@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 import app.commonUtil.apiPayload.ApiResponse;
 import app.commonUtil.apiPayload.PagedResponse;
 import app.domain.store.service.ManagerService;
+import app.domain.store.model.dto.response.CursorResponse;
 import app.domain.store.model.dto.response.GetStoreDetailResponse;
 import app.domain.store.model.dto.response.GetStoreListResponse;
 import app.domain.store.status.ManagerSuccessStatus;
@@ -47,6 +48,27 @@ public class ManagerController {
 	}
 
 
+	@GetMapping("/cursor")
+	@Operation(
+		summary = "전체 가게 목록 커서 조회",
+		description = "생성일 최신순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘깁니다.")
+	public ApiResponse<CursorResponse<GetStoreListResponse>> getAllStoreByCursor(
+		@RequestParam(defaultValue = "APPROVE") StoreAcceptStatus status,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return ApiResponse.onSuccess(
+			ManagerSuccessStatus.MANAGER_GET_STORE_LIST_OK, managerService.getAllStoreByCursor(status, cursor, size));
+	}
+
+	@GetMapping("/count")
+	@Operation(
+		summary = "상태별 가게 수 조회",
+		description = "화면 표시용 가게 수를 조회합니다. 잠시 캐시된 근사값입니다.")
+	public ApiResponse<Long> countStores(@RequestParam(defaultValue = "APPROVE") StoreAcceptStatus status) {
+		return ApiResponse.onSuccess(ManagerSuccessStatus.MANAGER_GET_STORE_COUNT_OK, managerService.countStores(status));
+	}
+
 	@GetMapping("/{storeId}")
 	@Operation(
 		summary = "선택한 가게 상세 정보 조회",
@@ -3,6 +3,8 @@ package app.domain.store.controller;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -109,8 +111,10 @@ public class StoreController {
 	}
 
 	@GetMapping("/{storeId}/order")
-	public ApiResponse<StoreOrderListResponse> getStoreOrders(@PathVariable UUID storeId, Authentication authentication) {
-		StoreOrderListResponse response = storeService.getStoreOrderList(storeId, Long.parseLong(tokenPrincipalParser.getUserId(authentication)));
+	public ApiResponse<StoreOrderListResponse> getStoreOrders(@PathVariable UUID storeId, Authentication authentication,
+		@PageableDefault(size = 20) Pageable pageable) {
+		StoreOrderListResponse response = storeService.getStoreOrderList(storeId,
+			Long.parseLong(tokenPrincipalParser.getUserId(authentication)), pageable);
 		return ApiResponse.onSuccess(StoreSuccessStatus._OK, response);
 	}
 
@@ -1,8 +1,8 @@
 package app.domain.store.kafka;
 
 import app.commonUtil.apiPayload.exception.GeneralException;
-import app.domain.menu.model.entity.Menu;
-import app.domain.menu.model.repository.MenuRepository;
+import app.domain.menu.cache.MenuSnapshot;
+import app.domain.menu.cache.MenuSnapshotCache;
 import app.domain.menu.status.StoreMenuErrorCode;
 import app.domain.store.repository.StoreRepository;
 import app.domain.store.status.StoreErrorCode;
@@ -31,7 +31,7 @@ public class OrderValidConsumer {
 	private final ObjectMapper objectMapper;
 	private final RedisTemplate<String, String> redisTemplate;
 	private final StoreRepository storeRepository;
-	private final MenuRepository menuRepository;
+	private final MenuSnapshotCache menuSnapshotCache;
 	private final OrderValidProducer orderValidProducer;
 	private final OrderCreatedProducer orderCreatedProducer;
 
@@ -69,14 +69,14 @@ public class OrderValidConsumer {
 				.map(RedisCartItem::getMenuId)
 				.distinct()
 				.collect(Collectors.toList());
-			List<Menu> menus = menuRepository.findAllById(menuIds);
+			Map<UUID, MenuSnapshot> menuMap = menuSnapshotCache.getAll(menuIds).values().stream()
+				.filter(menu -> !menu.isDeleted())
+				.collect(Collectors.toMap(MenuSnapshot::getMenuId, Function.identity()));
 
-			if (menus.size() != menuIds.size()) {
+			if (menuMap.size() != menuIds.size()) {
 				throw new GeneralException(StoreMenuErrorCode.MENU_NOT_FOUND);
 			}
 
-			Map<UUID, Menu> menuMap = menus.stream().collect(Collectors.toMap(Menu::getMenuId, Function.identity()));
-
 			long calculatedTotalPrice = items.stream()
 				.mapToLong(item -> menuMap.get(item.getMenuId()).getPrice() * item.getQuantity())
 				.sum();
@@ -89,7 +89,7 @@ public class OrderValidConsumer {
 			// --- Success Case ---
 			List<Map<String, Object>> menuList = items.stream()
 				.map(item -> {
-					Menu menu = menuMap.get(item.getMenuId());
+					MenuSnapshot menu = menuMap.get(item.getMenuId());
 					Map<String, Object> menuInfo = new HashMap<>();
 					menuInfo.put("menuId", menu.getMenuId());
 					menuInfo.put("menuName", menu.getName());
@@ -0,0 +1,68 @@
+package app.domain.store.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.store.status.StoreErrorCode;
+import lombok.Getter;
+
+/*
+ * 키셋 페이지 커서 (정렬 키 값, storeId)
+ * 클라이언트에는 base64url 문자열로만 내보내 형식에 의존하지 않도록 한다
+ */
+@Getter
+public class StoreCursor {
+
+	private static final char SEPARATOR = '|';
+
+	private final String sortValue;
+	private final UUID storeId;
+
+	public StoreCursor(String sortValue, UUID storeId) {
+		this.sortValue = sortValue;
+		this.storeId = storeId;
+	}
+
+	public String encode() {
+		return encodeToken(sortValue + SEPARATOR + storeId);
+	}
+
+	public LocalDateTime sortTime() {
+		try {
+			return LocalDateTime.parse(sortValue);
+		} catch (DateTimeParseException e) {
+			throw new GeneralException(StoreErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	// storeId 는 길이가 고정이므로 마지막 구분자로 나눈다 (정렬 값에 구분자가 있어도 된다)
+	public static StoreCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		String raw = decodeToken(token);
+		try {
+			int index = raw.lastIndexOf(SEPARATOR);
+			return new StoreCursor(raw.substring(0, index), UUID.fromString(raw.substring(index + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw new GeneralException(StoreErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	// 다른 키셋 커서(Mongo _id 등)도 같은 base64url 형식과 오류 코드를 쓴다
+	public static String encodeToken(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String decodeToken(String token) {
+		try {
+			return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new GeneralException(StoreErrorCode.INVALID_CURSOR);
+		}
+	}
+}
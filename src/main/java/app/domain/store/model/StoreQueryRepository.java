@@ -3,6 +3,7 @@ package app.domain.store.model;
 import org.springframework.data.domain.Pageable;
 
 import app.commonUtil.apiPayload.PagedResponse;
+import app.domain.store.model.dto.response.CursorResponse;
 import app.domain.store.model.dto.response.GetStoreListResponse;
 import app.domain.store.status.StoreAcceptStatus;
 
@@ -16,4 +17,18 @@ public interface StoreQueryRepository {
 	PagedResponse<GetStoreListResponse> getApprovedStore(Pageable pageable);
 
 	PagedResponse<GetStoreListResponse> getAllStore(StoreAcceptStatus status, Pageable pageable);
+
+	// 생성일 내림차순 키셋 페이지
+	CursorResponse<GetStoreListResponse> getStoresByCursor(StoreAcceptStatus status, String cursor, int size);
+
+	// 가게명 오름차순 키셋 페이지
+	CursorResponse<GetStoreListResponse> searchStoresByCursor(
+		String keyword,
+		String categoryKeyword,
+		StoreAcceptStatus status,
+		String cursor,
+		int size
+	);
+
+	long countStores(StoreAcceptStatus status);
 }
\ No newline at end of file
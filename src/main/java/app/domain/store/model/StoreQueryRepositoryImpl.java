@@ -1,7 +1,8 @@
 package app.domain.store.model;
 
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -12,14 +13,15 @@ import org.springframework.transaction.annotation.Transactional;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
-import app.commonUtil.apiPayload.ApiResponse;
 import app.commonUtil.apiPayload.PagedResponse;
-import app.commonUtil.apiPayload.code.status.ErrorStatus;
-import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.menu.cache.CategoryTreeCache;
 import app.domain.store.client.ReviewClient;
+import app.domain.store.client.ReviewStatsCache;
+import app.domain.store.model.dto.response.CursorResponse;
 import app.domain.store.model.dto.response.GetStoreListResponse;
 import app.domain.store.model.entity.QStore;
 import app.domain.store.model.entity.Store;
@@ -32,7 +34,8 @@ import lombok.RequiredArgsConstructor;
 public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 
 	private final JPAQueryFactory queryFactory;
-	private final ReviewClient reviewClient;
+	private final ReviewStatsCache reviewStatsCache;
+	private final CategoryTreeCache categoryTreeCache;
 
 
 	@Transactional(readOnly = true)
@@ -49,11 +52,8 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 			.and(status != null ? store.storeAcceptStatus.eq(status) : null)
 			// 키워드만 있으면: 가게명 contains
 			.and(hasText(keyword) ? store.storeName.containsIgnoreCase(keyword) : null)
-			// 카테고리만 있으면: 카테고리명 contains
-			.and(hasText(categoryKeyword)
-				? store.category.categoryName.isNotNull()
-				.and(store.category.categoryName.containsIgnoreCase(categoryKeyword))
-				: null);
+			// 카테고리: 이름이 일치하는 카테고리와 하위 카테고리의 id IN (category 조인 없음)
+			.and(categoryIn(store, categoryKeyword));
 
 
 		var orders = new OrderSpecifier<?>[]{ store.storeName.asc() };
@@ -65,22 +65,16 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 			.limit(pageable.getPageSize())
 			.fetch();
 
+		// 리뷰 평균은 개수 쿼리와 함께 조회한다
+		List<UUID> ids = stores.stream().map(Store::getStoreId).toList();
+		var reviews = reviewStatsCache.prefetch(ids);
+
 		Long total = queryFactory.select(store.count())
 			.from(store)
 			.where(where)
 			.fetchOne();
 
-		// 리뷰 평균 병합
-		List<UUID> ids = stores.stream().map(Store::getStoreId).toList();
-
-		var storeReviewResponse = reviewClient.getStoreReviewAverage(ids);
-		if (!storeReviewResponse.isSuccess())
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-		Map<UUID, ReviewClient.StoreReviewResponse> reviewMap  = storeReviewResponse.result().stream()
-			.collect(Collectors.toMap(
-				ReviewClient.StoreReviewResponse::getStoreId,
-				review -> review
-			));
+		Map<UUID, ReviewClient.StoreReviewResponse> reviewMap = reviewStatsCache.await(reviews);
 
 
 		List<GetStoreListResponse> content = stores.stream()
@@ -101,6 +95,15 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 		return s != null && !s.isBlank();
 	}
 
+	// 일치하는 카테고리가 없으면 결과도 없다
+	private BooleanExpression categoryIn(QStore store, String categoryKeyword) {
+		if (!hasText(categoryKeyword)) {
+			return null;
+		}
+		Set<UUID> categoryIds = categoryTreeCache.get().matchingIds(categoryKeyword.trim());
+		return categoryIds.isEmpty() ? Expressions.FALSE.isTrue() : store.category.categoryId.in(categoryIds);
+	}
+
 
 	@Override
 	public PagedResponse<GetStoreListResponse> getApprovedStore(Pageable pageable) {
@@ -122,6 +125,12 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 			.limit(pageable.getPageSize())
 			.fetch();
 
+		// storeId 목록 추출 후 리뷰 평균은 개수 쿼리와 함께 조회한다
+		List<UUID> storeIds = stores.stream()
+			.map(GetStoreListResponse::getStoreId)
+			.toList();
+		var reviews = reviewStatsCache.prefetch(storeIds);
+
 		// 전체 개수 쿼리 (페이징용)
 		Long total = queryFactory
 			.select(store.countDistinct())
@@ -130,21 +139,9 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 				.and(store.deletedAt.isNull()))
 			.fetchOne();
 
-		// 3. storeId 목록 추출
-		List<UUID> storeIds = stores.stream()
-			.map(GetStoreListResponse::getStoreId)
-			.toList();
-
-		ApiResponse<List<ReviewClient.StoreReviewResponse>> storeReviewResponse=reviewClient.getStoreReviewAverage(storeIds);
-		if(!storeReviewResponse.isSuccess()){
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-		}
-		Map<UUID, ReviewClient.StoreReviewResponse> reviewMap = storeReviewResponse.result().stream()
-			.collect(Collectors.toMap(
-				ReviewClient.StoreReviewResponse::getStoreId,
-				review -> review
-			));
-		stores.forEach(s -> s.setAverageRating(reviewMap.get(s.getStoreId()).getAverage()));
+		Map<UUID, ReviewClient.StoreReviewResponse> reviewMap = reviewStatsCache.await(reviews);
+		stores.forEach(s -> s.setAverageRating(
+			reviewMap.getOrDefault(s.getStoreId(), ReviewStatsCache.empty(s.getStoreId())).getAverage()));
 		Page<GetStoreListResponse> page = new PageImpl<>(stores, pageable, total != null ? total : 0);
 
 		return PagedResponse.from(page);
@@ -173,6 +170,11 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 			.limit(pageable.getPageSize())
 			.fetch();
 
+		List<UUID> storeIds = stores.stream()
+			.map(GetStoreListResponse::getStoreId)
+			.toList();
+		var reviews = reviewStatsCache.prefetch(storeIds);
+
 		Long total = queryFactory
 			.select(store.count())
 			.from(store)
@@ -182,24 +184,92 @@ public class StoreQueryRepositoryImpl implements StoreQueryRepository {
 			)
 			.fetchOne();
 
-		List<UUID> storeIds = stores.stream()
-			.map(GetStoreListResponse::getStoreId)
-			.toList();
-
-		ApiResponse<List<ReviewClient.StoreReviewResponse>> storeReviewResponse=reviewClient.getStoreReviewAverage(storeIds);
-		if(!storeReviewResponse.isSuccess()){
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-		}
-		Map<UUID, ReviewClient.StoreReviewResponse> reviewMap = storeReviewResponse.result().stream()
-			.collect(Collectors.toMap(
-				ReviewClient.StoreReviewResponse::getStoreId,
-				review -> review
-			));
-		stores.forEach(s -> s.setAverageRating(reviewMap.get(s.getStoreId()).getAverage()));
+		Map<UUID, ReviewClient.StoreReviewResponse> reviewMap = reviewStatsCache.await(reviews);
+		stores.forEach(s -> s.setAverageRating(
+			reviewMap.getOrDefault(s.getStoreId(), ReviewStatsCache.empty(s.getStoreId())).getAverage()));
 		Page<GetStoreListResponse> page = new PageImpl<>(stores, pageable, total != null ? total : 0);
 
 		return PagedResponse.from(page);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public CursorResponse<GetStoreListResponse> getStoresByCursor(StoreAcceptStatus status, String cursor, int size) {
+		QStore store = QStore.store;
+		size = CursorResponse.clampSize(size);
+		StoreCursor after = StoreCursor.decode(cursor);
+
+		var where = new BooleanBuilder()
+			.and(store.deletedAt.isNull())
+			.and(status != null ? store.storeAcceptStatus.eq(status) : null);
+		if (after != null) {
+			LocalDateTime createdAt = after.sortTime();
+			where.and(store.createdAt.lt(createdAt)
+				.or(store.createdAt.eq(createdAt).and(store.storeId.lt(after.getStoreId()))));
+		}
 
-}
\ No newline at end of file
+		List<Store> stores = queryFactory.selectFrom(store)
+			.where(where)
+			.orderBy(store.createdAt.desc(), store.storeId.desc())
+			.limit(size + 1)
+			.fetch();
+
+		return toCursorResponse(stores, size, s -> new StoreCursor(s.getCreatedAt().toString(), s.getStoreId()));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public CursorResponse<GetStoreListResponse> searchStoresByCursor(
+		String keyword,
+		String categoryKeyword,
+		StoreAcceptStatus status,
+		String cursor,
+		int size
+	) {
+		QStore store = QStore.store;
+		size = CursorResponse.clampSize(size);
+		StoreCursor after = StoreCursor.decode(cursor);
+
+		var where = new BooleanBuilder()
+			.and(store.deletedAt.isNull())
+			.and(status != null ? store.storeAcceptStatus.eq(status) : null)
+			.and(hasText(keyword) ? store.storeName.containsIgnoreCase(keyword) : null)
+			.and(categoryIn(store, categoryKeyword));
+		if (after != null) {
+			where.and(store.storeName.gt(after.getSortValue())
+				.or(store.storeName.eq(after.getSortValue()).and(store.storeId.gt(after.getStoreId()))));
+		}
+
+		List<Store> stores = queryFactory.selectFrom(store)
+			.where(where)
+			.orderBy(store.storeName.asc(), store.storeId.asc())
+			.limit(size + 1)
+			.fetch();
+
+		return toCursorResponse(stores, size, s -> new StoreCursor(s.getStoreName(), s.getStoreId()));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long countStores(StoreAcceptStatus status) {
+		QStore store = QStore.store;
+		Long total = queryFactory.select(store.count())
+			.from(store)
+			.where(store.deletedAt.isNull(), status != null ? store.storeAcceptStatus.eq(status) : null)
+			.fetchOne();
+		return total == null ? 0 : total;
+	}
+
+	private CursorResponse<GetStoreListResponse> toCursorResponse(List<Store> stores, int size,
+		Function<Store, StoreCursor> cursorOf) {
+		List<UUID> ids = stores.stream().limit(size).map(Store::getStoreId).toList();
+		Map<UUID, ReviewClient.StoreReviewResponse> reviewMap = reviewStatsCache.getAll(ids);
+		return CursorResponse.of(stores, size,
+			s -> {
+				ReviewClient.StoreReviewResponse review =
+					reviewMap.getOrDefault(s.getStoreId(), ReviewStatsCache.empty(s.getStoreId()));
+				return GetStoreListResponse.from(s, review.getNumber(), review.getAverage());
+			},
+			s -> cursorOf.apply(s).encode());
+	}
+}
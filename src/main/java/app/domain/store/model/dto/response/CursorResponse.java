@@ -0,0 +1,34 @@
+package app.domain.store.model.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 커서 페이지 응답. 전체 개수는 세지 않고 다음 페이지 커서만 돌려준다
+@Getter
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+	// 커서/목록 조회 공통 페이지 크기 상한
+	public static final int MAX_SIZE = 100;
+
+	private List<T> content;
+	private int size;
+	private boolean hasNext;
+	private String nextCursor;
+
+	public static int clampSize(int size) {
+		return Math.min(Math.max(size, 1), MAX_SIZE);
+	}
+
+	// size + 1 개를 조회한 결과로 다음 페이지 여부를 판단한다
+	public static <T, R> CursorResponse<R> of(List<T> rows, int size, Function<T, R> mapper,
+		Function<T, String> cursorOf) {
+		boolean hasNext = rows.size() > size;
+		List<T> page = hasNext ? rows.subList(0, size) : rows;
+		String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+		return new CursorResponse<>(page.stream().map(mapper).toList(), size, hasNext, nextCursor);
+	}
+}
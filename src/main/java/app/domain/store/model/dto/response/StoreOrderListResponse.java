@@ -17,6 +17,9 @@ public class StoreOrderListResponse {
 
     private UUID storeId;
     private List<StoreOrderDetail> orderList;
+    private int page;
+    private int size;
+    private boolean hasNext;
 
     @Getter
     @NoArgsConstructor
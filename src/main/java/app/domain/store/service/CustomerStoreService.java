@@ -2,21 +2,21 @@ package app.domain.store.service;
 
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
 
-import app.commonUtil.apiPayload.ApiResponse;
 import app.commonUtil.apiPayload.PagedResponse;
 import app.commonUtil.apiPayload.code.status.ErrorStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
 import app.domain.store.client.ReviewClient;
+import app.domain.store.client.ReviewStatsCache;
 import app.domain.store.model.StoreQueryRepository;
+import app.domain.store.model.dto.response.CursorResponse;
 import app.domain.store.model.dto.response.GetCustomerStoreDetailResponse;
 import app.domain.store.model.dto.response.GetStoreListResponse;
 import app.domain.store.model.entity.Store;
@@ -30,8 +30,9 @@ import java.util.List;
 public class CustomerStoreService {
 
 	private final StoreRepository storeRepository;
-	private final ReviewClient reviewClient;
+	private final ReviewStatsCache reviewStatsCache;
 	private final StoreQueryRepository storeQueryRepository;
+	private final StoreCountCache storeCountCache;
 
 	@Transactional(readOnly = true)
 	public PagedResponse<GetStoreListResponse> getApprovedStore(Pageable pageable) {
@@ -43,22 +44,8 @@ public class CustomerStoreService {
 		List<UUID> ids = page.getContent().stream()
 			.map(Store::getStoreId)
 			.toList();
-		ApiResponse<List<ReviewClient.StoreReviewResponse>> storeReviewResponse;
-		try{
-			storeReviewResponse = reviewClient.getStoreReviewAverage(ids);
-		} catch (HttpClientErrorException | HttpServerErrorException e){
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-
-		}
-
-		List<ReviewClient.StoreReviewResponse> storeReviewResponses =storeReviewResponse.result();
-
-		Map<UUID, ReviewClient.StoreReviewResponse> reviewMap = storeReviewResponses.stream()
-			.collect(java.util.stream.Collectors.toMap(
-				ReviewClient.StoreReviewResponse::getStoreId,
-				review -> review
-			));
-		
+		Map<UUID, ReviewClient.StoreReviewResponse> reviewMap = reviewStatsCache.getAll(ids);
+
 		List<GetStoreListResponse> content = page.getContent().stream()
 			.map(store -> {
 				ReviewClient.StoreReviewResponse review = reviewMap.get(store.getStoreId());
@@ -73,26 +60,15 @@ public class CustomerStoreService {
 	}
 	@Transactional(readOnly = true)
 	public GetCustomerStoreDetailResponse getApproveStoreDetail(UUID storeId) {
+		// 가게 조회와 리뷰 통계 조회를 함께 진행한다
+		CompletableFuture<Map<UUID, ReviewClient.StoreReviewResponse>> reviews =
+			reviewStatsCache.prefetch(List.of(storeId));
+
 		Store store = storeRepository
 			.findByStoreIdAndStoreAcceptStatusAndDeletedAtIsNull(storeId, StoreAcceptStatus.APPROVE)
 			.orElseThrow(() -> new GeneralException(ErrorStatus.STORE_NOT_FOUND));
 
-		ApiResponse<List<ReviewClient.StoreReviewResponse>> storeReviewResponse;
-		try{
-			storeReviewResponse = reviewClient.getStoreReviewAverage(List.of(storeId));
-		} catch (HttpClientErrorException | HttpServerErrorException e){
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-		}
-
-		List<ReviewClient.StoreReviewResponse> storeReviewResponses = storeReviewResponse.result();
-		
-		Map<UUID, ReviewClient.StoreReviewResponse> reviewMap = storeReviewResponses.stream()
-			.collect(java.util.stream.Collectors.toMap(
-				ReviewClient.StoreReviewResponse::getStoreId,
-				review -> review
-			));
-		
-		ReviewClient.StoreReviewResponse review = reviewMap.get(storeId);
+		ReviewClient.StoreReviewResponse review = reviewStatsCache.await(reviews).get(storeId);
 		long number =(review!=null) ? review.getNumber() :0L;
 		double avg = (review != null) ? review.getAverage() : 0.0;
 
@@ -106,4 +82,17 @@ public class CustomerStoreService {
 			keyword, categoryWord, status, pageable
 		);
 	}
-}
\ No newline at end of file
+
+	public CursorResponse<GetStoreListResponse> getApprovedStoreByCursor(String cursor, int size) {
+		return storeQueryRepository.getStoresByCursor(StoreAcceptStatus.APPROVE, cursor, size);
+	}
+
+	public CursorResponse<GetStoreListResponse> searchStoresByCursor(
+		String keyword, String categoryWord, String cursor, int size) {
+		return storeQueryRepository.searchStoresByCursor(keyword, categoryWord, StoreAcceptStatus.APPROVE, cursor, size);
+	}
+
+	public long countApprovedStores() {
+		return storeCountCache.get(StoreAcceptStatus.APPROVE);
+	}
+}
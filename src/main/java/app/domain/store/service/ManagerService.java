@@ -1,7 +1,9 @@
 package app.domain.store.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -14,8 +16,11 @@ import app.commonUtil.apiPayload.PagedResponse;
 import app.commonUtil.apiPayload.code.status.ErrorStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
 import app.domain.store.client.ReviewClient;
+import app.domain.store.client.ReviewStatsCache;
 import app.domain.store.client.UserClient;
+import app.domain.outbox.service.StoreProjectionOutbox;
 import app.domain.store.model.StoreQueryRepository;
+import app.domain.store.model.dto.response.CursorResponse;
 import app.domain.store.model.dto.response.GetStoreDetailResponse;
 import app.domain.store.model.dto.response.GetStoreListResponse;
 import app.domain.store.model.dto.response.GetUserInfoResponse;
@@ -33,29 +38,33 @@ public class ManagerService {
 
 	private final StoreRepository storeRepository;
 	private final StoreQueryRepository storeQueryRepository;
-	private final ReviewClient reviewClient;
+	private final ReviewStatsCache reviewStatsCache;
 	private final UserClient userClient;
+	private final StoreProjectionOutbox storeProjectionOutbox;
+	private final StoreCountCache storeCountCache;
 
 	@Transactional(readOnly = true)
 	public PagedResponse<GetStoreListResponse> getAllStore(StoreAcceptStatus status, Pageable pageable) {
 		return storeQueryRepository.getAllStore(status, pageable);
 	}
 
+	public CursorResponse<GetStoreListResponse> getAllStoreByCursor(StoreAcceptStatus status, String cursor, int size) {
+		return storeQueryRepository.getStoresByCursor(status, cursor, size);
+	}
+
+	public long countStores(StoreAcceptStatus status) {
+		return storeCountCache.get(status);
+	}
+
 	@Transactional(readOnly = true)
 	public GetStoreDetailResponse getStoreDetail(UUID storeId) {
+		// 가게/사용자 조회와 리뷰 통계 조회를 함께 진행한다
+		CompletableFuture<Map<UUID, ReviewClient.StoreReviewResponse>> reviews =
+			reviewStatsCache.prefetch(List.of(storeId));
+
 		Store store = storeRepository.findByStoreIdAndDeletedAtIsNull(storeId)
 			.orElseThrow(() -> new GeneralException(ErrorStatus.STORE_NOT_FOUND));
 
-		List<UUID> storeIds=List.of(store.getStoreId());
-		ApiResponse<List<ReviewClient.StoreReviewResponse>> getStoreListResponse;
-		try{
-			getStoreListResponse=reviewClient.getStoreReviewAverage(storeIds);
-		} catch(HttpServerErrorException | HttpClientErrorException e){
-			log.error("Review Service Error: {}", e.getResponseBodyAsString());
-			throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
-		}
-
-		Double avgRating = getStoreListResponse.result().get(0).getAverage();
 		ApiResponse<GetUserInfoResponse> getUserInfoResponse;
 		try{
 			getUserInfoResponse = userClient.getUserInfo();
@@ -64,6 +73,9 @@ public class ManagerService {
 		}
 
 		GetUserInfoResponse userInfo = getUserInfoResponse.result();
+		Double avgRating = reviewStatsCache.await(reviews)
+			.getOrDefault(storeId, ReviewStatsCache.empty(storeId))
+			.getAverage();
 
 		return GetStoreDetailResponse.from(store, userInfo.getUserId(), userInfo.getEmail(),
 			userInfo.getUsername(),userInfo.getRealName(),
@@ -78,6 +90,7 @@ public class ManagerService {
 			throw new GeneralException(StoreErrorCode.INVALID_STORE_STATUS);
 		}
 		store.updateAcceptStatus(status);
+		storeProjectionOutbox.storeStatusChanged(store);
 		return store.getStoreName() + "의 상태가 변경 되었습니다.";
 	}
 
@@ -0,0 +1,37 @@
+package app.domain.store.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import app.domain.store.model.StoreQueryRepository;
+import app.domain.store.status.StoreAcceptStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/*
+ * 상태별 가게 수 (화면의 전체 개수 표시용 근사값)
+ * 커서 목록은 개수를 세지 않으므로 별도 API 로 내려주고, ttl 동안은 캐시된 값을 그대로 쓴다
+ */
+@Component
+public class StoreCountCache {
+
+	private final LoadingCache<StoreAcceptStatus, Long> cache;
+
+	public StoreCountCache(StoreQueryRepository storeQueryRepository, MeterRegistry meterRegistry,
+		@Value("${store.count.cache.ttl-seconds:60}") long ttlSeconds) {
+		this.cache = Caffeine.newBuilder()
+			.refreshAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.recordStats()
+			.build(storeQueryRepository::countStores);
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "storeCount");
+	}
+
+	public long get(StoreAcceptStatus status) {
+		return cache.get(status);
+	}
+}
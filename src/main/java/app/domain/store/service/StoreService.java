@@ -1,9 +1,12 @@
 package app.domain.store.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
@@ -15,12 +18,15 @@ import app.commonUtil.apiPayload.exception.GeneralException;
 import app.domain.store.client.OrderClient;
 import app.domain.store.client.ReviewClient;
 import app.domain.store.client.UserClient;
+import app.domain.store.client.UserNameResolver;
 import app.domain.menu.model.dto.response.MenuListResponse;
 import app.domain.menu.model.entity.Category;
 import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.CategoryRepository;
 import app.domain.menu.model.repository.MenuRepository;
+import app.domain.outbox.service.StoreProjectionOutbox;
 import app.domain.store.kafka.OrderApproveProduce;
+import app.domain.store.model.dto.response.CursorResponse;
 import app.domain.store.model.dto.response.GetReviewResponse;
 import app.domain.store.model.dto.request.StoreApproveRequest;
 import app.domain.store.model.dto.request.StoreInfoUpdateRequest;
@@ -50,7 +56,9 @@ public class StoreService {
 	private final OrderClient orderClient;
 	private final ReviewClient reviewClient;
 	private final UserClient userClient;
+	private final UserNameResolver userNameResolver;
 	private final OrderApproveProduce orderApproveProduce;
+	private final StoreProjectionOutbox storeProjectionOutbox;
 
 	@Transactional
 	public StoreApproveResponse createStore(StoreApproveRequest request, Long userId) {
@@ -114,6 +122,7 @@ public class StoreService {
 		}
 
 		Store updatedStore = storeRepository.save(store);
+		storeProjectionOutbox.storeUpdated(updatedStore);
 		return new StoreInfoUpdateResponse(updatedStore.getStoreId());
 	}
 
@@ -171,7 +180,7 @@ public class StoreService {
 	}
 
 	@Transactional(readOnly = true)
-	public StoreOrderListResponse getStoreOrderList(UUID storeId, Long userId) {
+	public StoreOrderListResponse getStoreOrderList(UUID storeId, Long userId, Pageable pageable) {
 
 		Store store = storeRepository.findById(storeId)
 			.orElseThrow(() -> new GeneralException(StoreErrorCode.STORE_NOT_FOUND));
@@ -179,38 +188,45 @@ public class StoreService {
 		if (!store.getUserId().equals(userId)) {
 			throw new GeneralException(StoreErrorCode.INVALID_USER_ROLE);
 		}
+		// 다음 페이지 여부 확인을 위해 한 건 더 조회한다
+		int size = Math.min(pageable.getPageSize(), CursorResponse.MAX_SIZE);
+		long offset = (long) pageable.getPageNumber() * size;
 		ApiResponse<List<StoreOrderInfo>> storeOrderInfoResponse;
 		try{
-			storeOrderInfoResponse= orderClient.getOrdersByStoreId(storeId);
+			storeOrderInfoResponse= orderClient.getOrdersByStoreId(storeId, offset, size + 1);
 		} catch (HttpServerErrorException | HttpClientErrorException e){
 			log.error("Order Service Error: {}", e.getResponseBodyAsString());
 			throw new GeneralException(ErrorStatus.ORDER_NOT_FOUND);
 		}
 
 		List<StoreOrderInfo> orders= storeOrderInfoResponse.result();
+		// offset/limit 를 모르는 주문 서비스는 전체 주문을 돌려주므로 여기서 잘라낸다
+		if (orders.size() > size + 1) {
+			orders = orders.subList((int) Math.min(offset, orders.size()), orders.size());
+		}
+		boolean hasNext = orders.size() > size;
+		if (hasNext) {
+			orders = orders.subList(0, size);
+		}
+
+		Map<Long, String> customerNames = userNameResolver.resolve(orders.stream()
+			.map(StoreOrderInfo::getCustomerId)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet()));
+
 		List<StoreOrderListResponse.StoreOrderDetail> orderDetails = orders.stream()
-			.map(orderInfo -> {
-				ApiResponse<String> getUserNameResponse;
-				try{
-					getUserNameResponse =userClient.getUserName();
-				} catch (HttpClientErrorException | HttpServerErrorException e){
-					log.error("User Service Error: {}", e.getResponseBodyAsString());
-					throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
-				}
-
-				String customerName = getUserNameResponse.result();
-				return new StoreOrderListResponse.StoreOrderDetail(
-					orderInfo.getOrderId(),
-					orderInfo.getCustomerId(),
-					customerName,
-					orderInfo.getTotalPrice(),
-					orderInfo.getOrderStatus(),
-					orderInfo.getOrderedAt()
-				);
-			})
+			.map(orderInfo -> new StoreOrderListResponse.StoreOrderDetail(
+				orderInfo.getOrderId(),
+				orderInfo.getCustomerId(),
+				customerNames.get(orderInfo.getCustomerId()),
+				orderInfo.getTotalPrice(),
+				orderInfo.getOrderStatus(),
+				orderInfo.getOrderedAt()
+			))
 			.collect(Collectors.toList());
 
-		return new StoreOrderListResponse(store.getStoreId(), orderDetails);
+		return new StoreOrderListResponse(store.getStoreId(), orderDetails,
+			pageable.getPageNumber(), size, hasNext);
 	}
 
 	@Transactional
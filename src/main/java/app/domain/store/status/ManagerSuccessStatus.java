@@ -18,7 +18,8 @@ public enum ManagerSuccessStatus implements BaseCode {
 	MANAGER_GET_STORE_LIST_OK(HttpStatus.OK, "MANAGER204", "관리자의 가게 목록 조회가 성공했습니다."),
 	MANAGER_GET_STORE_DETAIL_OK(HttpStatus.OK, "MANAGER205", "관리자의 가게 상세 조회가 성공했습니다."),
 	MANAGER_UPDATE_STORE_STATUS_OK(HttpStatus.OK, "MANAGER206", "관리자의 가게 상태 수정이 성공했습니다."),
-	MANAGER_SEARCH_STORE_OK(HttpStatus.OK, "MANAGER207", "관리자의 가게 검색이 성공했습니다.");
+	MANAGER_SEARCH_STORE_OK(HttpStatus.OK, "MANAGER207", "관리자의 가게 검색이 성공했습니다."),
+	MANAGER_GET_STORE_COUNT_OK(HttpStatus.OK, "MANAGER208", "관리자의 가게 개수 조회가 성공했습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
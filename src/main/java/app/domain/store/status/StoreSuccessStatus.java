@@ -28,7 +28,8 @@ public enum StoreSuccessStatus implements BaseCode {
 	// 가게관련 유저 응답
 	CUSTOMER_GET_STORE_LIST_OK(HttpStatus.OK, "CUSTOMER200", "사용자의 가게 목록 조회가 성공했습니다."),
 	CUSTOMER_GET_STORE_DETAIL_OK(HttpStatus.OK, "CUSTOMER201", "사용자의 가게 상세 조회가 성공했습니다."),
-	CUSTOMER_SEARCH_STORE_OK(HttpStatus.OK, "CUSTOMER202", "사용자의 가게 검색이 성공했습니다.");
+	CUSTOMER_SEARCH_STORE_OK(HttpStatus.OK, "CUSTOMER202", "사용자의 가게 검색이 성공했습니다."),
+	CUSTOMER_GET_STORE_COUNT_OK(HttpStatus.OK, "CUSTOMER203", "사용자의 가게 개수 조회가 성공했습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String code;
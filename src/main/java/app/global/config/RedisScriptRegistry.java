@@ -0,0 +1,176 @@
+package app.global.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Lua 스크립트 등록소
+ * 기동 시 SCRIPT LOAD 로 미리 적재하고 EVALSHA 로만 호출한다. (파이프라인 포함)
+ * Redis 재시작 등으로 NOSCRIPT 가 나면 다시 적재한 뒤 NOSCRIPT 로 실패한 호출만 한 번 재시도한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisScriptRegistry implements SmartInitializingSingleton {
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, Script> scripts = new ConcurrentHashMap<>();
+
+	@Getter
+	public static class Script {
+		private final String name;
+		private final String sha1;
+		private final byte[] body;
+		private final Timer timer;
+
+		private Script(String name, String source, Timer timer) {
+			this.name = name;
+			this.sha1 = new DefaultRedisScript<>(source).getSha1();
+			this.body = source.getBytes(StandardCharsets.UTF_8);
+			this.timer = timer;
+		}
+	}
+
+	// 파이프라인으로 보낼 스크립트 호출 하나
+	public record Call(Script script, ReturnType returnType, List<String> keys, List<String> args) {
+	}
+
+	public Script register(String name, String source) {
+		return scripts.computeIfAbsent(name, key -> new Script(key, source, timer("redis.script", "script", key)));
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		try {
+			loadAll();
+		} catch (Exception e) {
+			// Redis 가 아직 준비되지 않았으면 첫 호출의 NOSCRIPT 처리에서 적재한다
+			log.warn("Lua 스크립트 사전 적재 실패: {}", e.getMessage());
+		}
+	}
+
+	public void loadAll() {
+		redisTemplate.execute((RedisCallback<Object>) connection -> {
+			scripts.values().forEach(script -> connection.scriptingCommands().scriptLoad(script.getBody()));
+			return null;
+		});
+		log.info("Lua 스크립트 적재 완료: {}", scripts.keySet());
+	}
+
+	public Object execute(Call call) {
+		return execute(call.script(), call.returnType(), call.keys(), call.args());
+	}
+
+	public Object execute(Script script, ReturnType returnType, List<String> keys, List<String> args) {
+		byte[][] keysAndArgs = keysAndArgs(keys, args);
+		return script.getTimer().record(() -> redisTemplate.execute((RedisCallback<Object>) connection -> {
+			try {
+				return deserialize(connection.scriptingCommands().evalSha(script.getSha1(), returnType, keys.size(), keysAndArgs));
+			} catch (RuntimeException e) {
+				if (!isNoScript(e)) {
+					throw e;
+				}
+				log.warn("NOSCRIPT, Lua 스크립트 재적재: {}", script.getName());
+				connection.scriptingCommands().scriptLoad(script.getBody());
+				return deserialize(connection.scriptingCommands().evalSha(script.getSha1(), returnType, keys.size(), keysAndArgs));
+			}
+		}));
+	}
+
+	// 결과는 calls 와 같은 순서. 파이프라인 안의 명령은 각자 실행되므로 전체를 다시 보내면 이미 실행된 예약이
+	// 중복(IN_PROGRESS)으로 돌아온다. NOSCRIPT 로 실패한 호출만 스크립트를 다시 적재한 뒤 하나씩 다시 보낸다
+	public List<Object> executePipelined(String operation, List<Call> calls) {
+		return timer("redis.script.pipeline", "operation", operation).record(() -> {
+			List<Object> results;
+			try {
+				results = new ArrayList<>(redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+					calls.forEach(call -> connection.scriptingCommands().evalSha(call.script().getSha1(),
+						call.returnType(), call.keys().size(), keysAndArgs(call.keys(), call.args())));
+					return null;
+				}));
+			} catch (RedisPipelineException e) {
+				results = e.getPipelineResult() == null ? null : new ArrayList<>(e.getPipelineResult());
+				if (results == null || results.size() != calls.size() || !onlyNoScript(results)) {
+					throw e;
+				}
+			}
+
+			boolean reloaded = false;
+			for (int i = 0; i < results.size(); i++) {
+				if (results.get(i) instanceof Throwable) {
+					if (!reloaded) {
+						log.warn("NOSCRIPT, Lua 스크립트 재적재 후 실패한 호출만 재시도: {}", operation);
+						loadAll();
+						reloaded = true;
+					}
+					results.set(i, execute(calls.get(i)));
+				}
+			}
+			return results;
+		});
+	}
+
+	// 파이프라인 실패가 모두 NOSCRIPT 일 때만 부분 재시도한다. 다른 오류는 호출한 쪽이 전체 실패로 처리한다
+	private boolean onlyNoScript(List<Object> results) {
+		return results.stream()
+			.filter(Throwable.class::isInstance)
+			.allMatch(result -> isNoScript((Throwable) result));
+	}
+
+	private Timer timer(String name, String tagKey, String tagValue) {
+		return Timer.builder(name)
+			.tag(tagKey, tagValue)
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	private boolean isNoScript(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private byte[][] keysAndArgs(List<String> keys, List<String> args) {
+		byte[][] keysAndArgs = new byte[keys.size() + args.size()][];
+		for (int i = 0; i < keys.size(); i++) {
+			keysAndArgs[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+		}
+		for (int i = 0; i < args.size(); i++) {
+			keysAndArgs[keys.size() + i] = args.get(i).getBytes(StandardCharsets.UTF_8);
+		}
+		return keysAndArgs;
+	}
+
+	private Object deserialize(Object result) {
+		if (result instanceof byte[] bytes) {
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+		if (result instanceof List<?> values) {
+			return values.stream().map(this::deserialize).toList();
+		}
+		return result;
+	}
+}
@@ -25,6 +25,7 @@ public class RestTemplateConfig {
 				return ex.execute(req, body);
 			})
 			.connectTimeout(Duration.ofSeconds(5))
+			.readTimeout(Duration.ofSeconds(5))
 			.build();
 	}
 }
\ No newline at end of file
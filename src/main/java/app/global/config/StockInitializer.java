@@ -1,34 +1,181 @@
 package app.global.config;
 
-import app.domain.menu.model.entity.Stock;
-import app.domain.menu.model.repository.StockRepository;
+import app.domain.menu.stock.StockKeyLayout;
+import app.domain.menu.stock.StockLedger;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
+/*
+ * 기동 시 DB 재고를 Redis 로 적재한다.
+ * 재고 요청/환불 리스너는 autoStartup=false 로 두고 적재가 끝난 뒤에 시작해, 적재 중에 들어온 차감이
+ * 아직 올라오지 않은 키를 만나 DB 대체 처리로 빠지거나 적재와 엇갈리지 않게 한다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class StockInitializer implements CommandLineRunner {
 
-    private final StockRepository stockRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    public static final String REQUEST_LISTENER_ID = "stock.request.listener";
+    public static final String REFUND_LISTENER_ID = "stock.refund.listener";
+
+    private static final String STOCK_SQL = "select menu_id, stock from p_stock";
+
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+    private final StockKeyLayout stockKeyLayout;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final StockLedger stockLedger;
+
+    // eager: 기동 시 전체 적재, lazy: 처음 조회될 때 메뉴 단위로 적재 (StockLoader)
+    @Getter
+    @Value("${stock.warmup.mode:eager}")
+    private String mode;
+
+    @Value("${stock.warmup.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${stock.warmup.threads:4}")
+    private int threads;
+
+    @Getter
+    private volatile boolean completed = false;
+
+    @Getter
+    private volatile Exception failure;
+
+    @Getter
+    private volatile boolean listenersStarted = false;
+
+    private final AtomicLong loadedCount = new AtomicLong();
 
     @Override
-    public void run(String... args) throws Exception {
+    public void run(String... args) {
+        if ("lazy".equalsIgnoreCase(mode)) {
+            log.info("Redis stock warm-up skipped (lazy mode).");
+            try {
+                stockKeyLayout.refresh();
+            } catch (Exception e) {
+                // 샤드 구성은 첫 스크립트 호출이 구성 변경(-4)을 돌려줄 때 다시 읽는다
+                log.warn("Stock shard layout not loaded: {}", e.getMessage());
+            }
+            completed = true;
+            startListeners();
+            return;
+        }
+
+        // 적재는 백그라운드로 진행하고 끝날 때까지 readiness 를 내려둔다 (StockWarmupHealthIndicator)
+        Thread warmup = new Thread(this::warmUp, "stock-warmup");
+        warmup.setDaemon(true);
+        warmup.start();
+    }
+
+    public long getLoadedCount() {
+        return loadedCount.get();
+    }
+
+    private void warmUp() {
         log.info("Initializing Redis stock data...");
-        
-        List<Stock> stocks = stockRepository.findAll();
-        
-        for (Stock stock : stocks) {
-            String key = "stock:" + stock.getMenu().getMenuId();
-            redisTemplate.opsForValue().set(key, String.valueOf(stock.getStock()));
+        long startedAt = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Semaphore inFlight = new Semaphore(threads * 2);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            // 샤드로 전환된 메뉴는 stock:shards 구성에 맞춰 샤드에 나눠 적재한다
+            stockKeyLayout.refresh();
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setFetchSize(chunkSize);
+            // PostgreSQL 은 트랜잭션 안에서만 fetchSize 단위 커서로 읽는다
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<Map.Entry<UUID, Long>> rows = jdbcTemplate.queryForStream(STOCK_SQL,
+                        (rs, rowNum) -> Map.entry(rs.getObject("menu_id", UUID.class), rs.getLong("stock")))) {
+                    Map<UUID, Long> chunk = new HashMap<>();
+                    for (Iterator<Map.Entry<UUID, Long>> it = rows.iterator(); it.hasNext(); ) {
+                        Map.Entry<UUID, Long> row = it.next();
+                        chunk.put(row.getKey(), row.getValue());
+                        if (chunk.size() == chunkSize) {
+                            futures.add(submit(executor, inFlight, chunk));
+                            chunk = new HashMap<>();
+                        }
+                    }
+                    if (!chunk.isEmpty()) {
+                        futures.add(submit(executor, inFlight, chunk));
+                    }
+                }
+            });
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            completed = true;
+            log.info("Redis stock initialization completed. {} items loaded in {} ms.",
+                    loadedCount.get(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            failure = e;
+            log.error("Redis stock initialization failed after {} items.", loadedCount.get(), e);
+        } finally {
+            executor.shutdownNow();
+            // 실패해도 빠진 키는 StockLoader 가 메뉴 단위로 적재하므로 소비는 시작한다
+            startListeners();
+        }
+    }
+
+    private void startListeners() {
+        for (String id : List.of(REQUEST_LISTENER_ID, REFUND_LISTENER_ID)) {
+            MessageListenerContainer container = listenerRegistry.getListenerContainer(id);
+            if (container != null && !container.isRunning()) {
+                container.start();
+                log.info("Stock listener started: {}", id);
+            }
+        }
+        listenersStarted = true;
+    }
+
+    // 청크 하나가 Redis 호출 하나로 나간다.
+    // write-behind 모드에서는 Redis 가 아직 DB 에 반영되지 않은 원장보다 최신이므로 이미 적재된 키를 덮어쓰지 않고,
+    // 그 외에는 DB 가 기준이므로 재기동 시 남아 있던 Redis 값을 DB 값으로 맞춘다 (리스너는 적재가 끝난 뒤 시작된다)
+    private Future<?> submit(ExecutorService executor, Semaphore inFlight, Map<UUID, Long> chunk) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
         }
-        
-        log.info("Redis stock initialization completed. {} items loaded.", stocks.size());
+        return executor.submit(() -> {
+            try {
+                if (stockLedger.isEnabled()) {
+                    stockKeyLayout.setIfAbsent(chunk);
+                } else {
+                    stockKeyLayout.setAll(chunk);
+                }
+                loadedCount.addAndGet(chunk.size());
+            } finally {
+                inFlight.release();
+            }
+        });
     }
-}
\ No newline at end of file
+}
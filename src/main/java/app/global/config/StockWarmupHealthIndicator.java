@@ -0,0 +1,34 @@
+package app.global.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class StockWarmupHealthIndicator implements HealthIndicator {
+
+	private final StockInitializer stockInitializer;
+
+	@Override
+	public Health health() {
+		Health.Builder builder;
+		if (stockInitializer.getFailure() != null) {
+			// 적재에 실패해도 리스너가 시작되면 빠진 키는 StockLoader 가 지연 적재하므로 소비 중인 파드는 트래픽도 받는다
+			builder = stockInitializer.isListenersStarted()
+				? Health.up().withDetail("degraded", "lazy-fallback")
+				: Health.down();
+			builder.withDetail("error", String.valueOf(stockInitializer.getFailure().getMessage()));
+		} else if (!stockInitializer.isCompleted()) {
+			builder = Health.outOfService();
+		} else {
+			builder = Health.up();
+		}
+		return builder
+			.withDetail("mode", stockInitializer.getMode())
+			.withDetail("loaded", stockInitializer.getLoadedCount())
+			.build();
+	}
+}
@@ -3,6 +3,7 @@ package app.batch;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.sql.Timestamp;
@@ -15,9 +16,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import app.domain.batch.dto.BulkDto;
+import app.domain.batch.dto.MenuRow;
 import app.domain.batch.job.BulkProcessor;
 import app.domain.mongo.model.entity.StoreCollection;
 
@@ -28,10 +28,10 @@ public class BulkProcessorTest {
 
     @BeforeEach
     void setUp() {
-        bulkProcessor = new BulkProcessor(new ObjectMapper());
+        bulkProcessor = new BulkProcessor();
     }
 
-    private BulkDto createTestBulkDto(String status, String menuJson) {
+    private BulkDto createTestBulkDto(String status, List<MenuRow> menus) {
         BulkDto dto = new BulkDto();
         dto.setStoreKey(UUID.randomUUID());
         dto.setUserId(1L);
@@ -48,7 +48,7 @@ public class BulkProcessorTest {
         dto.setStoreAcceptStatus(status);
         dto.setCreatedAt(Timestamp.from(Instant.now()));
         dto.setUpdatedAt(Timestamp.from(Instant.now()));
-        dto.setMenuJson(menuJson);
+        dto.setMenus(menus);
         return dto;
     }
 
@@ -59,10 +59,9 @@ public class BulkProcessorTest {
         @Test
         @DisplayName("성공: 유효한 DTO를 StoreCollection으로 변환")
         void process_ValidDto_ShouldConvert() throws Exception {
-            String menuJson = """
-                [{"menuId":"menu-1","name":"Test Menu","price":12000,"description":"Desc","isHidden":false}]
-                """;
-            BulkDto dto = createTestBulkDto("APPROVE", menuJson);
+            UUID menuId = UUID.randomUUID();
+            BulkDto dto = createTestBulkDto("APPROVE",
+                    List.of(new MenuRow(UUID.randomUUID(), menuId, "Test Menu", 12000L, "Desc", false)));
 
             StoreCollection result = bulkProcessor.process(dto);
 
@@ -70,15 +69,16 @@ public class BulkProcessorTest {
             assertEquals(dto.getStoreKey().toString(), result.getStoreKey());
             assertEquals(dto.getStoreName(), result.getStoreName());
             assertTrue(result.getIsActive());
-            assertFalse(result.getMenus().isEmpty());
             assertEquals(1, result.getMenus().size());
+            assertEquals(menuId.toString(), result.getMenus().get(0).getMenuId());
             assertEquals("Test Menu", result.getMenus().get(0).getName());
+            assertEquals(12000, result.getMenus().get(0).getPrice());
         }
 
         @Test
         @DisplayName("성공: status가 APPROVE가 아니면 isActive는 false")
         void process_StatusNotApprove_IsActiveShouldBeFalse() throws Exception {
-            BulkDto dto = createTestBulkDto("PENDING", "[]");
+            BulkDto dto = createTestBulkDto("PENDING", List.of());
 
             StoreCollection result = bulkProcessor.process(dto);
 
@@ -87,9 +87,9 @@ public class BulkProcessorTest {
         }
 
         @Test
-        @DisplayName("성공: menuJson이 null이면 메뉴는 빈 리스트")
-        void process_NullMenuJson_ShouldHaveEmptyMenuList() throws Exception {
-            BulkDto dto = createTestBulkDto("APPROVE", null);
+        @DisplayName("성공: 메뉴가 없으면 메뉴는 빈 리스트")
+        void process_NoMenus_ShouldHaveEmptyMenuList() throws Exception {
+            BulkDto dto = createTestBulkDto("APPROVE", List.of());
 
             StoreCollection result = bulkProcessor.process(dto);
 
@@ -98,25 +98,28 @@ public class BulkProcessorTest {
         }
 
         @Test
-        @DisplayName("성공: menuJson이 비어있으면 메뉴는 빈 리스트")
-        void process_EmptyMenuJson_ShouldHaveEmptyMenuList() throws Exception {
-            BulkDto dto = createTestBulkDto("APPROVE", "[]");
+        @DisplayName("성공: 설명이 없는 메뉴도 누락되지 않음")
+        void process_MenuWithoutDescription_ShouldKeepMenu() throws Exception {
+            BulkDto dto = createTestBulkDto("APPROVE",
+                    List.of(new MenuRow(UUID.randomUUID(), UUID.randomUUID(), "No Desc", 8000L, null, true)));
 
             StoreCollection result = bulkProcessor.process(dto);
 
-            assertNotNull(result);
-            assertTrue(result.getMenus().isEmpty());
+            assertEquals(1, result.getMenus().size());
+            assertNull(result.getMenus().get(0).getDescription());
+            assertTrue(result.getMenus().get(0).isHidden());
         }
 
         @Test
-        @DisplayName("성공: menuJson 형식이 잘못되면 메뉴는 빈 리스트")
-        void process_InvalidMenuJson_ShouldHaveEmptyMenuList() throws Exception {
-            BulkDto dto = createTestBulkDto("APPROVE", "invalid-json");
+        @DisplayName("성공: 가게명/카테고리/메뉴명으로 검색 토큰(단어, 2-gram)을 만든다")
+        void process_ShouldBuildSearchTokens() throws Exception {
+            BulkDto dto = createTestBulkDto("APPROVE",
+                    List.of(new MenuRow(UUID.randomUUID(), UUID.randomUUID(), "양념 반반", 18000L, null, false)));
+            dto.setStoreName("교촌치킨");
 
             StoreCollection result = bulkProcessor.process(dto);
 
-            assertNotNull(result);
-            assertTrue(result.getMenus().isEmpty());
+            assertTrue(result.getSearchTokens().containsAll(List.of("교촌치킨", "치킨", "촌치", "chicken", "양념", "반반")));
         }
     }
 }
@@ -20,6 +20,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import app.domain.batch.dto.BulkDto;
 import app.domain.batch.job.BulkReader;
@@ -55,20 +57,20 @@ public class BulkReaderTest {
     @DisplayName("첫 read() 호출 시 데이터를 성공적으로 읽어온다")
     void read_FirstCall_ShouldReturnFirstItem() throws Exception {
         List<BulkDto> firstBatch = createMockBulkDtos(5);
-        when(bulkRepository.findStoresWithDetailsCursor(isNull(), anyInt())).thenReturn(firstBatch);
+        when(bulkRepository.findStoresWithDetailsCursor(isNull(), isNull(), isNull(), anyInt())).thenReturn(firstBatch);
 
         BulkDto result = bulkReader.read();
 
         assertNotNull(result);
         assertEquals(firstBatch.get(0).getStoreKey(), result.getStoreKey());
-        verify(bulkRepository, times(1)).findStoresWithDetailsCursor(isNull(), anyInt());
+        verify(bulkRepository, times(1)).findStoresWithDetailsCursor(isNull(), isNull(), isNull(), anyInt());
     }
 
     @Test
     @DisplayName("한 배치를 모두 읽을 때까지 repository를 추가 호출하지 않는다")
     void read_WithinBatch_ShouldNotCallRepositoryAgain() throws Exception {
         List<BulkDto> firstBatch = createMockBulkDtos(3);
-        when(bulkRepository.findStoresWithDetailsCursor(isNull(), anyInt())).thenReturn(firstBatch);
+        when(bulkRepository.findStoresWithDetailsCursor(isNull(), isNull(), isNull(), anyInt())).thenReturn(firstBatch);
 
         BulkDto item1 = bulkReader.read();
         BulkDto item2 = bulkReader.read();
@@ -77,7 +79,7 @@ public class BulkReaderTest {
         assertNotNull(item1);
         assertNotNull(item2);
         assertNotNull(item3);
-        verify(bulkRepository, times(1)).findStoresWithDetailsCursor(isNull(), anyInt());
+        verify(bulkRepository, times(1)).findStoresWithDetailsCursor(isNull(), isNull(), isNull(), anyInt());
     }
 
     @Test
@@ -87,8 +89,8 @@ public class BulkReaderTest {
         List<BulkDto> secondBatch = createMockBulkDtos(2);
         UUID lastStoreKeyFromFirstBatch = firstBatch.get(1).getStoreKey();
 
-        when(bulkRepository.findStoresWithDetailsCursor(isNull(), anyInt())).thenReturn(firstBatch);
-        when(bulkRepository.findStoresWithDetailsCursor(eq(lastStoreKeyFromFirstBatch), anyInt())).thenReturn(secondBatch);
+        when(bulkRepository.findStoresWithDetailsCursor(isNull(), isNull(), isNull(), anyInt())).thenReturn(firstBatch);
+        when(bulkRepository.findStoresWithDetailsCursor(eq(lastStoreKeyFromFirstBatch), isNull(), isNull(), anyInt())).thenReturn(secondBatch);
 
         bulkReader.read(); 
         bulkReader.read(); 
@@ -96,14 +98,14 @@ public class BulkReaderTest {
 
         assertNotNull(firstItemOfSecondBatch);
         assertEquals(secondBatch.get(0).getStoreKey(), firstItemOfSecondBatch.getStoreKey());
-        verify(bulkRepository, times(1)).findStoresWithDetailsCursor(isNull(), anyInt());
-        verify(bulkRepository, times(1)).findStoresWithDetailsCursor(eq(lastStoreKeyFromFirstBatch), anyInt());
+        verify(bulkRepository, times(1)).findStoresWithDetailsCursor(isNull(), isNull(), isNull(), anyInt());
+        verify(bulkRepository, times(1)).findStoresWithDetailsCursor(eq(lastStoreKeyFromFirstBatch), isNull(), isNull(), anyInt());
     }
 
     @Test
     @DisplayName("더 이상 읽을 데이터가 없으면 null을 반환한다")
     void read_WhenNoMoreData_ShouldReturnNull() throws Exception {
-        when(bulkRepository.findStoresWithDetailsCursor(isNull(), anyInt())).thenReturn(List.of());
+        when(bulkRepository.findStoresWithDetailsCursor(isNull(), isNull(), isNull(), anyInt())).thenReturn(List.of());
 
         BulkDto result = bulkReader.read();
 
@@ -114,12 +116,59 @@ public class BulkReaderTest {
     @DisplayName("reset() 호출 시 상태가 초기화된다")
     void reset_ShouldResetReaderState() throws Exception {
         List<BulkDto> firstBatch = createMockBulkDtos(2);
-        when(bulkRepository.findStoresWithDetailsCursor(isNull(), anyInt())).thenReturn(firstBatch);
+        when(bulkRepository.findStoresWithDetailsCursor(isNull(), isNull(), isNull(), anyInt())).thenReturn(firstBatch);
 
         bulkReader.read();
         bulkReader.reset();
         bulkReader.read();
 
-        verify(bulkRepository, times(2)).findStoresWithDetailsCursor(isNull(), anyInt());
+        verify(bulkRepository, times(2)).findStoresWithDetailsCursor(isNull(), isNull(), isNull(), anyInt());
+    }
+
+    @Test
+    @DisplayName("파티션 구간이 주어지면 해당 구간 조건으로 조회한다")
+    void read_WithPartitionRange_ShouldPassRangeToRepository() throws Exception {
+        UUID minKey = UUID.fromString("40000000-0000-0000-0000-000000000000");
+        UUID maxKey = UUID.fromString("80000000-0000-0000-0000-000000000000");
+        ReflectionTestUtils.setField(bulkReader, "minStoreKey", minKey.toString());
+        ReflectionTestUtils.setField(bulkReader, "maxStoreKey", maxKey.toString());
+        when(bulkRepository.findStoresWithDetailsCursor(isNull(), eq(minKey), eq(maxKey), anyInt()))
+            .thenReturn(createMockBulkDtos(1));
+
+        BulkDto result = bulkReader.read();
+
+        assertNotNull(result);
+        verify(bulkRepository, times(1)).findStoresWithDetailsCursor(isNull(), eq(minKey), eq(maxKey), anyInt());
+    }
+
+    @Test
+    @DisplayName("update() 시 마지막으로 읽은 storeId를 ExecutionContext에 저장한다")
+    void update_ShouldSaveLastReadKey() throws Exception {
+        List<BulkDto> firstBatch = createMockBulkDtos(3);
+        when(bulkRepository.findStoresWithDetailsCursor(isNull(), isNull(), isNull(), anyInt())).thenReturn(firstBatch);
+        ExecutionContext executionContext = new ExecutionContext();
+
+        bulkReader.open(executionContext);
+        bulkReader.read();
+        bulkReader.read();
+        bulkReader.update(executionContext);
+
+        assertEquals(firstBatch.get(1).getStoreKey().toString(), executionContext.getString(BulkReader.LAST_KEY));
+    }
+
+    @Test
+    @DisplayName("재시작 시 저장된 storeId 다음부터 읽는다")
+    void open_WithSavedKey_ShouldResumeAfterCheckpoint() throws Exception {
+        UUID savedKey = UUID.randomUUID();
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putString(BulkReader.LAST_KEY, savedKey.toString());
+        List<BulkDto> remaining = createMockBulkDtos(1);
+        when(bulkRepository.findStoresWithDetailsCursor(eq(savedKey), isNull(), isNull(), anyInt())).thenReturn(remaining);
+
+        bulkReader.open(executionContext);
+        BulkDto result = bulkReader.read();
+
+        assertEquals(remaining.get(0).getStoreKey(), result.getStoreKey());
+        verify(bulkRepository, times(1)).findStoresWithDetailsCursor(eq(savedKey), isNull(), isNull(), anyInt());
     }
 }
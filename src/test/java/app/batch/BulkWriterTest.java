@@ -3,11 +3,13 @@ package app.batch;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +20,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.item.Chunk;
 import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -81,4 +87,102 @@ public class BulkWriterTest {
         verify(mongoTemplate, never()).bulkOps(any(), anyString());
         verify(bulkOperations, never()).execute();
     }
+
+    @Test
+    @DisplayName("성공: 삭제된 가게는 upsert 대신 읽기 모델에서 제거한다")
+    void write_WithDeletedStore_ShouldRemoveDocument() throws Exception {
+        StoreCollection live = createTestStoreCollection(UUID.randomUUID().toString());
+        StoreCollection deleted = createTestStoreCollection(UUID.randomUUID().toString());
+        deleted.setDeletedAt(new Date());
+        Chunk<StoreCollection> chunk = new Chunk<>(List.of(live, deleted));
+
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), anyString())).thenReturn(bulkOperations);
+
+        bulkWriter.write(chunk);
+
+        ArgumentCaptor<Query> removeCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOperations, times(1)).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(1)).remove(removeCaptor.capture());
+        verify(bulkOperations, times(1)).execute();
+        assertEquals(deleted.getStoreKey(), removeCaptor.getValue().getQueryObject().getString("storeKey"));
+    }
+
+    @Test
+    @DisplayName("성공: 저장된 해시와 내용이 같으면 쓰기를 건너뛴다")
+    void write_WithUnchangedStore_ShouldSkipUpsert() throws Exception {
+        StoreCollection unchanged = createTestStoreCollection(UUID.randomUUID().toString());
+        StoreCollection changed = createTestStoreCollection(UUID.randomUUID().toString());
+        Chunk<StoreCollection> chunk = new Chunk<>(List.of(unchanged, changed));
+
+        StoreCollection storedUnchanged = createTestStoreCollection(unchanged.getStoreKey());
+        storedUnchanged.setVersion(3L);
+        storedUnchanged.setContentHash(BulkWriter.contentHash(unchanged));
+        StoreCollection storedChanged = createTestStoreCollection(changed.getStoreKey());
+        storedChanged.setVersion(5L);
+        storedChanged.setContentHash(BulkWriter.contentHash(changed));
+        changed.setStoreName("Renamed Store");
+
+        when(mongoTemplate.find(any(Query.class), eq(StoreCollection.class), eq("stores")))
+            .thenReturn(List.of(storedUnchanged, storedChanged));
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), anyString())).thenReturn(bulkOperations);
+
+        bulkWriter.write(chunk);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOperations, times(1)).upsert(queryCaptor.capture(), any(Update.class));
+        verify(bulkOperations, times(1)).execute();
+        assertEquals(changed.getStoreKey(), queryCaptor.getValue().getQueryObject().getString("storeKey"));
+        assertEquals(5L, queryCaptor.getValue().getQueryObject().getLong("version"));
+    }
+
+    @Test
+    @DisplayName("성공: 모든 항목이 그대로면 bulk 실행을 하지 않는다")
+    void write_WithAllUnchanged_ShouldNotExecute() throws Exception {
+        StoreCollection store = createTestStoreCollection(UUID.randomUUID().toString());
+        StoreCollection stored = createTestStoreCollection(store.getStoreKey());
+        stored.setContentHash(BulkWriter.contentHash(store));
+
+        when(mongoTemplate.find(any(Query.class), eq(StoreCollection.class), eq("stores"))).thenReturn(List.of(stored));
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), anyString())).thenReturn(bulkOperations);
+
+        bulkWriter.write(new Chunk<>(List.of(store)));
+
+        verify(bulkOperations, never()).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, never()).execute();
+    }
+
+    @Test
+    @DisplayName("성공: 롤백 후 재시도된 청크는 커밋된 한 번만 센다")
+    void write_RetriedChunkCountedOnce() throws Exception {
+        StepExecution stepExecution = new StepExecution("storeBatchStep", new JobExecution(1L));
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+        Chunk<StoreCollection> chunk = new Chunk<>(List.of(
+            createTestStoreCollection("store-1"), createTestStoreCollection("store-2")));
+
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), anyString())).thenReturn(bulkOperations);
+
+        bulkWriter.write(chunk);
+        bulkWriter.afterChunkError(chunkContext);
+        bulkWriter.write(chunk);
+        bulkWriter.afterChunk(chunkContext);
+
+        assertEquals(2L, stepExecution.getExecutionContext().getLong(BulkWriter.WRITTEN_KEY, 0L));
+    }
+
+    @Test
+    @DisplayName("성공: 커밋된 청크의 건수는 스텝에 누적한다")
+    void write_AccumulatesCommittedChunks() throws Exception {
+        StepExecution stepExecution = new StepExecution("storeBatchStep", new JobExecution(1L));
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), anyString())).thenReturn(bulkOperations);
+
+        bulkWriter.write(new Chunk<>(List.of(createTestStoreCollection("store-1"), createTestStoreCollection("store-2"))));
+        bulkWriter.afterChunk(chunkContext);
+        bulkWriter.write(new Chunk<>(List.of(createTestStoreCollection("store-3"))));
+        bulkWriter.afterChunk(chunkContext);
+
+        assertEquals(3L, stepExecution.getExecutionContext().getLong(BulkWriter.WRITTEN_KEY, 0L));
+        assertEquals(0L, stepExecution.getExecutionContext().getLong(BulkWriter.SKIPPED_KEY, 0L));
+    }
 }
@@ -0,0 +1,67 @@
+package app.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.domain.batch.dto.BulkDto;
+import app.domain.batch.dto.ChangedStorePage;
+import app.domain.batch.job.IncrementalBulkReader;
+import app.domain.batch.repository.BulkRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IncrementalBulkReader 단위 테스트")
+class IncrementalBulkReaderTest {
+
+    @InjectMocks
+    private IncrementalBulkReader incrementalBulkReader;
+
+    @Mock
+    private BulkRepository bulkRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(incrementalBulkReader, "batchSize", 2);
+        ReflectionTestUtils.setField(incrementalBulkReader, "since", "2025-01-01T00:00:00");
+    }
+
+    private BulkDto store(UUID storeId) {
+        BulkDto dto = new BulkDto();
+        dto.setStoreKey(storeId);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("조회 중 사라진 가게로 페이지가 짧거나 비어도, 읽은 행 수가 가득 차면 다음 페이지를 이어서 읽는다")
+    void read_ContinuesPastFilteredPages() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(bulkRepository.findChangedStoresCursor(isNull(), any(), eq(2)))
+            .thenReturn(new ChangedStorePage(List.of(), second, 2));
+        when(bulkRepository.findChangedStoresCursor(eq(second), any(), eq(2)))
+            .thenReturn(new ChangedStorePage(List.of(store(third)), first, 2));
+        when(bulkRepository.findChangedStoresCursor(eq(first), any(), eq(2)))
+            .thenReturn(new ChangedStorePage(List.of(), first, 0));
+
+        assertEquals(third, incrementalBulkReader.read().getStoreKey());
+        assertNull(incrementalBulkReader.read());
+        verify(bulkRepository).findChangedStoresCursor(eq(first), any(), eq(2));
+    }
+}
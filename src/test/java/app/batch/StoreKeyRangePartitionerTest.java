@@ -0,0 +1,62 @@
+package app.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import app.domain.batch.job.StoreKeyRangePartitioner;
+
+@DisplayName("StoreKeyRangePartitioner 단위 테스트")
+public class StoreKeyRangePartitionerTest {
+
+    private final StoreKeyRangePartitioner partitioner = new StoreKeyRangePartitioner();
+
+    @Test
+    @DisplayName("gridSize 개의 파티션을 만들고 첫 구간은 하한, 마지막 구간은 상한이 없다")
+    void partition_ShouldCreateOpenEndedOuterRanges() {
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        assertEquals(4, partitions.size());
+        assertFalse(partitions.get("partition0").containsKey(StoreKeyRangePartitioner.MIN_KEY));
+        assertFalse(partitions.get("partition3").containsKey(StoreKeyRangePartitioner.MAX_KEY));
+        assertEquals("40000000-0000-0000-0000-000000000000",
+            partitions.get("partition0").getString(StoreKeyRangePartitioner.MAX_KEY));
+        assertEquals("c0000000-0000-0000-0000-000000000000",
+            partitions.get("partition3").getString(StoreKeyRangePartitioner.MIN_KEY));
+    }
+
+    @Test
+    @DisplayName("인접한 구간의 경계가 이어지고 Postgres uuid 순서로 증가한다")
+    void partition_ShouldProduceContiguousIncreasingRanges() {
+        Map<String, ExecutionContext> partitions = partitioner.partition(7);
+
+        List<String> boundaries = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String max = partitions.get("partition" + i).getString(StoreKeyRangePartitioner.MAX_KEY);
+            String nextMin = partitions.get("partition" + (i + 1)).getString(StoreKeyRangePartitioner.MIN_KEY);
+            assertEquals(max, nextMin);
+            boundaries.add(max);
+        }
+        // 소문자 hex 문자열 비교 = 부호 없는 바이트 비교
+        for (int i = 1; i < boundaries.size(); i++) {
+            assertTrue(boundaries.get(i - 1).compareTo(boundaries.get(i)) < 0);
+        }
+    }
+
+    @Test
+    @DisplayName("gridSize 가 1 이하이면 전체 구간 하나만 만든다")
+    void partition_WithSingleGrid_ShouldCoverWholeKeyspace() {
+        Map<String, ExecutionContext> partitions = partitioner.partition(0);
+
+        assertEquals(1, partitions.size());
+        assertTrue(partitions.get("partition0").isEmpty());
+    }
+}
@@ -25,6 +25,7 @@ import app.commonUtil.apiPayload.PagedResponse;
 import app.commonUtil.apiPayload.code.status.ErrorStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
 import app.domain.store.controller.CustomerStoreController;
+import app.domain.store.model.dto.response.CursorResponse;
 import app.domain.store.model.dto.response.GetCustomerStoreDetailResponse;
 import app.domain.store.model.dto.response.GetStoreListResponse;
 import app.domain.store.service.CustomerStoreService;
@@ -164,4 +165,31 @@ class CustomerStoreControllerTest {
 			.andExpect(jsonPath("$.message").value(ErrorStatus.STORE_NOT_FOUND.getMessage()));
 
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("가게 목록 커서 조회 성공")
+	@WithMockUser(username = "1", roles = "CUSTOMER")
+	void getApprovedStoreListByCursor() throws Exception {
+		List<GetStoreListResponse> stores = List.of(
+			GetStoreListResponse.builder()
+				.storeId(storeId)
+				.storeName("맛집1")
+				.address("서울 강남구")
+				.minOrderAmount(3000)
+				.averageRating(4.5)
+				.build()
+		);
+		given(customerStoreService.getApprovedStoreByCursor("prev-cursor", 1))
+			.willReturn(new CursorResponse<>(stores, 1, true, "next-cursor"));
+
+		mockMvc.perform(get("/store/customer/cursor").with(csrf())
+				.param("cursor", "prev-cursor")
+				.param("size", "1")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.result.content.length()").value(1))
+			.andExpect(jsonPath("$.result.content[0].storeName").value("맛집1"))
+			.andExpect(jsonPath("$.result.hasNext").value(true))
+			.andExpect(jsonPath("$.result.nextCursor").value("next-cursor"));
+	}
+}
@@ -2,15 +2,21 @@ package app.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,9 +29,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import app.domain.mongo.StoreCollectionQueryController;
 import app.domain.mongo.StoreCollectionQueryService;
+import app.domain.mongo.StoreAutocompleteIndex;
+import app.domain.mongo.StoreHotListCache;
+import app.domain.mongo.StoreSnapshotExporter;
+import app.domain.mongo.model.StoreDiscoverySort;
+import app.domain.mongo.model.dto.response.RegionStoreResponse;
+import app.domain.mongo.model.dto.response.StoreCardResponse;
 import app.domain.mongo.model.entity.MenuCollection;
 import app.domain.mongo.model.entity.StoreCollection;
 import app.domain.mongo.status.MongoStoreMenuSuccessCode;
@@ -40,6 +55,15 @@ public class StoreCollectionQueryControllerTest {
     @MockitoBean
     private StoreCollectionQueryService storeCollectionQueryService;
 
+    @MockitoBean
+    private StoreSnapshotExporter storeSnapshotExporter;
+
+    @MockitoBean
+    private StoreAutocompleteIndex storeAutocompleteIndex;
+
+    @MockitoBean
+    private StoreHotListCache storeHotListCache;
+
     private StoreCollection createTestStore(String storeKey, String storeName) {
         MenuCollection menu = new MenuCollection(UUID.randomUUID().toString(), "Test Menu", 10000, "A delicious test menu", "CHICKEN", false);
         return new StoreCollection(
@@ -61,11 +85,30 @@ public class StoreCollectionQueryControllerTest {
             null,
             null,
             null,
+            null,
             1L,
-            List.of(menu)
+            List.of(menu),
+            null,
+            null
         );
     }
 
+    private StoreCardResponse createTestCard(String storeName, String menuName) {
+        StoreCardResponse.MenuCard menu = new StoreCardResponse.MenuCard();
+        menu.setName(menuName);
+        StoreCardResponse card = new StoreCardResponse();
+        card.setStoreKey(UUID.randomUUID().toString());
+        card.setStoreName(storeName);
+        card.setMenus(List.of(menu));
+        return card;
+    }
+
+    // 검색 결과는 StreamingResponseBody 로 비동기로 쓰인다
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
     @Nested
     @DisplayName("통합 검색 API [/mongo/stores/search] 테스트")
     class SearchStoresTest {
@@ -75,10 +118,10 @@ public class StoreCollectionQueryControllerTest {
         @DisplayName("성공: 키워드로 가게 검색")
         void searchStores_Success() throws Exception {
             String keyword = "Test";
-            StoreCollection testStore = createTestStore(UUID.randomUUID().toString(), "Test Store");
-            when(storeCollectionQueryService.searchStores(anyString())).thenReturn(Collections.singletonList(testStore));
+            when(storeCollectionQueryService.searchStores(anyString(), any(Pageable.class)))
+                .thenReturn(Stream.of(createTestCard("Test Store", "Test Menu")));
 
-            mockMvc.perform(get("/store/mongo/search").param("keyword", keyword))
+            performAsync(get("/store/mongo/search").param("keyword", keyword))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.isSuccess").value(true))
                 .andExpect(jsonPath("$.code").value(MongoStoreMenuSuccessCode.STORE_GET_SUCCESS.getCode()))
@@ -90,9 +133,9 @@ public class StoreCollectionQueryControllerTest {
         @DisplayName("성공: 검색 결과 없음")
         void searchStores_NotFound() throws Exception {
             String keyword = "NonExistent";
-            when(storeCollectionQueryService.searchStores(anyString())).thenReturn(Collections.emptyList());
+            when(storeCollectionQueryService.searchStores(anyString(), any(Pageable.class))).thenReturn(Stream.empty());
 
-            mockMvc.perform(get("/store/mongo/search").param("keyword", keyword))
+            performAsync(get("/store/mongo/search").param("keyword", keyword))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.isSuccess").value(false));
         }
@@ -159,6 +202,69 @@ public class StoreCollectionQueryControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("지역 가게 목록 API [/mongo/stores/region] 테스트")
+    class DiscoverStoresTest {
+
+        @Test
+        @WithMockUser
+        @DisplayName("성공: 지역, 카테고리, 정렬로 조회")
+        void discoverStores_Success() throws Exception {
+            RegionStoreResponse response = new RegionStoreResponse(
+                List.of(createTestCard("Test Store", "Test Menu")), Map.of("CHICKEN", 1L));
+            when(storeCollectionQueryService.discoverStores(eq("GANGNAM"), eq("CHICKEN"),
+                eq(StoreDiscoverySort.MIN_ORDER_AMOUNT), any(Pageable.class))).thenReturn(response);
+
+            mockMvc.perform(get("/store/mongo/region")
+                    .param("regionName", "GANGNAM")
+                    .param("category", "CHICKEN")
+                    .param("sort", "MIN_ORDER_AMOUNT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.stores[0].storeName").value("Test Store"))
+                .andExpect(jsonPath("$.result.categories.CHICKEN").value(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("지역 인기 가게 목록 API [/mongo/stores/region/hot] 테스트")
+    class GetHotStoresTest {
+
+        private final StoreHotListCache.HotList hotList = new StoreHotListCache.HotList(
+            "{\"isSuccess\":true,\"result\":[{\"storeKey\":\"s1\"}]}".getBytes(), "\"abc\"");
+
+        @Test
+        @WithMockUser
+        @DisplayName("성공: 미리 만든 본문과 ETag 반환")
+        void getHotStores_Success() throws Exception {
+            when(storeHotListCache.get("GANGNAM", null, StoreDiscoverySort.RATING)).thenReturn(hotList);
+
+            mockMvc.perform(get("/store/mongo/region/hot").param("regionName", "GANGNAM"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(jsonPath("$.result[0].storeKey").value("s1"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("성공: ETag 가 같으면 304")
+        void getHotStores_NotModified() throws Exception {
+            when(storeHotListCache.get("GANGNAM", null, StoreDiscoverySort.RATING)).thenReturn(hotList);
+
+            mockMvc.perform(get("/store/mongo/region/hot").param("regionName", "GANGNAM")
+                    .header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("실패: 목록 없음")
+        void getHotStores_NotFound() throws Exception {
+            mockMvc.perform(get("/store/mongo/region/hot").param("regionName", "NOWHERE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(false));
+        }
+    }
+
     @Nested
     @DisplayName("가게 이름 검색 API [/mongo/stores/search-by-name] 테스트")
     class SearchStoresByNameTest {
@@ -168,10 +274,10 @@ public class StoreCollectionQueryControllerTest {
         @DisplayName("성공: 가게 이름으로 검색")
         void searchStoresByName_Success() throws Exception {
             String keyword = "Test";
-            StoreCollection testStore = createTestStore(UUID.randomUUID().toString(), "Test Store");
-            when(storeCollectionQueryService.searchStoresByName(keyword)).thenReturn(Collections.singletonList(testStore));
+            when(storeCollectionQueryService.searchStoresByName(eq(keyword), any(Pageable.class)))
+                .thenReturn(Stream.of(createTestCard("Test Store", "Test Menu")));
 
-            mockMvc.perform(get("/store/mongo/search-by-name").param("keyword", keyword))
+            performAsync(get("/store/mongo/search-by-name").param("keyword", keyword))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.result[0].storeName").value("Test Store"));
         }
@@ -186,12 +292,12 @@ public class StoreCollectionQueryControllerTest {
         @DisplayName("성공: 카테고리로 검색")
         void searchStoresByCategory_Success() throws Exception {
             String category = "CHICKEN";
-            StoreCollection testStore = createTestStore(UUID.randomUUID().toString(), "Test Chicken Store");
-            when(storeCollectionQueryService.searchStoresByCategory(category)).thenReturn(Collections.singletonList(testStore));
+            when(storeCollectionQueryService.searchStoresByCategory(eq(category), any(Pageable.class)))
+                .thenReturn(Stream.of(createTestCard("Test Chicken Store", "Test Menu")));
 
-            mockMvc.perform(get("/store/mongo/search-by-category").param("category", category))
+            performAsync(get("/store/mongo/search-by-category").param("category", category))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.result[0].categoryKeys[0]").value(category));
+                .andExpect(jsonPath("$.result[0].storeName").value("Test Chicken Store"));
         }
     }
 
@@ -204,10 +310,10 @@ public class StoreCollectionQueryControllerTest {
         @DisplayName("성공: 메뉴 이름으로 검색")
         void searchStoresByMenuName_Success() throws Exception {
             String keyword = "Test Menu";
-            StoreCollection testStore = createTestStore(UUID.randomUUID().toString(), "Test Store");
-            when(storeCollectionQueryService.searchStoresByMenuName(keyword)).thenReturn(Collections.singletonList(testStore));
+            when(storeCollectionQueryService.searchStoresByMenuName(eq(keyword), any(Pageable.class)))
+                .thenReturn(Stream.of(createTestCard("Test Store", keyword)));
 
-            mockMvc.perform(get("/store/mongo/search-by-menu").param("keyword", keyword))
+            performAsync(get("/store/mongo/search-by-menu").param("keyword", keyword))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.result[0].menus[0].name").value(keyword));
         }
@@ -222,9 +328,13 @@ public class StoreCollectionQueryControllerTest {
         @DisplayName("성공: 메뉴 이름으로 필터링")
         void filterStoresByMenuName_Success() throws Exception {
             String keyword = "Test Menu";
-            StoreCollection testStore = createTestStore(UUID.randomUUID().toString(), "Test Store");
-            when(storeCollectionQueryService.filterStoresByMenuNameAndReturnFilteredMenus(keyword))
-                .thenReturn(Collections.singletonList(testStore));
+            StoreCardResponse.MenuCard menu = new StoreCardResponse.MenuCard();
+            menu.setName(keyword);
+            StoreCardResponse card = new StoreCardResponse();
+            card.setStoreName("Test Store");
+            card.setMenus(List.of(menu));
+            when(storeCollectionQueryService.filterStoresByMenuNameAndReturnFilteredMenus(eq(keyword), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(card));
 
             mockMvc.perform(get("/store/mongo/filter-by-menu").param("keyword", keyword))
                 .andExpect(status().isOk())
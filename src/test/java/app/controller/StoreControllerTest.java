@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -205,15 +206,15 @@ public class StoreControllerTest {
             // given
 			StoreOrderListResponse.StoreOrderDetail orderDetail = new StoreOrderListResponse.StoreOrderDetail(UUID.randomUUID(), USER_ID, "고객1", 15000L,
 				       "COMPLETED", LocalDateTime.now());
-			StoreOrderListResponse expectedResponse = new StoreOrderListResponse(TEST_STORE_ID, Collections.singletonList(orderDetail));
-            when(storeService.getStoreOrderList(any(UUID.class), anyLong())).thenReturn(expectedResponse);
+			StoreOrderListResponse expectedResponse = new StoreOrderListResponse(TEST_STORE_ID, Collections.singletonList(orderDetail), 0, 20, false);
+            when(storeService.getStoreOrderList(any(UUID.class), anyLong(), any(Pageable.class))).thenReturn(expectedResponse);
 
             // when & then
             mockMvc.perform(get("/store/owner/{storeId}/order", TEST_STORE_ID))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.result.storeId").value(TEST_STORE_ID.toString()));
 
-            verify(storeService).getStoreOrderList(eq(TEST_STORE_ID), eq(USER_ID));
+            verify(storeService).getStoreOrderList(eq(TEST_STORE_ID), eq(USER_ID), any(Pageable.class));
         }
     }
 
@@ -0,0 +1,109 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.domain.menu.cache.CategoryTree;
+import app.domain.menu.cache.CategoryTreeCache;
+import app.domain.menu.model.repository.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryTreeCache 테스트")
+class CategoryTreeCacheTest {
+
+    @InjectMocks
+    private CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private final UUID food = UUID.randomUUID();
+    private final UUID chicken = UUID.randomUUID();
+    private final UUID friedChicken = UUID.randomUUID();
+    private final UUID korean = UUID.randomUUID();
+
+    private CategoryRepository.CategoryNodeView node(UUID id, String name, UUID parentId) {
+        return new CategoryRepository.CategoryNodeView() {
+            @Override
+            public UUID getCategoryId() {
+                return id;
+            }
+
+            @Override
+            public String getCategoryName() {
+                return name;
+            }
+
+            @Override
+            public UUID getParentCategoryId() {
+                return parentId;
+            }
+        };
+    }
+
+    private List<CategoryRepository.CategoryNodeView> nodes() {
+        return new ArrayList<>(List.of(
+            node(food, "음식", null),
+            node(chicken, "치킨", food),
+            node(friedChicken, "후라이드 치킨", chicken),
+            node(korean, "한식", food)));
+    }
+
+    @Test
+    @DisplayName("루트부터의 이름 경로와 하위 카테고리 집합을 만든다")
+    void get_ShouldBuildPathsAndDescendants() {
+        when(categoryRepository.findAllNodes()).thenReturn(nodes());
+
+        CategoryTree tree = categoryTreeCache.get();
+
+        assertEquals(List.of("음식", "치킨", "후라이드 치킨"), tree.path(friedChicken));
+        assertEquals(List.of("음식"), tree.path(food));
+        assertEquals(Set.of(food, chicken, friedChicken, korean), tree.descendantIds(food));
+        assertEquals(Set.of(chicken, friedChicken), tree.descendantIds(chicken));
+        assertTrue(tree.path(UUID.randomUUID()).isEmpty());
+        categoryTreeCache.get();
+        verify(categoryRepository, times(1)).findAllNodes();
+    }
+
+    @Test
+    @DisplayName("이름에 키워드가 포함된 카테고리를 하위 카테고리까지 펼친다")
+    void matchingIds_ShouldExpandToDescendants() {
+        when(categoryRepository.findAllNodes()).thenReturn(nodes());
+
+        CategoryTree tree = categoryTreeCache.get();
+
+        assertEquals(Set.of(chicken, friedChicken), tree.matchingIds("치킨"));
+        assertEquals(Set.of(korean), tree.matchingIds("한"));
+        assertTrue(tree.matchingIds("피자").isEmpty());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 카테고리를 찾으면 다시 읽는다")
+    void get_UnknownCategory_ShouldReload() {
+        UUID pizza = UUID.randomUUID();
+        List<CategoryRepository.CategoryNodeView> withPizza = nodes();
+        withPizza.add(node(pizza, "피자", food));
+        when(categoryRepository.findAllNodes()).thenReturn(nodes()).thenReturn(withPizza);
+
+        categoryTreeCache.get();
+        CategoryTree tree = categoryTreeCache.get(pizza);
+
+        assertEquals(List.of("음식", "피자"), tree.path(pizza));
+        verify(categoryRepository, times(2)).findAllNodes();
+    }
+}
@@ -7,8 +7,10 @@ import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.mock;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,7 @@ import app.commonUtil.apiPayload.code.status.SuccessStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
 import app.domain.menu.model.entity.Category;
 import app.domain.store.client.ReviewClient;
+import app.domain.store.client.ReviewStatsCache;
 import app.domain.store.model.StoreQueryRepository;
 import app.domain.store.model.dto.response.GetCustomerStoreDetailResponse;
 import app.domain.store.model.dto.response.GetStoreListResponse;
@@ -45,7 +48,7 @@ class CustomerStoreServiceTest {
 	private StoreRepository storeRepository;
 
 	@Mock
-	private ReviewClient reviewClient;
+	private ReviewStatsCache reviewStatsCache;
 
 	@InjectMocks
 	private CustomerStoreService customerStoreService;
@@ -65,8 +68,7 @@ class CustomerStoreServiceTest {
 		Page<Store> storePage = new PageImpl<>(List.of(mockStore), pageable, 1);
 		when(storeRepository.findAllByStoreAcceptStatus(StoreAcceptStatus.APPROVE,pageable)).thenReturn(storePage);
 		ReviewClient.StoreReviewResponse reviewResponse = new ReviewClient.StoreReviewResponse(storeId, 10L,4.5);
-		when(reviewClient.getStoreReviewAverage(anyList()))
-			.thenReturn(ApiResponse.onSuccess(SuccessStatus._OK, List.of(reviewResponse)));
+		when(reviewStatsCache.getAll(anyList())).thenReturn(Map.of(storeId, reviewResponse));
 
 		// when
 		PagedResponse<GetStoreListResponse> result = customerStoreService.getApprovedStore(pageable);
@@ -92,8 +94,10 @@ class CustomerStoreServiceTest {
 		given(storeRepository.findByStoreIdAndStoreAcceptStatusAndDeletedAtIsNull(storeId, StoreAcceptStatus.APPROVE))
 			.willReturn(Optional.of(store));
 		ReviewClient.StoreReviewResponse reviewResponse = new ReviewClient.StoreReviewResponse(storeId, 10L,4.5);
-		when(reviewClient.getStoreReviewAverage(anyList()))
-			.thenReturn(ApiResponse.onSuccess(SuccessStatus._OK, List.of(reviewResponse)));
+		CompletableFuture<Map<UUID, ReviewClient.StoreReviewResponse>> reviews =
+			CompletableFuture.completedFuture(Map.of(storeId, reviewResponse));
+		when(reviewStatsCache.prefetch(storeIds)).thenReturn(reviews);
+		when(reviewStatsCache.await(reviews)).thenReturn(Map.of(storeId, reviewResponse));
 
 
 		// when
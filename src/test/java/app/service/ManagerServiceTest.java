@@ -6,8 +6,10 @@ import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,7 +27,9 @@ import app.commonUtil.apiPayload.PagedResponse;
 import app.commonUtil.apiPayload.code.status.SuccessStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
 import app.domain.menu.model.entity.Category;
+import app.domain.outbox.service.StoreProjectionOutbox;
 import app.domain.store.client.ReviewClient;
+import app.domain.store.client.ReviewStatsCache;
 import app.domain.store.client.UserClient;
 import app.domain.store.model.StoreQueryRepository;
 import app.domain.store.model.dto.response.GetStoreDetailResponse;
@@ -48,11 +52,14 @@ public class ManagerServiceTest {
 	private StoreQueryRepository storeQueryRepository;
 
 	@Mock
-	private ReviewClient reviewClient;
+	private ReviewStatsCache reviewStatsCache;
 
 	@Mock
 	private UserClient userClient;
 
+	@Mock
+	private StoreProjectionOutbox storeProjectionOutbox;
+
 	@InjectMocks
 	private ManagerService managerService;
 
@@ -90,7 +97,10 @@ public class ManagerServiceTest {
 			.build();
 
 		when(storeRepository.findByStoreIdAndDeletedAtIsNull(storeId)).thenReturn(Optional.of(store));
-		when(reviewClient.getStoreReviewAverage(storeIds)).thenReturn(ApiResponse.onSuccess(SuccessStatus._OK,List.of(reviewResponse)));
+		CompletableFuture<Map<UUID, ReviewClient.StoreReviewResponse>> reviews =
+			CompletableFuture.completedFuture(Map.of(storeId, reviewResponse));
+		when(reviewStatsCache.prefetch(storeIds)).thenReturn(reviews);
+		when(reviewStatsCache.await(reviews)).thenReturn(Map.of(storeId, reviewResponse));
 		when(userClient.getUserInfo()).thenReturn(ApiResponse.onSuccess(SuccessStatus._OK,userResponse));
 
 		// when
@@ -135,6 +145,7 @@ public class ManagerServiceTest {
 		// then
 		assertThat(result).contains("변경 되었습니다");
 		assertThat(store.getStoreAcceptStatus()).isEqualTo(StoreAcceptStatus.APPROVE);
+		verify(storeProjectionOutbox).storeStatusChanged(store);
 	}
 
 	@Test
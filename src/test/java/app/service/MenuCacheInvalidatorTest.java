@@ -0,0 +1,82 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import app.domain.menu.cache.MenuCacheInvalidator;
+import app.domain.menu.cache.MenuChangedEvent;
+import app.domain.menu.cache.MenuSnapshotCache;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuCacheInvalidator 테스트")
+class MenuCacheInvalidatorTest {
+
+    @Mock
+    private MenuSnapshotCache menuSnapshotCache;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock
+    private Message message;
+
+    private MenuCacheInvalidator invalidator;
+
+    private final UUID menuA = UUID.randomUUID();
+    private final UUID menuB = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        invalidator = new MenuCacheInvalidator(menuSnapshotCache, redisTemplate, redisMessageListenerContainer);
+    }
+
+    @Test
+    @DisplayName("메뉴가 바뀌면 로컬 캐시를 비우고 다른 파드에 메뉴 ID 를 전파한다")
+    void handleMenuChanged_EvictsAndPublishes() {
+        invalidator.handleMenuChanged(new MenuChangedEvent(this, List.of(menuA, menuB)));
+
+        verify(menuSnapshotCache).evict(List.of(menuA, menuB));
+        verify(redisTemplate).convertAndSend(MenuCacheInvalidator.CHANNEL, menuA + "," + menuB);
+    }
+
+    @Test
+    @DisplayName("전파에 실패해도 로컬 캐시는 비우고 예외를 던지지 않는다")
+    void handleMenuChanged_IgnoresPublishFailure() {
+        doThrow(new RedisConnectionFailureException("redis down"))
+            .when(redisTemplate).convertAndSend(eq(MenuCacheInvalidator.CHANNEL), anyString());
+
+        assertThatCode(() -> invalidator.handleMenuChanged(new MenuChangedEvent(this, List.of(menuA))))
+            .doesNotThrowAnyException();
+
+        verify(menuSnapshotCache).evict(List.of(menuA));
+    }
+
+    @Test
+    @DisplayName("다른 파드에서 받은 메시지의 메뉴 ID 로 캐시를 비운다")
+    void onMessage_EvictsReceivedMenus() {
+        when(message.getBody()).thenReturn((menuA + ",," + menuB).getBytes(StandardCharsets.UTF_8));
+
+        invalidator.onMessage(message, null);
+
+        verify(menuSnapshotCache).evict(List.of(menuA, menuB));
+    }
+}
@@ -24,13 +24,19 @@ import org.springframework.data.domain.Pageable;
 import app.commonUtil.apiPayload.PagedResponse;
 import app.commonUtil.apiPayload.code.status.ErrorStatus;
 import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.outbox.service.StoreProjectionOutbox;
 import app.domain.store.client.UserClient;
 import app.domain.menu.service.CustomerMenuService;
 import app.domain.menu.service.StoreMenuService;
 import app.domain.menu.model.dto.request.MenuCreateRequest;
+import app.domain.menu.model.dto.request.StockRequest;
 import app.domain.menu.model.dto.response.MenuCreateResponse;
 import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.entity.Stock;
 import app.domain.menu.model.repository.MenuRepository;
+import app.domain.menu.model.repository.StockRepository;
+import app.domain.menu.stock.StockLedger;
+import app.domain.menu.stock.StockReservation;
 import app.domain.store.model.entity.Store;
 import app.domain.store.repository.StoreRepository;
 import app.domain.store.status.StoreAcceptStatus;
@@ -53,6 +59,14 @@ class MenuServiceTest {
     private StoreRepository storeRepository;
     @Mock
     private UserClient userClient;
+    @Mock
+    private StoreProjectionOutbox storeProjectionOutbox;
+    @Mock
+    private StockRepository stockRepository;
+    @Mock
+    private StockLedger stockLedger;
+    @Mock
+    private StockReservation stockReservation;
 
     private Long testUserId;
     private UUID testStoreId;
@@ -88,6 +102,35 @@ class MenuServiceTest {
         verify(storeRepository).findById(testStoreId);
         verify(menuRepository).existsByStoreAndNameAndDeletedAtIsNull(mockStore, "New Menu");
         verify(menuRepository).save(any(Menu.class));
+        verify(storeProjectionOutbox).menuCreated(mockMenu);
+    }
+
+    @Test
+    @DisplayName("write-behind 모드의 재고 수정은 DB 를 직접 바꾸지 않고 Redis 와 원장으로 반영한다")
+    void updateStock_LedgerModeResetsRedis() {
+        Stock stock = Stock.builder().menu(mockMenu).stock(7L).build();
+        when(menuRepository.findByMenuIdAndDeletedAtIsNull(testMenuId)).thenReturn(Optional.of(mockMenu));
+        when(stockRepository.findByMenu_MenuId(testMenuId)).thenReturn(Optional.of(stock));
+        when(stockLedger.isEnabled()).thenReturn(true);
+
+        storeMenuService.updateStock(new StockRequest(testMenuId, 20L), testUserId);
+
+        verify(stockReservation).reset(testMenuId, 20L, 7L);
+        verify(stockRepository, never()).save(any(Stock.class));
+        assertEquals(7L, stock.getStock());
+    }
+
+    @Test
+    @DisplayName("write-behind 모드에서 재고 행이 없으면 새 값으로 만들고 Redis 에도 같은 값을 둔다")
+    void updateStock_LedgerModeCreatesMissingStock() {
+        when(menuRepository.findByMenuIdAndDeletedAtIsNull(testMenuId)).thenReturn(Optional.of(mockMenu));
+        when(stockRepository.findByMenu_MenuId(testMenuId)).thenReturn(Optional.empty());
+        when(stockLedger.isEnabled()).thenReturn(true);
+
+        storeMenuService.updateStock(new StockRequest(testMenuId, 20L), testUserId);
+
+        verify(stockRepository).save(argThat(saved -> saved.getStock() == 20L));
+        verify(stockReservation).reset(testMenuId, 20L, 20L);
     }
 
     // ... other StoreMenuService tests ...
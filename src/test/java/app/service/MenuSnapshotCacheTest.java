@@ -0,0 +1,107 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.domain.menu.cache.MenuSnapshot;
+import app.domain.menu.cache.MenuSnapshotCache;
+import app.domain.menu.model.repository.MenuRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuSnapshotCache 테스트")
+class MenuSnapshotCacheTest {
+
+    @Mock
+    private MenuRepository menuRepository;
+    @Captor
+    private ArgumentCaptor<Collection<UUID>> queried;
+
+    private MenuSnapshotCache menuSnapshotCache;
+
+    private final UUID storeId = UUID.randomUUID();
+    private final UUID menuA = UUID.randomUUID();
+    private final UUID menuB = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        menuSnapshotCache = new MenuSnapshotCache(menuRepository, new SimpleMeterRegistry(), 300, 1000);
+    }
+
+    private MenuRepository.MenuSnapshotView view(UUID menuId, long price) {
+        MenuRepository.MenuSnapshotView view = mock(MenuRepository.MenuSnapshotView.class);
+        when(view.getMenuId()).thenReturn(menuId);
+        when(view.getStoreId()).thenReturn(storeId);
+        when(view.getName()).thenReturn("메뉴");
+        when(view.getPrice()).thenReturn(price);
+        when(view.getHidden()).thenReturn(null);
+        when(view.getDeleted()).thenReturn(Boolean.TRUE);
+        return view;
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 메뉴만 한 번의 쿼리로 읽고, 다음 조회는 캐시에서 돌려준다")
+    void getAll_LoadsOnlyMissingMenus() {
+        MenuRepository.MenuSnapshotView viewA = view(menuA, 10000L);
+        MenuRepository.MenuSnapshotView viewB = view(menuB, 12000L);
+        when(menuRepository.findSnapshotsByMenuIdIn(anyCollection()))
+            .thenReturn(List.of(viewA))
+            .thenReturn(List.of(viewB));
+
+        menuSnapshotCache.getAll(List.of(menuA));
+        Map<UUID, MenuSnapshot> snapshots = menuSnapshotCache.getAll(List.of(menuA, menuB));
+
+        verify(menuRepository, times(2)).findSnapshotsByMenuIdIn(queried.capture());
+        assertThat(queried.getAllValues().get(1)).containsExactly(menuB);
+        assertThat(snapshots).containsOnlyKeys(menuA, menuB);
+        assertThat(snapshots.get(menuB).getPrice()).isEqualTo(12000L);
+        assertThat(snapshots.get(menuA).isHidden()).isFalse();
+        assertThat(snapshots.get(menuA).isDeleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 에 없는 메뉴는 결과에서 빠진다")
+    void getAll_SkipsUnknownMenus() {
+        MenuRepository.MenuSnapshotView viewA = view(menuA, 10000L);
+        when(menuRepository.findSnapshotsByMenuIdIn(anyCollection())).thenReturn(List.of(viewA));
+
+        Map<UUID, MenuSnapshot> snapshots = menuSnapshotCache.getAll(List.of(menuA, menuB));
+
+        assertThat(snapshots).containsOnlyKeys(menuA);
+    }
+
+    @Test
+    @DisplayName("무효화한 메뉴는 다음 조회에서 DB 에서 다시 읽는다")
+    void evict_ReloadsOnNextGet() {
+        MenuRepository.MenuSnapshotView before = view(menuA, 10000L);
+        MenuRepository.MenuSnapshotView after = view(menuA, 15000L);
+        when(menuRepository.findSnapshotsByMenuIdIn(anyCollection()))
+            .thenReturn(List.of(before))
+            .thenReturn(List.of(after));
+
+        menuSnapshotCache.getAll(List.of(menuA));
+        menuSnapshotCache.evict(List.of(menuA));
+        Map<UUID, MenuSnapshot> snapshots = menuSnapshotCache.getAll(List.of(menuA));
+
+        verify(menuRepository, times(2)).findSnapshotsByMenuIdIn(anyCollection());
+        assertThat(snapshots.get(menuA).getPrice()).isEqualTo(15000L);
+    }
+}
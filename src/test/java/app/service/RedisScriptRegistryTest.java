@@ -0,0 +1,89 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import app.global.config.RedisScriptRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisScriptRegistry 파이프라인 NOSCRIPT 재시도 테스트")
+class RedisScriptRegistryTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private RedisConnection connection;
+    @Mock
+    private RedisScriptingCommands scriptingCommands;
+
+    private RedisScriptRegistry registry;
+    private List<RedisScriptRegistry.Call> calls;
+
+    @BeforeEach
+    void setUp() {
+        registry = new RedisScriptRegistry(redisTemplate, new SimpleMeterRegistry());
+        RedisScriptRegistry.Script script = registry.register("test", "return 1");
+        calls = List.of(
+            new RedisScriptRegistry.Call(script, ReturnType.INTEGER, List.of("k1"), List.of("a1")),
+            new RedisScriptRegistry.Call(script, ReturnType.INTEGER, List.of("k2"), List.of("a2")));
+    }
+
+    private void pipelineFails(Object... results) {
+        when(redisTemplate.executePipelined(ArgumentMatchers.<RedisCallback<Object>>any()))
+            .thenThrow(new RedisPipelineException(new IllegalStateException("pipeline"), new ArrayList<>(List.of(results))));
+    }
+
+    @Test
+    @DisplayName("NOSCRIPT 로 실패한 호출만 스크립트를 다시 적재한 뒤 한 건씩 다시 보낸다")
+    void executePipelined_ResendsOnlyNoScriptFailures() {
+        pipelineFails(1L, new InvalidDataAccessApiUsageException("NOSCRIPT No matching script"));
+        when(redisTemplate.execute(ArgumentMatchers.<RedisCallback<Object>>any()))
+            .thenAnswer(invocation -> invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection));
+        when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+        when(scriptingCommands.evalSha(any(String.class), eq(ReturnType.INTEGER), anyInt(), any(byte[][].class)))
+            .thenReturn(2L);
+
+        List<Object> results = registry.executePipelined("test", calls);
+
+        assertEquals(List.of(1L, 2L), results);
+        verify(redisTemplate, times(1)).executePipelined(ArgumentMatchers.<RedisCallback<Object>>any());
+        verify(scriptingCommands).scriptLoad(any(byte[].class));
+        verify(scriptingCommands, times(1)).evalSha(any(String.class), eq(ReturnType.INTEGER), anyInt(), any(byte[][].class));
+    }
+
+    @Test
+    @DisplayName("NOSCRIPT 가 아닌 오류가 섞여 있으면 다시 보내지 않고 그대로 던진다")
+    void executePipelined_RethrowsOtherFailures() {
+        pipelineFails(new InvalidDataAccessApiUsageException("WRONGTYPE"), new InvalidDataAccessApiUsageException("NOSCRIPT"));
+
+        assertThrows(RedisPipelineException.class, () -> registry.executePipelined("test", calls));
+
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisCallback<Object>>any());
+    }
+}
@@ -0,0 +1,109 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import app.commonUtil.apiPayload.ApiResponse;
+import app.domain.store.client.ReviewClient;
+import app.domain.store.client.ReviewStatsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReviewStatsCache 테스트")
+class ReviewStatsCacheTest {
+
+    @Mock
+    private ReviewClient reviewClient;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final UUID storeA = UUID.randomUUID();
+    private final UUID storeB = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    private ReviewStatsCache cache(long refreshAfterSeconds, long timeoutMs) {
+        return new ReviewStatsCache(reviewClient, new SimpleMeterRegistry(), refreshAfterSeconds, 600, 1000, timeoutMs, 2);
+    }
+
+    private ApiResponse<List<ReviewClient.StoreReviewResponse>> response(ReviewClient.StoreReviewResponse... reviews) {
+        return new ApiResponse<>(true, "200", "OK", List.of(reviews));
+    }
+
+    // 테스트가 풀어줄 때까지 응답하지 않는 리뷰 서비스
+    private ApiResponse<List<ReviewClient.StoreReviewResponse>> slow(
+        ApiResponse<List<ReviewClient.StoreReviewResponse>> response) throws InterruptedException {
+        release.await(5, TimeUnit.SECONDS);
+        return response;
+    }
+
+    @Test
+    @DisplayName("리뷰 서비스가 제한 시간 안에 응답하지 않으면 0/0.0 으로 응답한다")
+    void get_TimeoutFallsBackToEmpty() {
+        when(reviewClient.getStoreReviewAverage(anyList()))
+            .thenAnswer(invocation -> slow(response(new ReviewClient.StoreReviewResponse(storeA, 12L, 4.5))));
+        ReviewStatsCache reviewStatsCache = cache(30, 50);
+
+        ReviewClient.StoreReviewResponse stats = reviewStatsCache.get(storeA);
+
+        assertThat(stats.getNumber()).isZero();
+        assertThat(stats.getAverage()).isZero();
+    }
+
+    @Test
+    @DisplayName("refreshAfterWrite 이후에는 갱신이 끝날 때까지 이전 값을 바로 돌려준다")
+    void get_ServesStaleValueWhileRefreshing() throws InterruptedException {
+        when(reviewClient.getStoreReviewAverage(List.of(storeA)))
+            .thenReturn(response(new ReviewClient.StoreReviewResponse(storeA, 3L, 4.0)))
+            .thenAnswer(invocation -> slow(response(new ReviewClient.StoreReviewResponse(storeA, 4L, 4.5))));
+        ReviewStatsCache reviewStatsCache = cache(1, 300);
+
+        assertThat(reviewStatsCache.get(storeA).getNumber()).isEqualTo(3L);
+        Thread.sleep(1100);
+
+        assertThat(reviewStatsCache.get(storeA).getNumber()).isEqualTo(3L);
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 3000;
+        while (reviewStatsCache.get(storeA).getNumber() != 4L && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(reviewStatsCache.get(storeA).getNumber()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("일부만 캐시에 있으면 없는 가게만 묻고, 리뷰가 없는 가게는 0/0.0 으로 채운다")
+    void getAll_FetchesOnlyMissingStores() {
+        when(reviewClient.getStoreReviewAverage(List.of(storeA)))
+            .thenReturn(response(new ReviewClient.StoreReviewResponse(storeA, 3L, 4.0)));
+        when(reviewClient.getStoreReviewAverage(List.of(storeB))).thenReturn(response());
+        ReviewStatsCache reviewStatsCache = cache(30, 300);
+        reviewStatsCache.get(storeA);
+
+        Map<UUID, ReviewClient.StoreReviewResponse> stats = reviewStatsCache.getAll(List.of(storeA, storeB));
+
+        verify(reviewClient, times(1)).getStoreReviewAverage(List.of(storeA));
+        verify(reviewClient, times(1)).getStoreReviewAverage(List.of(storeB));
+        assertThat(stats.get(storeA).getNumber()).isEqualTo(3L);
+        assertThat(stats.get(storeB).getNumber()).isZero();
+        assertThat(stats.get(storeB).getAverage()).isZero();
+    }
+}
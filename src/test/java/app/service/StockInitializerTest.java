@@ -0,0 +1,106 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import app.domain.menu.stock.StockKeyLayout;
+import app.domain.menu.stock.StockLedger;
+import app.global.config.StockInitializer;
+import app.global.config.StockWarmupHealthIndicator;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockInitializer 리스너 시작 테스트")
+class StockInitializerTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private StockKeyLayout stockKeyLayout;
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+    @Mock
+    private StockLedger stockLedger;
+    @Mock
+    private MessageListenerContainer requestListener;
+    @Mock
+    private MessageListenerContainer refundListener;
+
+    private StockInitializer stockInitializer;
+
+    @BeforeEach
+    void setUp() {
+        stockInitializer = new StockInitializer(dataSource, transactionManager, stockKeyLayout, listenerRegistry, stockLedger);
+        ReflectionTestUtils.setField(stockInitializer, "chunkSize", 1000);
+        ReflectionTestUtils.setField(stockInitializer, "threads", 1);
+        when(listenerRegistry.getListenerContainer(StockInitializer.REQUEST_LISTENER_ID)).thenReturn(requestListener);
+        when(listenerRegistry.getListenerContainer(StockInitializer.REFUND_LISTENER_ID)).thenReturn(refundListener);
+    }
+
+    @Test
+    @DisplayName("lazy 모드는 적재 없이 바로 재고 리스너를 시작한다")
+    void run_LazyModeStartsListenersImmediately() {
+        ReflectionTestUtils.setField(stockInitializer, "mode", "lazy");
+
+        stockInitializer.run();
+
+        assertTrue(stockInitializer.isCompleted());
+        verify(requestListener).start();
+        verify(refundListener).start();
+    }
+
+    @Test
+    @DisplayName("eager 모드는 적재가 끝난 뒤 리스너를 시작하고, 적재가 실패해도 시작한다")
+    void run_EagerModeStartsListenersAfterWarmup() throws SQLException {
+        ReflectionTestUtils.setField(stockInitializer, "mode", "eager");
+        when(dataSource.getConnection()).thenThrow(new SQLException("db down"));
+
+        stockInitializer.run();
+
+        verify(requestListener, timeout(5000)).start();
+        verify(refundListener, timeout(5000)).start();
+        assertNotNull(stockInitializer.getFailure());
+    }
+
+    @Test
+    @DisplayName("적재가 실패해도 리스너가 시작된 뒤에는 readiness 를 지연 적재 상태(UP)로 알린다")
+    void health_FailedWarmupIsDegradedOnceListenersStart() throws SQLException, InterruptedException {
+        ReflectionTestUtils.setField(stockInitializer, "mode", "eager");
+        when(dataSource.getConnection()).thenThrow(new SQLException("db down"));
+        StockWarmupHealthIndicator healthIndicator = new StockWarmupHealthIndicator(stockInitializer);
+
+        stockInitializer.run();
+        verify(refundListener, timeout(5000)).start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!stockInitializer.isListenersStarted() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Health health = healthIndicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("lazy-fallback", health.getDetails().get("degraded"));
+        assertNotNull(health.getDetails().get("error"));
+    }
+}
@@ -0,0 +1,101 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import app.domain.menu.stock.StockKeyLayout;
+import app.global.config.RedisScriptRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockKeyLayout 샤드 구성 테스트")
+class StockKeyLayoutTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private HashOperations<String, String, String> hashOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private RedisScriptRegistry scriptRegistry;
+    @Captor
+    private ArgumentCaptor<List<String>> keys;
+    @Captor
+    private ArgumentCaptor<List<String>> args;
+
+    private StockKeyLayout stockKeyLayout;
+
+    private final UUID hot = UUID.randomUUID();
+    private final UUID plain = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        stockKeyLayout = new StockKeyLayout(redisTemplate, scriptRegistry);
+        when(redisTemplate.<String, String>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(StockKeyLayout.SHARDS_KEY)).thenReturn(Map.of(hot.toString(), "3"));
+    }
+
+    @Test
+    @DisplayName("정합성 점검용 합계는 샤드 메뉴의 샤드 값을 모두 더하고, 적재되지 않은 메뉴는 null 로 둔다")
+    void totals_SumsShards() {
+        UUID missing = UUID.randomUUID();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("4", "3", null, "7", null));
+
+        List<Long> totals = stockKeyLayout.totals(List.of(hot, plain, missing));
+
+        assertEquals(7L, totals.get(0));
+        assertEquals(7L, totals.get(1));
+        assertNull(totals.get(2));
+    }
+
+    @Test
+    @DisplayName("샤드 수 변경은 현재 구성과 새 구성의 재고 키를 모두 KEYS 로 넘긴다")
+    void reshard_DeclaresCurrentAndTargetKeys() {
+        when(hashOperations.get(StockKeyLayout.SHARDS_KEY, hot.toString())).thenReturn("3");
+        when(scriptRegistry.execute(any(), eq(ReturnType.INTEGER), keys.capture(), args.capture())).thenReturn(12L);
+
+        assertEquals(12L, stockKeyLayout.reshard(hot, 1));
+
+        assertEquals(5, keys.getValue().size());
+        assertEquals(StockKeyLayout.SHARDS_KEY, keys.getValue().get(0));
+        assertEquals("stock:" + hot, keys.getValue().get(4));
+        assertEquals(List.of(hot.toString(), "3", "0", hot.toString(), "1", "0"), args.getValue());
+    }
+
+    @Test
+    @DisplayName("적재 중 샤드 구성이 바뀌었다는 응답을 받으면 구성을 다시 읽고 새 구성으로 한 번 더 적재한다")
+    void setIfAbsent_RetriesWithRefreshedLayout() {
+        when(scriptRegistry.execute(any(), eq(ReturnType.INTEGER), keys.capture(), args.capture()))
+            .thenReturn(-4L)
+            .thenReturn(1L);
+
+        stockKeyLayout.setIfAbsent(Map.of(hot, 9L));
+
+        assertEquals(List.of("nx", hot.toString(), "1", "9"), args.getAllValues().get(0));
+        assertEquals(List.of("nx", hot.toString(), "3", "9"), args.getAllValues().get(1));
+        assertEquals(4, keys.getAllValues().get(1).size());
+    }
+}
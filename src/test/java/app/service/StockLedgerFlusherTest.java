@@ -0,0 +1,141 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.menu.model.entity.StockLedgerApplied;
+import app.domain.menu.model.repository.StockLedgerAppliedRepository;
+import app.domain.menu.model.repository.StockRepository;
+import app.domain.menu.stock.StockLedger;
+import app.domain.menu.stock.StockLedgerFlusher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockLedgerFlusher 재처리 테스트")
+class StockLedgerFlusherTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+    @Mock
+    private StockLedger stockLedger;
+    @Mock
+    private StockRepository stockRepository;
+    @Mock
+    private StockLedgerAppliedRepository stockLedgerAppliedRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private PendingMessages pendingMessages;
+    @Captor
+    private ArgumentCaptor<List<StockLedgerApplied>> applied;
+
+    private StockLedgerFlusher flusher;
+
+    private final UUID menuA = UUID.randomUUID();
+    private final UUID menuB = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        flusher = new StockLedgerFlusher(redisTemplate, stockLedger, stockRepository,
+            new TransactionTemplate(transactionManager), stockLedgerAppliedRepository);
+        ReflectionTestUtils.setField(flusher, "consumerName", "pod-1");
+        ReflectionTestUtils.setField(flusher, "batchSize", 100);
+        when(stockLedger.isEnabled()).thenReturn(true);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(streamOperations.pending(eq(StockLedger.STREAM_KEY), eq("stock-ledger-writer"), any(), anyLong()))
+            .thenReturn(pendingMessages);
+    }
+
+    private MapRecord<String, Object, Object> entry(String id, UUID menuId, long delta) {
+        Map<Object, Object> value = Map.of("menuId", menuId.toString(), "delta", String.valueOf(delta), "orderId", "o-" + id);
+        return MapRecord.create(StockLedger.STREAM_KEY, value).withId(RecordId.of(id));
+    }
+
+    // 처음 읽을 때는 pending 항목을 돌려주고 그 다음부터는 비어 있다
+    private void stream(List<MapRecord<String, Object, Object>> records) {
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class),
+            ArgumentMatchers.<StreamOffset<String>[]>any()))
+            .thenReturn(records)
+            .thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("처음 읽는 원장 항목은 메뉴별로 합쳐 반영하고 반영 기록을 남긴 뒤 ACK 한다")
+    void replayOnStartup_AppliesNewEntries() {
+        stream(List.of(entry("1-0", menuA, -2), entry("1-1", menuA, -3), entry("1-2", menuB, 5)));
+        when(stockLedgerAppliedRepository.findAppliedIds(anyCollection())).thenReturn(List.of());
+        when(stockRepository.addStock(any(), anyLong())).thenReturn(1);
+
+        flusher.replayOnStartup();
+
+        verify(stockRepository).addStock(menuA, -5L);
+        verify(stockRepository).addStock(menuB, 5L);
+        verify(stockLedgerAppliedRepository).saveAll(applied.capture());
+        assertEquals(List.of("1-0", "1-1", "1-2"), applied.getValue().stream().map(StockLedgerApplied::getStreamId).toList());
+        verify(streamOperations).acknowledge(StockLedger.STREAM_KEY, "stock-ledger-writer",
+            RecordId.of("1-0"), RecordId.of("1-1"), RecordId.of("1-2"));
+    }
+
+    @Test
+    @DisplayName("DB 반영 후 ACK 전에 죽어 다시 읽힌 항목은 다시 반영하지 않고 ACK 만 한다")
+    void replayOnStartup_SkipsAlreadyAppliedEntries() {
+        stream(List.of(entry("1-0", menuA, -2), entry("1-1", menuA, -3), entry("1-2", menuB, 5)));
+        when(stockLedgerAppliedRepository.findAppliedIds(anyCollection())).thenReturn(List.of("1-0", "1-1"));
+        when(stockRepository.addStock(any(), anyLong())).thenReturn(1);
+
+        flusher.replayOnStartup();
+
+        verify(stockRepository, never()).addStock(eq(menuA), anyLong());
+        verify(stockRepository).addStock(menuB, 5L);
+        verify(stockLedgerAppliedRepository).saveAll(applied.capture());
+        assertEquals(List.of("1-2"), applied.getValue().stream().map(StockLedgerApplied::getStreamId).toList());
+        verify(streamOperations).acknowledge(StockLedger.STREAM_KEY, "stock-ledger-writer",
+            RecordId.of("1-0"), RecordId.of("1-1"), RecordId.of("1-2"));
+        verify(stockLedgerAppliedRepository).deleteAllByIdInBatch(List.of("1-0", "1-1", "1-2"));
+    }
+
+    @Test
+    @DisplayName("DB 반영이 실패하면 ACK 하지 않아 다음 주기에 다시 읽는다")
+    void flushPeriodically_DoesNotAckOnFailure() {
+        stream(List.of(entry("1-0", menuA, -2)));
+        when(stockLedgerAppliedRepository.findAppliedIds(anyCollection())).thenReturn(List.of());
+        when(stockRepository.addStock(any(), anyLong())).thenThrow(new IllegalStateException("db down"));
+
+        flusher.flushPeriodically();
+
+        verify(streamOperations, never()).acknowledge(any(String.class), any(String.class), any(RecordId[].class));
+        verify(stockLedgerAppliedRepository, never()).deleteAllByIdInBatch(any());
+    }
+}
@@ -0,0 +1,105 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import app.domain.menu.kafka.StockReservationSweeper;
+import app.domain.menu.kafka.StockResultEvent;
+import app.domain.menu.model.repository.StockOrderAppliedRepository;
+import app.domain.menu.stock.StockReservation;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockReservationSweeper 테스트")
+class StockReservationSweeperTest {
+
+    @Mock
+    private StockReservation stockReservation;
+    @Mock
+    private StockOrderAppliedRepository stockOrderAppliedRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StockReservationSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new StockReservationSweeper(stockReservation, stockOrderAppliedRepository, eventPublisher,
+            new TransactionTemplate(transactionManager), meterRegistry);
+        ReflectionTestUtils.setField(sweeper, "batchSize", 100);
+    }
+
+    private StockResultEvent publishedResult() {
+        ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return (StockResultEvent) captor.getValue();
+    }
+
+    @Test
+    @DisplayName("DB 에 반영된 만료 예약은 확정하고 성공을 알린다")
+    void sweep_AppliedReservation_Confirms() {
+        when(stockReservation.expired(anyInt())).thenReturn(List.of("order-1"));
+        when(stockOrderAppliedRepository.existsById("order-1")).thenReturn(true);
+        when(stockReservation.confirm("order-1")).thenReturn(StockReservation.Result.OK);
+
+        sweeper.sweep();
+
+        assertEquals("success", publishedResult().getStatus());
+        verify(stockReservation, never()).reclaim(any());
+        assertEquals(1.0, meterRegistry.counter("stock.reservation.reclaimed", "outcome", "confirmed").count());
+    }
+
+    @Test
+    @DisplayName("DB 에 반영되지 않은 만료 예약은 Redis 재고를 되돌리고 실패를 알린다")
+    void sweep_NotAppliedReservation_Releases() {
+        when(stockReservation.expired(anyInt())).thenReturn(List.of("order-1"));
+        when(stockOrderAppliedRepository.existsById("order-1")).thenReturn(false);
+        when(stockReservation.reclaim("order-1")).thenReturn(StockReservation.Release.of(List.of("1", "menu-1", "3")));
+
+        sweeper.sweep();
+
+        StockResultEvent result = publishedResult();
+        assertEquals("order-1", result.getOrderId());
+        assertEquals("fail", result.getStatus());
+        assertEquals(1.0, meterRegistry.counter("stock.reservation.reclaimed", "outcome", "released").count());
+    }
+
+    @Test
+    @DisplayName("그 사이 다른 파드가 처리한 예약은 아무것도 알리지 않고, 기록이 사라진 예약은 목록에서 뺀다")
+    void sweep_AlreadyResolvedOrMissing() {
+        when(stockReservation.expired(anyInt())).thenReturn(List.of("order-1", "order-2"));
+        when(stockOrderAppliedRepository.existsById(any())).thenReturn(false);
+        when(stockReservation.reclaim("order-1")).thenReturn(StockReservation.Release.of(List.of("4")));
+        when(stockReservation.reclaim("order-2")).thenReturn(StockReservation.Release.of(List.of("-1")));
+
+        sweeper.sweep();
+
+        verify(eventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+        verify(stockReservation, never()).forget("order-1");
+        verify(stockReservation).forget("order-2");
+    }
+}
@@ -0,0 +1,166 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.domain.menu.stock.StockKeyLayout;
+import app.domain.menu.stock.StockLedger;
+import app.domain.menu.stock.StockReservation;
+import app.global.config.RedisScriptRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockReservation 테스트")
+class StockReservationTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private HashOperations<String, String, String> stringHashOperations;
+    @Mock
+    private RedisScriptRegistry scriptRegistry;
+    @Mock
+    private StockLedger stockLedger;
+    @Captor
+    private ArgumentCaptor<List<String>> keys;
+    @Captor
+    private ArgumentCaptor<List<String>> args;
+
+    private StockKeyLayout stockKeyLayout;
+    private StockReservation stockReservation;
+
+    private final UUID menuId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        stockKeyLayout = new StockKeyLayout(redisTemplate, scriptRegistry);
+        stockReservation = new StockReservation(redisTemplate, scriptRegistry, stockLedger, stockKeyLayout);
+        ReflectionTestUtils.setField(stockReservation, "ttlSeconds", 604800L);
+        ReflectionTestUtils.setField(stockReservation, "reclaimAfterSeconds", 300L);
+    }
+
+    private List<Map<String, Object>> lines(long quantity) {
+        Map<String, Object> line = new HashMap<>();
+        line.put("menuId", menuId.toString());
+        line.put("quantity", quantity);
+        return List.of(line);
+    }
+
+    @Test
+    @DisplayName("DB 반영 모드의 예약은 RESERVED(reserve) 로 기록하고 만료 판단에 필요한 시각과 기준을 넘긴다")
+    void reserve_PassesRecordPendingAndStockKeys() {
+        when(stockLedger.isEnabled()).thenReturn(false);
+        when(scriptRegistry.execute(any(), eq(ReturnType.INTEGER), keys.capture(), args.capture())).thenReturn(1L);
+
+        long before = System.currentTimeMillis();
+        assertEquals(StockReservation.Result.OK, stockReservation.reserve("order-1", lines(3)));
+
+        assertEquals(List.of("stock:reservation:order-1", StockLedger.STREAM_KEY, StockReservation.PENDING_KEY,
+            StockKeyLayout.SHARDS_KEY, "stock:" + menuId), keys.getValue());
+        List<String> argv = args.getValue();
+        assertEquals(List.of("reserve", "604800", "0", "order-1"), argv.subList(0, 4));
+        assertTrue(Long.parseLong(argv.get(4)) >= before);
+        assertEquals(List.of("300000", menuId.toString(), "1", "3"), argv.subList(5, 9));
+    }
+
+    @Test
+    @DisplayName("write-behind 모드의 예약은 바로 확정(commit) 상태로 기록한다")
+    void reserve_WriteBehindCommits() {
+        when(stockLedger.isEnabled()).thenReturn(true);
+        when(scriptRegistry.execute(any(), eq(ReturnType.INTEGER), keys.capture(), args.capture())).thenReturn(5L);
+
+        assertEquals(StockReservation.Result.EXPIRED, stockReservation.reserve("order-1", lines(3)));
+        assertEquals("commit", args.getValue().get(0));
+        assertEquals("1", args.getValue().get(2));
+    }
+
+    @Test
+    @DisplayName("복구는 예약 기록의 line 을 먼저 읽어 되돌릴 재고 키를 모두 KEYS 로 넘긴다")
+    void release_DeclaresRecordLinesAsKeys() {
+        UUID other = UUID.randomUUID();
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("stock:reservation:order-1")).thenReturn(Map.of(
+            "status", "RESERVED", "reservedAt", "1", "line:" + menuId, "3", "line:" + other, "1"));
+        when(scriptRegistry.execute(any(), eq(ReturnType.MULTI), keys.capture(), args.capture()))
+            .thenReturn(List.of("1", menuId.toString(), "3", other.toString(), "1"));
+
+        StockReservation.Release release = stockReservation.reclaim("order-1");
+
+        assertEquals(StockReservation.Result.OK, release.getResult());
+        assertEquals(2, release.getLines().size());
+        assertEquals(Set.of("stock:" + menuId, "stock:" + other), Set.copyOf(keys.getValue().subList(4, 6)));
+        assertEquals("reclaim", args.getValue().get(0));
+        verify(hashOperations).entries("stock:reservation:order-1");
+    }
+
+    @Test
+    @DisplayName("샤드로 전환된 메뉴는 고른 샤드부터 모든 샤드 키를 KEYS 로 넘긴다")
+    void reserve_DeclaresEveryShardKey() {
+        when(redisTemplate.<String, String>opsForHash()).thenReturn(stringHashOperations);
+        when(stringHashOperations.entries(StockKeyLayout.SHARDS_KEY)).thenReturn(Map.of(menuId.toString(), "4"));
+        stockKeyLayout.refresh();
+        when(scriptRegistry.execute(any(), eq(ReturnType.INTEGER), keys.capture(), args.capture())).thenReturn(1L);
+
+        stockReservation.reserve("order-1", lines(3));
+
+        List<String> shardKeys = keys.getValue().subList(4, 8);
+        int start = Integer.parseInt(shardKeys.get(0).substring(shardKeys.get(0).lastIndexOf(':') + 1));
+        for (int i = 0; i < 4; i++) {
+            assertEquals("stock:" + menuId + ":" + (start + i) % 4, shardKeys.get(i));
+        }
+        assertEquals(8, keys.getValue().size());
+        assertEquals(List.of(menuId.toString(), "4", "3"), args.getValue().subList(6, 9));
+    }
+
+    @Test
+    @DisplayName("스크립트가 샤드 구성 변경(-4)을 돌려주면 구성을 다시 읽고 한 번 더 보낸다")
+    void reserve_RetriesWithRefreshedLayout() {
+        when(redisTemplate.<String, String>opsForHash()).thenReturn(stringHashOperations);
+        when(stringHashOperations.entries(StockKeyLayout.SHARDS_KEY)).thenReturn(Map.of(menuId.toString(), "2"));
+        when(scriptRegistry.execute(any(), eq(ReturnType.INTEGER), keys.capture(), args.capture()))
+            .thenReturn(-4L)
+            .thenReturn(1L);
+
+        assertEquals(StockReservation.Result.OK, stockReservation.reserve("order-1", lines(3)));
+
+        verify(stringHashOperations).entries(StockKeyLayout.SHARDS_KEY);
+        assertEquals(List.of("stock:" + menuId), keys.getAllValues().get(0).subList(4, 5));
+        assertEquals(6, keys.getAllValues().get(1).size());
+        assertEquals("2", args.getAllValues().get(1).get(7));
+    }
+
+    @Test
+    @DisplayName("스크립트 응답 코드를 예약 상태로 바꾼다")
+    void result_Codes() {
+        assertEquals(StockReservation.Result.IN_PROGRESS, StockReservation.Result.of(2L));
+        assertEquals(StockReservation.Result.EXPIRED, StockReservation.Result.of("5"));
+        assertEquals(StockReservation.Result.LINES_MISMATCH, StockReservation.Release.of(List.of("-3")).getResult());
+        assertNull(StockReservation.Result.of(null));
+        assertNull(StockReservation.Release.of(null));
+    }
+}
@@ -0,0 +1,296 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.domain.menu.kafka.StockBatchRequest;
+import app.domain.menu.kafka.StockReservationEvent;
+import app.domain.menu.kafka.StockResultEvent;
+import app.domain.menu.kafka.StockService;
+import app.domain.menu.model.entity.Menu;
+import app.domain.menu.model.entity.Stock;
+import app.domain.menu.model.entity.StockOrderApplied;
+import app.domain.menu.model.repository.StockOrderAppliedRepository;
+import app.domain.menu.model.repository.StockRepository;
+import app.domain.menu.stock.StockKeyLayout;
+import app.domain.menu.stock.StockLedger;
+import app.domain.menu.stock.StockLoader;
+import app.domain.menu.stock.StockReservation;
+import app.global.config.RedisScriptRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockService 배치 처리 테스트")
+class StockServiceTest {
+
+    @Mock
+    private RedisScriptRegistry scriptRegistry;
+    @Mock
+    private StockRepository stockRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private StockLedger stockLedger;
+    @Mock
+    private StockKeyLayout stockKeyLayout;
+    @Mock
+    private StockReservation stockReservation;
+    @Mock
+    private StockLoader stockLoader;
+    @Mock
+    private StockOrderAppliedRepository stockOrderAppliedRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StockService stockService;
+
+    private final UUID menuId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        stockService = new StockService(scriptRegistry, stockRepository, eventPublisher,
+            new TransactionTemplate(transactionManager), stockLedger, stockKeyLayout, stockReservation, stockLoader,
+            stockOrderAppliedRepository, meterRegistry);
+    }
+
+    private StockBatchRequest request(String orderId, long quantity) {
+        Map<String, Object> line = new HashMap<>();
+        line.put("menuId", menuId.toString());
+        line.put("quantity", quantity);
+        return new StockBatchRequest(orderId, List.of(line));
+    }
+
+    private Stock stock(long value) {
+        Menu menu = Menu.builder().menuId(menuId).build();
+        return Stock.builder().menu(menu).stock(value).version(0L).build();
+    }
+
+    private void reserveResults(Object... codes) {
+        when(scriptRegistry.executePipelined(eq("stock.batch.reserve"), any())).thenReturn(List.of(codes));
+    }
+
+    private List<StockResultEvent> events() {
+        ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, atLeast(0)).publishEvent(captor.capture());
+        return captor.getAllValues().stream()
+            .filter(StockResultEvent.class::isInstance)
+            .map(StockResultEvent.class::cast)
+            .toList();
+    }
+
+    // 롤백된 시도에서 발행된 이벤트는 커밋 후 리스너로 전달되지 않으므로 주문별 마지막 결과만 본다
+    private Map<String, String> results() {
+        Map<String, String> results = new HashMap<>();
+        events().forEach(event -> results.put(event.getOrderId(), event.getStatus()));
+        return results;
+    }
+
+    @Test
+    @DisplayName("예약 성공과 재고 부족이 섞인 배치는 성공 주문만 DB 에서 차감하고 각자 결과를 알린다")
+    void processStockBatch_MixedResults() {
+        reserveResults(1L, 0L);
+        Stock stock = stock(10);
+        when(stockRepository.findByMenuMenuIdIn(anyList())).thenReturn(List.of(stock));
+
+        stockService.processStockBatch(List.of(request("order-1", 3), request("order-2", 20)));
+
+        assertEquals(7L, stock.getStock());
+        assertEquals(Map.of("order-1", "success", "order-2", "fail"), results());
+        verify(stockReservation).confirmCall("order-1");
+        verify(stockReservation, never()).markCall(eq("order-2"), anyList());
+    }
+
+    @Test
+    @DisplayName("같은 orderId 가 한 배치에 두 번 오면 먼저 예약된 한 건만 차감하고 결과도 한 번만 알린다")
+    void processStockBatch_DuplicateOrderIds() {
+        reserveResults(1L, 2L);
+        Stock stock = stock(10);
+        when(stockRepository.findByMenuMenuIdIn(anyList())).thenReturn(List.of(stock));
+
+        stockService.processStockBatch(List.of(request("order-1", 3), request("order-1", 3)));
+
+        assertEquals(7L, stock.getStock());
+        assertEquals(1, events().size());
+        assertEquals(Map.of("order-1", "success"), results());
+        verify(stockReservation, times(1)).confirmCall("order-1");
+    }
+
+    @Test
+    @DisplayName("배치 커밋이 버전 충돌로 실패하면 재고를 다시 읽어 재시도한다")
+    void processStockBatch_RetriesOnLockConflict() {
+        reserveResults(1L, 1L);
+        List<Stock> loaded = new ArrayList<>();
+        when(stockRepository.findByMenuMenuIdIn(anyList())).thenAnswer(invocation -> {
+            Stock stock = stock(10);
+            loaded.add(stock);
+            return List.of(stock);
+        });
+        doThrow(new ObjectOptimisticLockingFailureException(Stock.class, menuId))
+            .doNothing()
+            .when(transactionManager).commit(any());
+
+        stockService.processStockBatch(List.of(request("order-1", 3), request("order-2", 2)));
+
+        assertEquals(2, loaded.size());
+        assertEquals(5L, loaded.get(1).getStock());
+        verify(stockReservation).confirmCall("order-1");
+        verify(stockReservation).confirmCall("order-2");
+        verify(stockReservation, never()).releaseCall(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("재시도해도 충돌하면 주문 단위로 반영하고 충돌한 주문만 예약을 되돌린다")
+    void processStockBatch_FallsBackPerOrderOnRepeatedConflict() {
+        reserveResults(1L, 1L);
+        when(stockRepository.findByMenuMenuIdIn(anyList())).thenAnswer(invocation -> List.of(stock(10)));
+        // 배치 3회 + order-1 단건 성공, 이후 order-2 단건 3회 모두 충돌
+        doThrow(new ObjectOptimisticLockingFailureException(Stock.class, menuId))
+            .doThrow(new ObjectOptimisticLockingFailureException(Stock.class, menuId))
+            .doThrow(new ObjectOptimisticLockingFailureException(Stock.class, menuId))
+            .doNothing()
+            .doThrow(new ObjectOptimisticLockingFailureException(Stock.class, menuId))
+            .when(transactionManager).commit(any());
+
+        stockService.processStockBatch(List.of(request("order-1", 3), request("order-2", 2)));
+
+        assertEquals(Map.of("order-1", "success", "order-2", "fail"), results());
+        verify(stockReservation).release("order-2");
+        verify(stockReservation).confirmCall("order-1");
+        verify(stockReservation, never()).confirmCall("order-2");
+    }
+
+    @Test
+    @DisplayName("DB 반영이 다른 오류로 실패하면 예약과 대체 주문만 실패로 알리고 이미 응답한 주문은 건드리지 않는다")
+    void processStockBatch_DatabaseFailureFailsOnlyPendingOrders() {
+        reserveResults(1L, 3L, 5L, 0L);
+        when(stockOrderAppliedRepository.existsById("order-3")).thenReturn(true);
+        when(stockRepository.findByMenuMenuIdIn(anyList())).thenThrow(new IllegalStateException("db down"));
+
+        stockService.processStockBatch(List.of(
+            request("order-1", 3), request("order-2", 3), request("order-3", 3), request("order-4", 3)));
+
+        assertEquals(Map.of("order-1", "fail", "order-2", "success", "order-3", "success", "order-4", "fail"), results());
+        assertEquals(4, events().size());
+        verify(stockReservation).releaseCall(eq("order-1"), anyList());
+        verify(stockReservation, never()).releaseCall(eq("order-3"), anyList());
+    }
+
+    @Test
+    @DisplayName("확정 전에 멈춘 예약이 재전송되면 DB 반영 기록이 있는 경우 확정만 하고 성공을 다시 알린다")
+    void processStockRequest_ExpiredAndApplied_Confirms() {
+        List<Map<String, Object>> lines = request("order-1", 3).getStockRequests();
+        when(stockReservation.reserve("order-1", lines)).thenReturn(StockReservation.Result.EXPIRED);
+        when(stockOrderAppliedRepository.existsById("order-1")).thenReturn(true);
+
+        stockService.processStockRequest(lines, "order-1");
+
+        verify(stockReservation).confirm("order-1");
+        verify(stockRepository, never()).findByMenuMenuIdIn(anyList());
+        assertEquals(Map.of("order-1", "success"), results());
+    }
+
+    @Test
+    @DisplayName("확정 전에 멈춘 예약이 재전송되고 DB 반영 기록이 없으면 남은 DB 반영을 마저 진행한다")
+    void processStockRequest_ExpiredNotApplied_AppliesDatabase() {
+        List<Map<String, Object>> lines = request("order-1", 3).getStockRequests();
+        Stock stock = stock(10);
+        when(stockReservation.reserve("order-1", lines)).thenReturn(StockReservation.Result.EXPIRED);
+        when(stockOrderAppliedRepository.existsById("order-1")).thenReturn(false);
+        when(stockRepository.findByMenuMenuIdIn(anyList())).thenReturn(List.of(stock));
+
+        stockService.processStockRequest(lines, "order-1");
+
+        assertEquals(7L, stock.getStock());
+        verify(stockOrderAppliedRepository).save(any(StockOrderApplied.class));
+        verify(eventPublisher).publishEvent(any(StockReservationEvent.class));
+        assertEquals(Map.of("order-1", "success"), results());
+    }
+
+    @Test
+    @DisplayName("아직 처리 중인 예약의 재전송은 결과를 알리지 않고, 확정/복구된 예약은 이전 결과를 다시 알린다")
+    void processStockRequest_Duplicates() {
+        List<Map<String, Object>> lines = request("order-1", 3).getStockRequests();
+        when(stockReservation.reserve(any(), any())).thenReturn(
+            StockReservation.Result.IN_PROGRESS, StockReservation.Result.CONFIRMED, StockReservation.Result.RELEASED);
+
+        stockService.processStockRequest(lines, "order-1");
+        assertEquals(0, events().size());
+
+        stockService.processStockRequest(lines, "order-2");
+        stockService.processStockRequest(lines, "order-3");
+        assertEquals(Map.of("order-2", "success", "order-3", "fail"), results());
+        verify(stockRepository, never()).findByMenuMenuIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("orderId 가 없는 요청은 예약 기록 없이 바로 차감하고 건수를 센다")
+    void processStockRequest_WithoutOrderId_TakesUntracked() {
+        List<Map<String, Object>> lines = request(null, 3).getStockRequests();
+        Stock stock = stock(10);
+        when(stockReservation.take(lines)).thenReturn(StockReservation.Result.OK);
+        when(stockRepository.findByMenuMenuIdIn(anyList())).thenReturn(List.of(stock));
+
+        stockService.processStockRequest(lines, null);
+
+        assertEquals(7L, stock.getStock());
+        verify(stockReservation, never()).reserve(any(), anyList());
+        assertEquals(1.0, meterRegistry.counter("stock.reservation.untracked", "reason", "request_without_order_id").count());
+    }
+
+    @Test
+    @DisplayName("예약 기록이 없는 환불은 요청 수량으로 Redis 와 DB 재고를 되돌리고 건수를 센다")
+    void processStockRefund_WithoutRecord_RestoresUntracked() {
+        List<Map<String, Object>> lines = request("order-1", 3).getStockRequests();
+        Stock stock = stock(10);
+        when(stockReservation.release("order-1")).thenReturn(StockReservation.Release.of(List.of("-1")));
+        when(stockRepository.findByMenuMenuIdIn(anyList())).thenReturn(List.of(stock));
+
+        stockService.processStockRefund(lines, "order-1");
+
+        verify(stockReservation).put(lines);
+        assertEquals(13L, stock.getStock());
+        assertEquals(1.0, meterRegistry.counter("stock.reservation.untracked", "reason", "refund_without_record").count());
+    }
+
+    @Test
+    @DisplayName("이미 복구된 주문의 환불은 다시 되돌리지 않는다")
+    void processStockRefund_AlreadyReleased_Skips() {
+        List<Map<String, Object>> lines = request("order-1", 3).getStockRequests();
+        when(stockReservation.release("order-1")).thenReturn(StockReservation.Release.of(List.of("4")));
+
+        stockService.processStockRefund(lines, "order-1");
+
+        verify(stockReservation, never()).put(anyList());
+        verify(stockRepository, never()).findByMenuMenuIdIn(anyList());
+    }
+}
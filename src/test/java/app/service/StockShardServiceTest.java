@@ -0,0 +1,78 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.menu.model.dto.response.StockShardResponse;
+import app.domain.menu.status.StoreMenuErrorCode;
+import app.domain.menu.stock.StockKeyLayout;
+import app.domain.menu.stock.StockShardService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockShardService 테스트")
+class StockShardServiceTest {
+
+    @Mock
+    private StockKeyLayout stockKeyLayout;
+
+    private StockShardService stockShardService;
+
+    private final UUID menuId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        stockShardService = new StockShardService(stockKeyLayout);
+        ReflectionTestUtils.setField(stockShardService, "maxShardCount", 32);
+    }
+
+    @Test
+    @DisplayName("샤드 기능이 꺼져 있으면 전환하지 않는다")
+    void reshard_Disabled() {
+        GeneralException ex = assertThrows(GeneralException.class, () -> stockShardService.reshard(menuId, 4));
+
+        assertEquals(StoreMenuErrorCode.STOCK_SHARDING_DISABLED.getCode(), ex.getErrorReasonHttpStatus().getCode());
+        verify(stockKeyLayout, never()).reshard(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 샤드 수는 거절한다")
+    void reshard_InvalidCount() {
+        when(stockKeyLayout.isEnabled()).thenReturn(true);
+
+        GeneralException ex = assertThrows(GeneralException.class, () -> stockShardService.reshard(menuId, 33));
+
+        assertEquals(StoreMenuErrorCode.INVALID_STOCK_SHARD_COUNT.getCode(), ex.getErrorReasonHttpStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 메뉴는 전환할 수 없고, 적재된 메뉴는 합계를 보존한 채 전환한다")
+    void reshard_KeepsTotal() {
+        UUID missing = UUID.randomUUID();
+        when(stockKeyLayout.isEnabled()).thenReturn(true);
+        when(stockKeyLayout.reshard(menuId, 4)).thenReturn(40L);
+        when(stockKeyLayout.reshard(missing, 4)).thenReturn(-1L);
+
+        StockShardResponse response = stockShardService.reshard(menuId, 4);
+        GeneralException ex = assertThrows(GeneralException.class, () -> stockShardService.reshard(missing, 4));
+
+        assertEquals(4, response.getShardCount());
+        assertEquals(40L, response.getStock());
+        assertEquals(StoreMenuErrorCode.STOCK_NOT_LOADED.getCode(), ex.getErrorReasonHttpStatus().getCode());
+    }
+}
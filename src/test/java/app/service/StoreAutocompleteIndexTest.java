@@ -0,0 +1,82 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import app.domain.mongo.StoreAutocompleteIndex;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreAutocompleteIndex 테스트")
+class StoreAutocompleteIndexTest {
+
+    @InjectMocks
+    private StoreAutocompleteIndex storeAutocompleteIndex;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Document kyochon = new Document("storeKey", "s1").append("storeName", "교촌치킨 강남점").append("reviewCount", 50L)
+            .append("menus", List.of(new Document("name", "허니콤보").append("isHidden", false),
+                new Document("name", "숨은메뉴").append("isHidden", true)));
+        Document bbq = new Document("storeKey", "s2").append("storeName", "BBQ 치킨").append("reviewCount", 10L)
+            .append("menus", List.of(new Document("name", "허니콤보").append("isHidden", false)));
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("stores")))
+            .thenReturn(Stream.of(kyochon, bbq));
+        storeAutocompleteIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("접두어로 가게와 메뉴를 점수 순으로 추천한다")
+    void suggest_ByPrefix() {
+        List<StoreAutocompleteIndex.Suggestion> result = storeAutocompleteIndex.suggest("교촌", 10);
+
+        assertEquals(1, result.size());
+        assertEquals("s1", result.get(0).getStoreKey());
+
+        List<StoreAutocompleteIndex.Suggestion> menus = storeAutocompleteIndex.suggest("허니", 10);
+        assertEquals(1, menus.size());
+        assertEquals(StoreAutocompleteIndex.Type.MENU, menus.get(0).getType());
+        assertEquals(3, storeAutocompleteIndex.size());
+    }
+
+    @Test
+    @DisplayName("단어 시작 위치와 대소문자 무관하게 찾는다")
+    void suggest_ByWordStart() {
+        List<StoreAutocompleteIndex.Suggestion> result = storeAutocompleteIndex.suggest("치킨", 10);
+
+        assertEquals(1, result.size());
+        assertEquals("BBQ 치킨", result.get(0).getText());
+        assertEquals("교촌치킨 강남점", storeAutocompleteIndex.suggest("강남", 10).get(0).getText());
+        assertEquals("s2", storeAutocompleteIndex.suggest("bb", 10).get(0).getStoreKey());
+    }
+
+    @Test
+    @DisplayName("초성으로 찾고, 숨김 메뉴는 추천하지 않는다")
+    void suggest_ByChosung() {
+        List<StoreAutocompleteIndex.Suggestion> result = storeAutocompleteIndex.suggest("ㄱㅊ", 10);
+
+        assertEquals(1, result.size());
+        assertEquals("s1", result.get(0).getStoreKey());
+        assertEquals("허니콤보", storeAutocompleteIndex.suggest("ㅎㄴ", 10).get(0).getText());
+        assertTrue(storeAutocompleteIndex.suggest("숨은", 10).isEmpty());
+    }
+}
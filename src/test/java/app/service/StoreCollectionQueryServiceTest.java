@@ -3,18 +3,24 @@ package app.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,8 +37,14 @@ import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Query;
 
 import app.domain.mongo.StoreCollectionQueryService;
+import app.domain.mongo.model.StoreDiscoverySort;
+import app.domain.mongo.model.dto.response.RegionStoreResponse;
+import app.domain.mongo.model.dto.response.StoreCardResponse;
 import app.domain.mongo.model.entity.MenuCollection;
 import app.domain.mongo.model.entity.StoreCollection;
+import app.commonUtil.apiPayload.exception.GeneralException;
+import app.domain.store.model.StoreCursor;
+import app.domain.store.model.dto.response.CursorResponse;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("StoreCollectionQueryService 테스트")
@@ -65,28 +77,41 @@ public class StoreCollectionQueryServiceTest {
             null,
             null,
             null,
+            null,
             1L,
-            List.of(menu)
+            List.of(menu),
+            null,
+            null
         );
     }
 
     @Test
-    @DisplayName("통합 검색(searchStores) 테스트")
+    @DisplayName("통합 검색(searchStores) 테스트 - 텍스트 인덱스, 활성 가게, 관련도/평점 정렬")
     void searchStoresTest() {
-        String keyword = "Test";
-        StoreCollection store = createTestStore(UUID.randomUUID().toString(), "Test Store", false);
-        when(mongoTemplate.find(any(Query.class), eq(StoreCollection.class))).thenReturn(List.of(store));
-
-        List<StoreCollection> result = storeCollectionQueryService.searchStores(keyword);
+        String keyword = "교촌치킨";
+        when(mongoTemplate.aggregateStream(any(Aggregation.class), eq("stores"), eq(StoreCardResponse.class)))
+            .thenReturn(Stream.of(new StoreCardResponse()));
+
+        List<StoreCardResponse> result = storeCollectionQueryService.searchStores(keyword, PageRequest.of(1, 10)).toList();
+
+        List<Document> pipeline = capturePipeline();
+        Document text = pipeline.get(0).get("$match", Document.class).get("$text", Document.class);
+        assertEquals("none", text.getString("$language"));
+        assertTrue(text.getString("$search").contains("치킨"));
+        assertEquals(true, pipeline.get(1).get("$match", Document.class).getBoolean("isActive"));
+        assertEquals(List.of("score", "avgRating", "_id"), List.copyOf(pipeline.get(2).get("$sort", Document.class).keySet()));
+        assertEquals(10L, ((Number) pipeline.get(3).get("$skip")).longValue());
+        assertEquals(10L, ((Number) pipeline.get(4).get("$limit")).longValue());
+        assertEquals(1, result.size());
+    }
 
-        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
-        verify(mongoTemplate).find(queryCaptor.capture(), eq(StoreCollection.class));
-        Query capturedQuery = queryCaptor.getValue();
+    @Test
+    @DisplayName("통합 검색(searchStores) 테스트 - 토큰이 없으면 조회하지 않음")
+    void searchStores_NoTokens_ShouldReturnEmpty() {
+        long count = storeCollectionQueryService.searchStores("  !! ", PageRequest.of(0, 10)).count();
 
-        String expectedQuery = "{\"$and\":[{\"$or\":[{\"storeName\":{\"$regularExpression\":{\"pattern\":\"Test\",\"options\":\"i\"}}},{\"categoryKeys\":{\"$regularExpression\":{\"pattern\":\"Test\",\"options\":\"i\"}}},{\"menus.name\":{\"$regularExpression\":{\"pattern\":\"Test\",\"options\":\"i\"}}}]},{\"isActive\":true}]}";
-        assertEquals(expectedQuery, capturedQuery.getQueryObject().toJson().replaceAll("\\s", ""));
-        assertEquals(1, result.size());
-        assertEquals("Test Store", result.get(0).getStoreName());
+        assertEquals(0, count);
+        verify(mongoTemplate, never()).aggregateStream(any(Aggregation.class), anyString(), eq(StoreCardResponse.class));
     }
 
     @Test
@@ -117,78 +142,162 @@ public class StoreCollectionQueryServiceTest {
     }
     
     @Test
-    @DisplayName("가게 이름으로 검색(searchStoresByName) 테스트")
+    @DisplayName("가게 이름으로 검색(searchStoresByName) 테스트 - 평점 순 페이지, 카드 필드만 투영")
     void searchStoresByNameTest() {
-        String keyword = "Store";
-        StoreCollection store = createTestStore(UUID.randomUUID().toString(), "My Store", false);
-        when(mongoTemplate.find(any(Query.class), eq(StoreCollection.class))).thenReturn(List.of(store));
-
-        List<StoreCollection> result = storeCollectionQueryService.searchStoresByName(keyword);
+        when(mongoTemplate.aggregateStream(any(Aggregation.class), eq("stores"), eq(StoreCardResponse.class)))
+            .thenReturn(Stream.of(new StoreCardResponse()));
 
-        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
-        verify(mongoTemplate).find(queryCaptor.capture(), eq(StoreCollection.class));
-        Query capturedQuery = queryCaptor.getValue();
+        List<StoreCardResponse> result = storeCollectionQueryService.searchStoresByName("Store", PageRequest.of(0, 500)).toList();
 
-        String expectedQuery = "{\"storeName\":{\"$regularExpression\":{\"pattern\":\"Store\",\"options\":\"i\"}}}";
-        assertEquals(expectedQuery, capturedQuery.getQueryObject().toJson().replaceAll("\\s", ""));
+        List<Document> pipeline = capturePipeline();
+        String expectedMatch = "{\"storeName\":{\"$regularExpression\":{\"pattern\":\"\\\\QStore\\\\E\",\"options\":\"i\"}},\"isActive\":true}";
+        assertEquals(expectedMatch, pipeline.get(0).get("$match", Document.class).toJson().replaceAll("\\s", ""));
+        assertEquals(List.of("avgRating", "_id"), List.copyOf(pipeline.get(1).get("$sort", Document.class).keySet()));
+        assertEquals(100L, ((Number) pipeline.get(3).get("$limit")).longValue());
+        assertFalse(pipeline.get(4).get("$project", Document.class).containsKey("description"));
         assertFalse(result.isEmpty());
     }
 
     @Test
-    @DisplayName("카테고리로 검색(searchStoresByCategory) 테스트")
-    void searchStoresByCategoryTest() {
-        String category = "CHICKEN";
-        StoreCollection store = createTestStore(UUID.randomUUID().toString(), "Chicken Store", false);
-        when(mongoTemplate.find(any(Query.class), eq(StoreCollection.class))).thenReturn(List.of(store));
+    @DisplayName("페이지 크기가 상한을 넘으면 줄인 크기로 offset 을 계산한다")
+    void searchStoresByName_ClampsSizeBeforeOffset() {
+        when(mongoTemplate.aggregateStream(any(Aggregation.class), eq("stores"), eq(StoreCardResponse.class)))
+            .thenReturn(Stream.of(new StoreCardResponse()));
 
-        List<StoreCollection> result = storeCollectionQueryService.searchStoresByCategory(category);
+        storeCollectionQueryService.searchStoresByName("Store", PageRequest.of(2, 500)).toList();
 
-        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
-        verify(mongoTemplate).find(queryCaptor.capture(), eq(StoreCollection.class));
-        Query capturedQuery = queryCaptor.getValue();
+        List<Document> pipeline = capturePipeline();
+        assertEquals(200L, ((Number) pipeline.get(2).get("$skip")).longValue());
+        assertEquals(100L, ((Number) pipeline.get(3).get("$limit")).longValue());
+    }
+
+    @Test
+    @DisplayName("카테고리로 검색(searchStoresByCategory) 테스트 - 평점 순 페이지, 카드 필드만 투영")
+    void searchStoresByCategoryTest() {
+        when(mongoTemplate.aggregateStream(any(Aggregation.class), eq("stores"), eq(StoreCardResponse.class)))
+            .thenReturn(Stream.of(new StoreCardResponse()));
 
-        String expectedQuery = "{\"categoryKeys\":{\"$regularExpression\":{\"pattern\":\"CHICKEN\",\"options\":\"i\"}}}";
-        assertEquals(expectedQuery, capturedQuery.getQueryObject().toJson().replaceAll("\\s", ""));
+        List<StoreCardResponse> result = storeCollectionQueryService.searchStoresByCategory("CHICKEN", PageRequest.of(0, 500)).toList();
+
+        List<Document> pipeline = capturePipeline();
+        String expectedMatch = "{\"categoryKeys\":{\"$regularExpression\":{\"pattern\":\"\\\\QCHICKEN\\\\E\",\"options\":\"i\"}},\"isActive\":true}";
+        assertEquals(expectedMatch, pipeline.get(0).get("$match", Document.class).toJson().replaceAll("\\s", ""));
+        assertEquals(List.of("avgRating", "_id"), List.copyOf(pipeline.get(1).get("$sort", Document.class).keySet()));
+        assertEquals(100L, ((Number) pipeline.get(3).get("$limit")).longValue());
+        assertFalse(pipeline.get(4).get("$project", Document.class).containsKey("description"));
         assertFalse(result.isEmpty());
     }
 
     @Test
-    @DisplayName("메뉴 이름으로 검색(searchStoresByMenuName) 테스트")
+    @DisplayName("메뉴 이름으로 검색(searchStoresByMenuName) 테스트 - 평점 순 페이지, 카드 필드만 투영")
     void searchStoresByMenuNameTest() {
-        String menuName = "Test Menu";
-        StoreCollection store = createTestStore(UUID.randomUUID().toString(), "My Store", false);
-        when(mongoTemplate.find(any(Query.class), eq(StoreCollection.class))).thenReturn(List.of(store));
+        when(mongoTemplate.aggregateStream(any(Aggregation.class), eq("stores"), eq(StoreCardResponse.class)))
+            .thenReturn(Stream.of(new StoreCardResponse()));
 
-        List<StoreCollection> result = storeCollectionQueryService.searchStoresByMenuName(menuName);
+        List<StoreCardResponse> result = storeCollectionQueryService.searchStoresByMenuName("Test Menu", PageRequest.of(0, 500)).toList();
 
-        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
-        verify(mongoTemplate).find(queryCaptor.capture(), eq(StoreCollection.class));
-        Query capturedQuery = queryCaptor.getValue();
-
-        String expectedQuery = "{\"menus.name\":{\"$regularExpression\":{\"pattern\":\"TestMenu\",\"options\":\"i\"}}}";
-        assertEquals(expectedQuery, capturedQuery.getQueryObject().toJson().replaceAll("\\s", ""));
+        List<Document> pipeline = capturePipeline();
+        String expectedMatch = "{\"menus.name\":{\"$regularExpression\":{\"pattern\":\"\\\\QTestMenu\\\\E\",\"options\":\"i\"}},\"isActive\":true}";
+        assertEquals(expectedMatch, pipeline.get(0).get("$match", Document.class).toJson().replaceAll("\\s", ""));
+        assertEquals(List.of("avgRating", "_id"), List.copyOf(pipeline.get(1).get("$sort", Document.class).keySet()));
+        assertEquals(100L, ((Number) pipeline.get(3).get("$limit")).longValue());
+        assertFalse(pipeline.get(4).get("$project", Document.class).containsKey("description"));
         assertFalse(result.isEmpty());
     }
 
     @Test
-    @DisplayName("메뉴 이름으로 필터링(filterStoresByMenuNameAndReturnFilteredMenus) 테스트")
+    @DisplayName("메뉴 이름으로 검색(searchStoresByMenuName) 테스트 - 정규식 특수문자는 문자 그대로 찾는다")
+    void searchStoresByMenuName_QuotesKeyword() {
+        when(mongoTemplate.aggregateStream(any(Aggregation.class), eq("stores"), eq(StoreCardResponse.class)))
+            .thenReturn(Stream.of(new StoreCardResponse()));
+
+        storeCollectionQueryService.searchStoresByMenuName("(반반", PageRequest.of(0, 20)).toList();
+
+        List<Document> pipeline = capturePipeline();
+        String expectedMatch = "{\"menus.name\":{\"$regularExpression\":{\"pattern\":\"\\\\Q(반반\\\\E\",\"options\":\"i\"}},\"isActive\":true}";
+        assertEquals(expectedMatch, pipeline.get(0).get("$match", Document.class).toJson().replaceAll("\\s", ""));
+        assertTrue(pipeline.get(4).get("$project", Document.class).toJson().contains("\\\\Q(반반\\\\E"));
+    }
+
+    @Test
+    @DisplayName("메뉴 이름으로 필터링(filterStoresByMenuNameAndReturnFilteredMenus) 테스트 - stores 컬렉션, 텍스트 인덱스, 페이지 후 카드 투영")
     void filterStoresByMenuNameAndReturnFilteredMenusTest() {
         String menuName = "Test Menu";
-        StoreCollection store = createTestStore(UUID.randomUUID().toString(), "MyStore", false);
-        @SuppressWarnings("unchecked")
-        AggregationResults<StoreCollection> aggregationResults = new AggregationResults<>(List.of(store), new Document());
-        when(mongoTemplate.aggregate(any(Aggregation.class), anyString(), eq(StoreCollection.class))).thenReturn(aggregationResults);
+        StoreCardResponse card = new StoreCardResponse();
+        card.setStoreKey(UUID.randomUUID().toString());
+        AggregationResults<StoreCardResponse> aggregationResults = new AggregationResults<>(List.of(card), new Document());
+        when(mongoTemplate.aggregate(any(Aggregation.class), anyString(), eq(StoreCardResponse.class))).thenReturn(aggregationResults);
 
-        List<StoreCollection> result = storeCollectionQueryService.filterStoresByMenuNameAndReturnFilteredMenus(menuName);
+        List<StoreCardResponse> result = storeCollectionQueryService.filterStoresByMenuNameAndReturnFilteredMenus(menuName, PageRequest.of(1, 10));
 
         ArgumentCaptor<Aggregation> aggregationCaptor = ArgumentCaptor.forClass(Aggregation.class);
-        verify(mongoTemplate).aggregate(aggregationCaptor.capture(), eq("storeCollection"), eq(StoreCollection.class));
-        Aggregation capturedAggregation = aggregationCaptor.getValue();
+        verify(mongoTemplate).aggregate(aggregationCaptor.capture(), eq("stores"), eq(StoreCardResponse.class));
+        List<Document> pipeline = aggregationCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+        assertEquals(List.of("$match", "$match", "$sort", "$skip", "$limit", "$project"),
+            pipeline.stream().map(stage -> stage.keySet().iterator().next()).toList());
+        assertEquals("none", pipeline.get(0).get("$match", Document.class).get("$text", Document.class).getString("$language"));
+        assertEquals(true, pipeline.get(1).get("$match", Document.class).getBoolean("isActive"));
+        assertEquals(10L, ((Number) pipeline.get(3).get("$skip")).longValue());
+        assertEquals(10L, ((Number) pipeline.get(4).get("$limit")).longValue());
+        Document projection = pipeline.get(5).get("$project", Document.class);
+        assertEquals(0, projection.get("_id"));
+        assertFalse(projection.containsKey("description"));
+        assertTrue(projection.get("menus", Document.class).containsKey("$map"));
+        assertEquals(1, result.size());
+    }
 
-        String expectedAggregation = """
-            {"aggregate":"storeCollection","pipeline":[{"$match":{"menus.name":{"$regularExpression":{"pattern":"TestMenu","options":"i"}}}},{"$project":{"storeName":1,"description":1,"avgRating":1,"phoneNumber":1,"minOrderAmount":1,"address":1,"menus":{"$filter":{"input":"$menus","as":"menu","cond":{"$regexMatch":{"input":"$menu.name","regex":"TestMenu","options":"i"}}}}}}]}""";
-        assertEquals(expectedAggregation, capturedAggregation.toString().replaceAll("__collection__", "storeCollection").replaceAll("\\s", ""));
-        assertFalse(result.isEmpty());
+    @Test
+    @DisplayName("메뉴 이름으로 필터링(filterStoresByMenuNameAndReturnFilteredMenus) 테스트 - 토큰이 없으면 조회하지 않음")
+    void filterStoresByMenuName_NoTokens_ShouldReturnEmpty() {
+        List<StoreCardResponse> result = storeCollectionQueryService.filterStoresByMenuNameAndReturnFilteredMenus(" ", PageRequest.of(0, 10));
+
+        assertTrue(result.isEmpty());
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), anyString(), eq(StoreCardResponse.class));
+    }
+
+    @Test
+    @DisplayName("지역 가게 목록(discoverStores) 테스트 - 지역/카테고리 동등 조건, 정렬 키, 카테고리별 가게 수")
+    void discoverStoresTest() {
+        StoreCardResponse card = new StoreCardResponse();
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("stores"), eq(StoreCardResponse.class)))
+            .thenReturn(new AggregationResults<>(List.of(card), new Document()));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("stores"), eq(Document.class)))
+            .thenReturn(new AggregationResults<>(List.of(
+                new Document("_id", "한식").append("count", 12), new Document("_id", "치킨").append("count", 3)), new Document()));
+
+        RegionStoreResponse result = storeCollectionQueryService.discoverStores("GANGNAM", "치킨",
+            StoreDiscoverySort.MIN_ORDER_AMOUNT, PageRequest.of(0, 20));
+
+        ArgumentCaptor<Aggregation> aggregationCaptor = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(aggregationCaptor.capture(), eq("stores"), eq(StoreCardResponse.class));
+        List<Document> pipeline = aggregationCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(List.of("regionName", "categoryKeys", "isActive"),
+            List.copyOf(pipeline.get(0).get("$match", Document.class).keySet()));
+        assertEquals(new Document("minOrderAmount", 1).append("_id", 1), pipeline.get(1).get("$sort", Document.class));
+
+        assertEquals(1, result.getStores().size());
+        assertEquals(List.of("한식", "치킨"), List.copyOf(result.getCategories().keySet()));
+        assertEquals(12L, result.getCategories().get("한식"));
+
+        verify(mongoTemplate).aggregate(aggregationCaptor.capture(), eq("stores"), eq(Document.class));
+        List<Document> facet = aggregationCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(new Document("categoryKeys", 1), facet.get(1).get("$project", Document.class));
+        assertEquals("$categoryKeys", facet.get(2).get("$unwind"));
+    }
+
+    @Test
+    @DisplayName("지역 가게 목록(discoverStores) 테스트 - 두 번째 페이지부터는 카테고리별 가게 수를 세지 않는다")
+    void discoverStores_SkipsFacetsAfterFirstPage() {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("stores"), eq(StoreCardResponse.class)))
+            .thenReturn(new AggregationResults<>(List.of(new StoreCardResponse()), new Document()));
+
+        RegionStoreResponse result = storeCollectionQueryService.discoverStores("GANGNAM", null,
+            StoreDiscoverySort.RATING, PageRequest.of(1, 20));
+
+        assertEquals(1, result.getStores().size());
+        assertNull(result.getCategories());
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq("stores"), eq(Document.class));
     }
 
     @Test
@@ -207,4 +316,47 @@ public class StoreCollectionQueryServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
     }
+
+    @Test
+    @DisplayName("커서 조회(findStoresByCursor) 테스트 - 마지막 _id 이후를 size + 1 개 조회")
+    void findStoresByCursorTest() {
+        StoreCollection first = createTestStore(UUID.randomUUID().toString(), "Store 1", false);
+        first.setId("64b000000000000000000001");
+        StoreCollection second = createTestStore(UUID.randomUUID().toString(), "Store 2", false);
+        second.setId("64b000000000000000000002");
+        when(mongoTemplate.find(any(Query.class), eq(StoreCollection.class))).thenReturn(List.of(first, second));
+
+        CursorResponse<StoreCollection> page = storeCollectionQueryService.findStoresByCursor(null, 1);
+        String cursor = page.getNextCursor();
+        storeCollectionQueryService.findStoresByCursor(cursor, 1);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queryCaptor.capture(), eq(StoreCollection.class));
+        assertEquals(1, page.getContent().size());
+        assertTrue(page.isHasNext());
+        assertEquals(2, queryCaptor.getAllValues().get(0).getLimit());
+        assertEquals(new ObjectId("64b000000000000000000001"),
+            queryCaptor.getAllValues().get(1).getQueryObject().get("_id", Document.class).get("$gt"));
+    }
+
+    @Test
+    @DisplayName("커서 조회(findStoresByCursor) 테스트 - 형식이 잘못된 커서는 INVALID_CURSOR")
+    void findStoresByCursor_InvalidCursor() {
+        String notAnObjectId = StoreCursor.encodeToken("not-an-object-id");
+
+        GeneralException ex = assertThrows(GeneralException.class,
+            () -> storeCollectionQueryService.findStoresByCursor(notAnObjectId, 20));
+        GeneralException malformed = assertThrows(GeneralException.class,
+            () -> storeCollectionQueryService.findStoresByCursor("%%%", 20));
+
+        assertEquals("STORE026", ex.getErrorReasonHttpStatus().getCode());
+        assertEquals("STORE026", malformed.getErrorReasonHttpStatus().getCode());
+        verify(mongoTemplate, never()).find(any(Query.class), eq(StoreCollection.class));
+    }
+
+    private List<Document> capturePipeline() {
+        ArgumentCaptor<Aggregation> aggregationCaptor = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregateStream(aggregationCaptor.capture(), eq("stores"), eq(StoreCardResponse.class));
+        return aggregationCaptor.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+    }
 }
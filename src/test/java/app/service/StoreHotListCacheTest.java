@@ -0,0 +1,163 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.mongo.StoreHotListCache;
+import app.domain.mongo.model.StoreDiscoverySort;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreHotListCache 테스트")
+class StoreHotListCacheTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private StoreHotListCache storeHotListCache;
+
+    @BeforeEach
+    void setUp() {
+        storeHotListCache = new StoreHotListCache(mongoTemplate, objectMapper);
+        ReflectionTestUtils.setField(storeHotListCache, "size", 2);
+    }
+
+    private Document store(String storeKey, String regionName, double avgRating, long minOrderAmount, String... categories) {
+        return new Document("storeKey", storeKey).append("storeName", storeKey).append("regionName", regionName)
+            .append("avgRating", avgRating).append("reviewCount", 1L).append("minOrderAmount", minOrderAmount)
+            .append("categoryKeys", List.of(categories))
+            .append("menus", List.of(new Document("menuId", "m1").append("name", "메뉴").append("price", 1000)
+                .append("isHidden", false)));
+    }
+
+    private List<String> storeKeys(StoreHotListCache.HotList hotList) throws Exception {
+        JsonNode result = objectMapper.readTree(hotList.body()).get("result");
+        return StreamSupport.stream(result.spliterator(), false)
+            .map(card -> card.get("storeKey").asText()).toList();
+    }
+
+    @Test
+    @DisplayName("지역 전체와 카테고리별로 정렬 기준마다 상위 size 개를 만든다")
+    void rebuild_ShouldBuildTopListsPerRegionCategorySort() throws Exception {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("stores"))).thenReturn(Stream.of(
+            store("a", "GANGNAM", 4.0, 20000, "치킨"),
+            store("b", "GANGNAM", 4.8, 15000, "치킨"),
+            store("c", "GANGNAM", 3.0, 10000, "한식"),
+            store("d", "MAPO", 5.0, 10000, "치킨")));
+
+        storeHotListCache.rebuild();
+
+        assertEquals(List.of("b", "a"), storeKeys(storeHotListCache.get("GANGNAM", null, StoreDiscoverySort.RATING)));
+        assertEquals(List.of("c", "b"), storeKeys(storeHotListCache.get("GANGNAM", null, StoreDiscoverySort.MIN_ORDER_AMOUNT)));
+        assertEquals(List.of("b", "a"), storeKeys(storeHotListCache.get("GANGNAM", "치킨", StoreDiscoverySort.MIN_ORDER_AMOUNT)));
+        assertEquals(List.of("d"), storeKeys(storeHotListCache.get("MAPO", "치킨", StoreDiscoverySort.RATING)));
+        assertNull(storeHotListCache.get("MAPO", "한식", StoreDiscoverySort.RATING));
+    }
+
+    @Test
+    @DisplayName("갱신된 가게의 지역만 다시 만들고 ETag 가 바뀐다")
+    void refreshDirty_ShouldRebuildTouchedRegionOnly() throws Exception {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("stores")))
+            .thenReturn(Stream.of(store("a", "GANGNAM", 4.0, 20000, "치킨"), store("d", "MAPO", 5.0, 10000, "치킨")))
+            .thenReturn(Stream.of(store("a", "GANGNAM", 1.0, 20000, "한식")));
+        storeHotListCache.rebuild();
+        StoreHotListCache.HotList before = storeHotListCache.get("GANGNAM", null, StoreDiscoverySort.RATING);
+        StoreHotListCache.HotList mapo = storeHotListCache.get("MAPO", null, StoreDiscoverySort.RATING);
+
+        storeHotListCache.invalidate("a", false);
+        storeHotListCache.refreshDirty();
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        Mockito.verify(mongoTemplate, Mockito.times(2)).stream(queryCaptor.capture(), eq(Document.class), eq("stores"));
+        assertEquals(Set.of("GANGNAM"),
+            queryCaptor.getAllValues().get(1).getQueryObject().get("regionName", Document.class).get("$in"));
+        assertNotEquals(before.etag(), storeHotListCache.get("GANGNAM", null, StoreDiscoverySort.RATING).etag());
+        assertNull(storeHotListCache.get("GANGNAM", "치킨", StoreDiscoverySort.RATING));
+        assertEquals(mapo, storeHotListCache.get("MAPO", null, StoreDiscoverySort.RATING));
+    }
+
+    @Test
+    @DisplayName("지역 갱신이 실패하면 그 지역을 다음 주기에 다시 만든다")
+    void refreshDirty_ShouldKeepRegionsOnFailure() throws Exception {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("stores")))
+            .thenReturn(Stream.of(store("a", "GANGNAM", 4.0, 20000, "치킨")))
+            .thenThrow(new IllegalStateException("mongo down"))
+            .thenReturn(Stream.of(store("a", "GANGNAM", 1.0, 20000, "한식")));
+        storeHotListCache.rebuild();
+        storeHotListCache.invalidate("a", false);
+
+        assertThrows(IllegalStateException.class, () -> storeHotListCache.refreshDirty());
+        storeHotListCache.refreshDirty();
+
+        Mockito.verify(mongoTemplate, Mockito.times(3)).stream(any(Query.class), eq(Document.class), eq("stores"));
+        assertEquals(List.of("a"), storeKeys(storeHotListCache.get("GANGNAM", "한식", StoreDiscoverySort.RATING)));
+    }
+
+    @Test
+    @DisplayName("전체 재계산이 실패하면 다음 지역 갱신 주기에 전체를 다시 만든다")
+    void rebuild_ShouldRetryFullRefreshOnFailure() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("stores")))
+            .thenThrow(new IllegalStateException("mongo down"))
+            .thenReturn(Stream.of(store("a", "GANGNAM", 4.0, 20000, "치킨")));
+
+        assertThrows(IllegalStateException.class, () -> storeHotListCache.rebuild());
+        storeHotListCache.refreshDirty();
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        Mockito.verify(mongoTemplate, Mockito.times(2)).stream(queryCaptor.capture(), eq(Document.class), eq("stores"));
+        assertNull(queryCaptor.getAllValues().get(1).getQueryObject().get("regionName"));
+        assertNotNull(storeHotListCache.get("GANGNAM", null, StoreDiscoverySort.RATING));
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 가게는 새로 활성화된 경우에만 그 가게의 지역을 다시 만든다")
+    void invalidate_UnknownStoreMarksOnlyActivatedRegion() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("stores")))
+            .thenReturn(Stream.of(store("a", "GANGNAM", 4.0, 20000, "치킨")))
+            .thenReturn(Stream.of(store("n", "MAPO", 5.0, 10000, "치킨")));
+        when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq("stores")))
+            .thenReturn(new Document("storeKey", "n").append("regionName", "MAPO"));
+        storeHotListCache.rebuild();
+
+        storeHotListCache.invalidate("hidden", false);
+        storeHotListCache.refreshDirty();
+        storeHotListCache.invalidate("n", true);
+        storeHotListCache.refreshDirty();
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        Mockito.verify(mongoTemplate, Mockito.times(1)).findOne(any(Query.class), eq(Document.class), eq("stores"));
+        Mockito.verify(mongoTemplate, Mockito.times(2)).stream(queryCaptor.capture(), eq(Document.class), eq("stores"));
+        assertEquals(Set.of("MAPO"),
+            queryCaptor.getAllValues().get(1).getQueryObject().get("regionName", Document.class).get("$in"));
+        assertNotNull(storeHotListCache.get("MAPO", null, StoreDiscoverySort.RATING));
+        assertNotNull(storeHotListCache.get("GANGNAM", null, StoreDiscoverySort.RATING));
+    }
+}
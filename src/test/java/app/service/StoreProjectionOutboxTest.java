@@ -0,0 +1,90 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.domain.menu.cache.CategoryTree;
+import app.domain.menu.cache.CategoryTreeCache;
+import app.domain.menu.model.entity.Category;
+import app.domain.outbox.model.entity.OutboxEvent;
+import app.domain.outbox.model.repository.OutboxEventRepository;
+import app.domain.outbox.service.StoreProjectionOutbox;
+import app.domain.store.model.entity.Store;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreProjectionOutbox 테스트")
+class StoreProjectionOutboxTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private StoreProjectionOutbox storeProjectionOutbox;
+
+    private final UUID food = UUID.randomUUID();
+    private final UUID chicken = UUID.randomUUID();
+    private final UUID friedChicken = UUID.randomUUID();
+    private final UUID crispy = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        storeProjectionOutbox = new StoreProjectionOutbox(outboxEventRepository, objectMapper, categoryTreeCache);
+    }
+
+    @Test
+    @DisplayName("가게 수정 이벤트의 categoryKeys 는 부모를 따라가지 않고 카테고리 트리의 전체 경로로 채운다")
+    void storeUpdated_UsesCategoryTreePath() throws Exception {
+        CategoryTree tree = CategoryTree.of(List.of(
+            new CategoryTree.Node(food, "음식", null),
+            new CategoryTree.Node(chicken, "치킨", food),
+            new CategoryTree.Node(friedChicken, "후라이드 치킨", chicken),
+            new CategoryTree.Node(crispy, "크리스피", friedChicken)));
+        when(categoryTreeCache.get(crispy)).thenReturn(tree);
+        Category category = mock(Category.class);
+        when(category.getCategoryId()).thenReturn(crispy);
+        Store store = Store.builder().storeId(UUID.randomUUID()).storeName("교촌치킨").category(category).build();
+
+        storeProjectionOutbox.storeUpdated(store);
+
+        ArgumentCaptor<OutboxEvent> eventCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(eventCaptor.capture());
+        JsonNode payload = objectMapper.readTree(eventCaptor.getValue().getPayload());
+        assertEquals(List.of("음식", "치킨", "후라이드 치킨", "크리스피"),
+            objectMapper.convertValue(payload.get("categoryKeys"), List.class));
+        verify(category, never()).getParentCategory();
+    }
+
+    @Test
+    @DisplayName("카테고리가 없는 가게는 빈 categoryKeys 를 기록한다")
+    void storeUpdated_WithoutCategory() throws Exception {
+        Store store = Store.builder().storeId(UUID.randomUUID()).storeName("교촌치킨").build();
+
+        storeProjectionOutbox.storeUpdated(store);
+
+        ArgumentCaptor<OutboxEvent> eventCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(eventCaptor.capture());
+        assertEquals(0, objectMapper.readTree(eventCaptor.getValue().getPayload()).get("categoryKeys").size());
+        verify(categoryTreeCache, never()).get(any(UUID.class));
+    }
+}
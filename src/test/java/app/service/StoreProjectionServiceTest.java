@@ -0,0 +1,142 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.result.UpdateResult;
+
+import app.domain.mongo.StoreHotListCache;
+import app.domain.mongo.StoreProjectionService;
+import app.domain.outbox.model.entity.OutboxEventType;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreProjectionService 단위 테스트")
+class StoreProjectionServiceTest {
+
+    @InjectMocks
+    private StoreProjectionService storeProjectionService;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private StoreHotListCache storeHotListCache;
+
+    private final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    private final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+
+    @Test
+    @DisplayName("메뉴 수정은 arrayFilter 로 해당 메뉴 원소만 갱신한다")
+    void apply_MenuUpdated_ShouldSetMatchedMenuOnly() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq("stores")))
+            .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        storeProjectionService.apply("store-1", OutboxEventType.MENU_UPDATED, Map.of(
+            "menuId", "menu-1", "name", "후라이드", "price", 18000, "description", "바삭", "isHidden", false));
+
+        verify(mongoTemplate).updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq("stores"));
+        Document set = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+        assertEquals("후라이드", set.get("menus.$[m].name"));
+        assertEquals(18000, set.get("menus.$[m].price"));
+        assertEquals("menu-1", updateCaptor.getValue().getArrayFilters().get(0).asDocument().get("m.menuId"));
+        assertEquals("store-1", queryCaptor.getValue().getQueryObject().get("storeKey"));
+        verify(storeHotListCache).invalidate("store-1", false);
+    }
+
+    @Test
+    @DisplayName("메뉴 추가는 같은 메뉴가 없을 때만 push 한다")
+    void apply_MenuCreated_ShouldPushOnlyWhenAbsent() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq("stores")))
+            .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        storeProjectionService.apply("store-1", OutboxEventType.MENU_CREATED, Map.of(
+            "menuId", "menu-2", "name", "양념", "price", 19000L, "description", "달콤", "isHidden", false));
+
+        verify(mongoTemplate).updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq("stores"));
+        Document menuCriteria = queryCaptor.getValue().getQueryObject().get("menus.menuId", Document.class);
+        assertEquals("menu-2", menuCriteria.get("$ne"));
+        Document pushed = updateCaptor.getValue().getUpdateObject().get("$push", Document.class).get("menus", Document.class);
+        assertEquals(19000, pushed.get("price"));
+        verify(storeHotListCache, never()).invalidate(eq("store-1"), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("메뉴 삭제는 menus 배열에서 해당 메뉴만 제거한다")
+    void apply_MenuDeleted_ShouldPullMenu() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq("stores")))
+            .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        storeProjectionService.apply("store-1", OutboxEventType.MENU_DELETED, Map.of("menuId", "menu-3"));
+
+        verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq("stores"));
+        Document pull = updateCaptor.getValue().getUpdateObject().get("$pull", Document.class);
+        assertEquals(new Document("menuId", "menu-3"), pull.get("menus"));
+        assertEquals(List.of("$pull", "$unset", "$inc"), List.copyOf(updateCaptor.getValue().getUpdateObject().keySet()));
+    }
+
+    @Test
+    @DisplayName("메뉴 이벤트는 해당 메뉴의 updatedAt 과만 비교해, 다른 메뉴의 변경 순서와 상관없이 반영한다")
+    void apply_MenuEventWithUpdatedAt_ShouldGuardPerMenu() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq("stores")))
+            .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        storeProjectionService.apply("store-1", OutboxEventType.MENU_VISIBILITY_CHANGED, Map.of(
+            "menuId", "menu-1", "isHidden", true, "updatedAt", "2026-10-01T12:00:00.123456"));
+
+        verify(mongoTemplate).updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq("stores"));
+        Date updatedAt = Date.from(LocalDateTime.parse("2026-10-01T12:00:00.123456").atZone(ZoneId.systemDefault()).toInstant());
+        Document query = queryCaptor.getValue().getQueryObject();
+        Document menuGuard = query.get("menus", Document.class).get("$elemMatch", Document.class);
+        assertEquals("menu-1", menuGuard.get("menuId"));
+        List<?> guard = ((Document) menuGuard.get("$and", List.class).get(0)).get("$or", List.class);
+        assertEquals(new Document("updatedAt", new Document("$exists", false)), guard.get(0));
+        assertEquals(new Document("updatedAt", new Document("$lte", updatedAt)), guard.get(1));
+        assertNull(query.get("$or"));
+        Document updateObject = updateCaptor.getValue().getUpdateObject();
+        assertEquals(updatedAt, updateObject.get("$set", Document.class).get("menus.$[m].updatedAt"));
+        assertEquals(updatedAt, updateObject.get("$max", Document.class).get("updatedAt"));
+        verify(storeHotListCache, never()).invalidate(eq("store-1"), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("가게 이벤트는 메뉴 변경과 별도인 storeUpdatedAt 과 비교한다")
+    void apply_StoreEventWithUpdatedAt_ShouldGuardStoreFields() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq("stores")))
+            .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        storeProjectionService.apply("store-1", OutboxEventType.STORE_STATUS_CHANGED, Map.of(
+            "storeAcceptStatus", "APPROVE", "isActive", true, "updatedAt", "2026-10-01T12:00:00"));
+
+        verify(mongoTemplate).updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq("stores"));
+        Date updatedAt = Date.from(LocalDateTime.parse("2026-10-01T12:00:00").atZone(ZoneId.systemDefault()).toInstant());
+        List<?> guard = queryCaptor.getValue().getQueryObject().get("$or", List.class);
+        assertEquals(new Document("storeUpdatedAt", new Document("$exists", false)), guard.get(0));
+        assertEquals(new Document("storeUpdatedAt", new Document("$lte", updatedAt)), guard.get(1));
+        assertEquals(updatedAt, updateCaptor.getValue().getUpdateObject().get("$set", Document.class).get("storeUpdatedAt"));
+        verify(storeHotListCache).invalidate("store-1", true);
+    }
+}
@@ -0,0 +1,31 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import app.domain.mongo.StoreSearchTokens;
+
+@DisplayName("StoreSearchTokens 테스트")
+class StoreSearchTokensTest {
+
+    @Test
+    @DisplayName("저장 토큰에는 한글 음절 1-gram 이 들어가 한 글자 검색어와 일치한다")
+    void of_IndexesHangulUnigrams() {
+        List<String> indexed = StoreSearchTokens.of("교촌치킨", List.of("닭요리"), List.of("회덮밥", "Pizza"));
+
+        assertThat(StoreSearchTokens.query("닭")).containsExactly("닭");
+        assertThat(indexed).contains("닭", "회", "치킨", "교촌치킨", "pizza", "pi");
+        assertThat(indexed).doesNotContain("p", "z");
+    }
+
+    @Test
+    @DisplayName("검색어는 1-gram 으로 나누지 않는다")
+    void query_DoesNotSplitIntoUnigrams() {
+        assertThat(StoreSearchTokens.query("치킨")).containsExactly("치킨");
+        assertThat(StoreSearchTokens.query("교촌 치킨")).containsExactly("교촌", "치킨");
+    }
+}
@@ -5,8 +5,11 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import app.commonUtil.apiPayload.ApiResponse;
 import app.commonUtil.apiPayload.exception.GeneralException;
@@ -25,9 +29,11 @@ import app.domain.menu.model.entity.Menu;
 import app.domain.menu.model.repository.CategoryRepository;
 import app.domain.menu.model.repository.MenuRepository;
 import app.domain.store.service.StoreService;
+import app.domain.outbox.service.StoreProjectionOutbox;
 import app.domain.store.client.OrderClient;
 import app.domain.store.client.ReviewClient;
 import app.domain.store.client.UserClient;
+import app.domain.store.client.UserNameResolver;
 import app.domain.store.model.dto.request.StoreApproveRequest;
 import app.domain.store.model.dto.request.StoreInfoUpdateRequest;
 import app.domain.store.model.dto.response.*;
@@ -59,6 +65,10 @@ class StoreServiceTest {
     private ReviewClient reviewClient;
     @Mock
     private UserClient userClient;
+    @Mock
+    private UserNameResolver userNameResolver;
+    @Mock
+    private StoreProjectionOutbox storeProjectionOutbox;
 
     private Long testUserId;
     private Long otherUserId;
@@ -153,6 +163,7 @@ class StoreServiceTest {
         assertEquals(testStoreId, response.getStoreId());
         verify(storeRepository).findById(testStoreId);
         verify(storeRepository).save(any(Store.class));
+        verify(storeProjectionOutbox).storeUpdated(mockStore);
         assertEquals("Updated Name", mockStore.getStoreName());
         assertEquals("Updated Address", mockStore.getAddress());
     }
@@ -226,20 +237,66 @@ class StoreServiceTest {
         UUID orderId = UUID.randomUUID();
         StoreOrderInfo orderInfo = new StoreOrderInfo(orderId, UUID.randomUUID(), testUserId,25000L, "PENDING", LocalDateTime.now());
         when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
-        when(orderClient.getOrdersByStoreId(testStoreId)).thenReturn(new ApiResponse<>(true, "200", "OK", List.of(orderInfo)));
-        when(userClient.getUserName()).thenReturn(new ApiResponse<>(true, "200", "OK", "Customer Name"));
+        when(orderClient.getOrdersByStoreId(testStoreId, 0L, 21)).thenReturn(new ApiResponse<>(true, "200", "OK", List.of(orderInfo)));
+        when(userNameResolver.resolve(Set.of(testUserId))).thenReturn(Map.of(testUserId, "Customer Name"));
 
         // when
-        StoreOrderListResponse response = storeService.getStoreOrderList(testStoreId, testUserId);
+        StoreOrderListResponse response = storeService.getStoreOrderList(testStoreId, testUserId, PageRequest.of(0, 20));
 
         // then
         assertNotNull(response);
         assertEquals(1, response.getOrderList().size());
         assertEquals(orderId, response.getOrderList().get(0).getOrderId());
         assertEquals("Customer Name", response.getOrderList().get(0).getCustomerName());
+        assertFalse(response.isHasNext());
         verify(storeRepository).findById(testStoreId);
-        verify(orderClient).getOrdersByStoreId(testStoreId);
-        verify(userClient).getUserName();
+        verify(orderClient).getOrdersByStoreId(testStoreId, 0L, 21);
+        verify(userNameResolver).resolve(Set.of(testUserId));
+    }
+
+    @Test
+    @DisplayName("가게 주문 목록 조회 - 고객 이름은 중복 없이 한 번에 조회")
+    void getStoreOrderList_ResolvesDistinctCustomersOnce() {
+        // given
+        List<StoreOrderInfo> orders = List.of(
+            new StoreOrderInfo(UUID.randomUUID(), testStoreId, 10L, 1000L, "PENDING", LocalDateTime.now()),
+            new StoreOrderInfo(UUID.randomUUID(), testStoreId, 11L, 2000L, "PENDING", LocalDateTime.now()),
+            new StoreOrderInfo(UUID.randomUUID(), testStoreId, 10L, 3000L, "PENDING", LocalDateTime.now()));
+        when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
+        when(orderClient.getOrdersByStoreId(testStoreId, 0L, 3)).thenReturn(new ApiResponse<>(true, "200", "OK", orders));
+        when(userNameResolver.resolve(Set.of(10L, 11L))).thenReturn(Map.of(10L, "고객1", 11L, "고객2"));
+
+        // when
+        StoreOrderListResponse response = storeService.getStoreOrderList(testStoreId, testUserId, PageRequest.of(0, 2));
+
+        // then
+        assertEquals(2, response.getOrderList().size());
+        assertTrue(response.isHasNext());
+        assertEquals("고객1", response.getOrderList().get(0).getCustomerName());
+        assertEquals("고객2", response.getOrderList().get(1).getCustomerName());
+        verify(userNameResolver).resolve(Set.of(10L, 11L));
+    }
+
+    @Test
+    @DisplayName("가게 주문 목록 조회 - 주문 서비스가 전체 목록을 주면 offset 부터 잘라 쓰고, 페이지 크기는 상한으로 제한")
+    void getStoreOrderList_SlicesFullListAndCapsSize() {
+        // given
+        List<StoreOrderInfo> orders = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            orders.add(new StoreOrderInfo(UUID.randomUUID(), testStoreId, 10L, 1000L, "PENDING", LocalDateTime.now()));
+        }
+        when(storeRepository.findById(testStoreId)).thenReturn(Optional.of(mockStore));
+        when(orderClient.getOrdersByStoreId(testStoreId, 100L, 101)).thenReturn(new ApiResponse<>(true, "200", "OK", orders));
+        when(userNameResolver.resolve(Set.of(10L))).thenReturn(Map.of(10L, "고객1"));
+
+        // when
+        StoreOrderListResponse response = storeService.getStoreOrderList(testStoreId, testUserId, PageRequest.of(1, 500));
+
+        // then
+        assertEquals(100, response.getOrderList().size());
+        assertEquals(orders.get(100).getOrderId(), response.getOrderList().get(0).getOrderId());
+        assertTrue(response.isHasNext());
+        verify(orderClient).getOrdersByStoreId(testStoreId, 100L, 101);
     }
 
     // --- acceptOrder Tests ---
@@ -0,0 +1,83 @@
+package app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+
+import app.domain.mongo.StoreSnapshotExporter;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreSnapshotExporter 테스트")
+class StoreSnapshotExporterTest {
+
+    @InjectMocks
+    private StoreSnapshotExporter storeSnapshotExporter;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoCollection<Document> collection;
+
+    @Mock
+    private FindIterable<Document> findIterable;
+
+    @Mock
+    private MongoCursor<Document> cursor;
+
+    @Test
+    @DisplayName("커서로 읽은 문서를 한 줄씩 gzip NDJSON 으로 쓴다")
+    void export_ShouldWriteGzipNdjson() throws Exception {
+        ReflectionTestUtils.setField(storeSnapshotExporter, "batchSize", 2);
+        when(mongoTemplate.getCollection("stores")).thenReturn(collection);
+        when(collection.find()).thenReturn(findIterable);
+        when(findIterable.projection(any(Bson.class))).thenReturn(findIterable);
+        when(findIterable.sort(any(Bson.class))).thenReturn(findIterable);
+        when(findIterable.batchSize(anyInt())).thenReturn(findIterable);
+        when(findIterable.cursor()).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn(
+            new Document("storeKey", "store-1").append("storeName", "치킨집"),
+            new Document("storeKey", "store-2").append("storeName", "피자집"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = storeSnapshotExporter.export(out);
+
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())), StandardCharsets.UTF_8))) {
+            lines = reader.lines().toList();
+        }
+        assertEquals(2, exported);
+        assertEquals(2, lines.size());
+        assertEquals("store-1", Document.parse(lines.get(0)).getString("storeKey"));
+        assertEquals("피자집", Document.parse(lines.get(1)).getString("storeName"));
+        verify(findIterable).batchSize(2);
+        verify(cursor).close();
+    }
+}
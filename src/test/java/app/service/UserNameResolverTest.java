@@ -0,0 +1,65 @@
+package app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import app.commonUtil.apiPayload.ApiResponse;
+import app.domain.store.client.UserClient;
+import app.domain.store.client.UserNameResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserNameResolver 테스트")
+class UserNameResolverTest {
+
+    @Mock
+    private UserClient userClient;
+
+    private UserNameResolver userNameResolver;
+
+    @BeforeEach
+    void setUp() {
+        userNameResolver = new UserNameResolver(userClient, new SimpleMeterRegistry(), 600, 1000, 1);
+    }
+
+    @Test
+    @DisplayName("사용자 서비스가 실패한 묶음은 이름 없이 응답하고 나머지 묶음의 이름은 돌려준다")
+    void resolve_SkipsFailedChunk() {
+        when(userClient.getUserNames(List.of(1L)))
+            .thenReturn(new ApiResponse<>(true, "200", "OK", List.of(new UserClient.UserNameResponse(1L, "고객1"))));
+        when(userClient.getUserNames(List.of(2L)))
+            .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        Map<Long, String> names = userNameResolver.resolve(List.of(1L, 2L));
+
+        assertThat(names).containsExactly(Map.entry(1L, "고객1"));
+    }
+
+    @Test
+    @DisplayName("조회에 실패한 userId 는 캐시하지 않아 다음 조회에서 다시 묻는다")
+    void resolve_RetriesAfterFailure() {
+        when(userClient.getUserNames(List.of(2L)))
+            .thenThrow(new ResourceAccessException("timeout"))
+            .thenReturn(new ApiResponse<>(true, "200", "OK", List.of(new UserClient.UserNameResponse(2L, "고객2"))));
+
+        assertThat(userNameResolver.resolve(List.of(2L))).isEmpty();
+        assertThat(userNameResolver.resolve(List.of(2L))).containsExactly(Map.entry(2L, "고객2"));
+
+        verify(userClient, times(2)).getUserNames(List.of(2L));
+    }
+}